@@ -0,0 +1,90 @@
+package org.example.springbootdeveloper;
+
+import org.example.springbootdeveloper.domain.Article;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크 공통 도구
+// - 웹 서버 없이 (WebApplicationType.NONE) 애플리케이션 컨텍스트를 띄워 서비스 / 템플릿 엔진 빈을 그대로 사용
+// - 필터 체인처럼 서블릿 환경이 필요한 측정은 startWeb() 으로 임의 포트에 서버를 띄움
+// - 측정에 섞이지 않도록 SQL 로그는 끔
+
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(SpringBootDeveloperApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args(properties));
+    }
+
+    // startWeb() : 서블릿 웹 애플리케이션으로 시작 (스프링 시큐리티 필터 체인 측정용), 임의 포트를 사용함
+    // configurations 로 벤치마크에서만 쓰는 설정(비교용 필터 체인 등)을 함께 등록할 수 있음
+    public static ConfigurableApplicationContext startWeb(Class<?>[] configurations, String... properties) {
+        List<String> args = new ArrayList<>(List.of(properties));
+        args.add("server.port=0");
+
+        return new SpringApplicationBuilder(SpringBootDeveloperApplication.class)
+                .sources(configurations)
+                .web(WebApplicationType.SERVLET)
+                .run(args(args.toArray(String[]::new)));
+    }
+
+    private static String[] args(String... properties) {
+        // application.yml 보다 우선하도록 명령행 인자(--key=value)로 전달
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=warn",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.properties.hibernate.use_sql_comments=false"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return args.toArray(String[]::new);
+    }
+
+    // 저장하기 전의 새 글 목록, 본문은 contentLength 글자
+    public static List<Article> newArticles(int count, int contentLength) {
+        String content = "블로그 글 본문입니다. ".repeat(contentLength / 13 + 1).substring(0, contentLength);
+
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            articles.add(Article.builder()
+                    .title("제목 " + i)
+                    .content(content)
+                    .build());
+        }
+        return articles;
+    }
+
+    // DB 에 저장하지 않고 id / 생성 시간 / 수정 시간을 직접 채운 글 목록 (변환 / 렌더링 측정용)
+    public static List<Article> articles(int count, int contentLength) {
+        List<Article> articles = newArticles(count, contentLength);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < count; i++) {
+            Article article = articles.get(i);
+            setField(article, "id", (long) i + 1);
+            setField(article, "createdAt", now.minusMinutes(i));
+            setField(article, "updatedAt", now.minusMinutes(i));
+        }
+        return articles;
+    }
+
+    private static void setField(Article article, String name, Object value) {
+        Field field = ReflectionUtils.findField(Article.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, article, value);
+    }
+}
@@ -0,0 +1,230 @@
+package org.example.springbootdeveloper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 시작 시간 벤치마크 : 애플리케이션을 별도 JVM 으로 여러 번 띄워 실행 모드별로
+// - JVM 시작 ~ 준비 완료 시간 (스프링 부트 시작 로그의 'process running for', JVM 이 시작된 시점부터 ApplicationReadyEvent 까지)
+// - 프로세스 실행 ~ 준비 완료 시간 (벤치마크가 프로세스를 실행한 시점부터 시작 로그가 나올 때까지, JVM 자체의 시작 포함)
+// - 첫 요청 지연 시간 (준비된 직후 GET /api/articles/1, 지연 초기화된 빈 / 아직 로드하지 않은 클래스가 모두 이 요청에 포함됨)
+// 의 중앙값을 출력함 (JMH 로는 프로세스 시작을 측정할 수 없으므로 직접 실행)
+//
+// ./gradlew startupBenchmark : default / startup 프로필 / + AOT / + AOT + AppCDS 비교
+// ./gradlew cdsArchive       : 'train' 으로 실행, AOT + startup 프로필로 한 번 띄우고 요청을 보낸 뒤 종료하면서 읽은 클래스를 AppCDS 아카이브로 저장
+//
+// 시스템 속성 (build.gradle 에서 지정)
+// - startup.classpath : 애플리케이션 클래스패스 (AppCDS 는 jar 에서 읽은 클래스만 저장하므로 jar 로만 구성하고, 학습 / 측정에 같은 값을 사용해야 함)
+// - startup.cds-archive : AppCDS 아카이브 파일
+// - startup.runs : 모드별 실행 횟수 (기본 5)
+
+public class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "org.example.springbootdeveloper.SpringBootDeveloperApplication";
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([\\d.,]+) seconds \\(process running for ([\\d.,]+)\\)");
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    private static final List<String> STARTUP = List.of("-Dspring.profiles.active=startup");
+    private static final List<String> STARTUP_AOT = List.of("-Dspring.profiles.active=startup", "-Dspring.aot.enabled=true");
+
+    private final String classpath;
+    private final Path cdsArchive;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    public StartupBenchmark(String classpath, Path cdsArchive) {
+        this.classpath = classpath;
+        this.cdsArchive = cdsArchive;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmark benchmark = new StartupBenchmark(System.getProperty("startup.classpath"),
+                Path.of(System.getProperty("startup.cds-archive")));
+
+        if (args.length > 0 && args[0].equals("train")) {
+            benchmark.train();
+        } else {
+            benchmark.measure(Integer.getInteger("startup.runs", 5));
+        }
+    }
+
+    // train() : AppCDS 학습 실행, 준비된 뒤 몇 가지 요청까지 처리해 요청 처리에 필요한 클래스도 아카이브에 넣음
+    // 정상 종료(SIGTERM)할 때 JVM 이 그때까지 로드한 클래스를 -XX:ArchiveClassesAtExit 파일로 저장함
+    public void train() throws Exception {
+        Files.deleteIfExists(cdsArchive);
+        Files.createDirectories(cdsArchive.toAbsolutePath().getParent());
+
+        List<String> jvmArgs = new ArrayList<>(STARTUP_AOT);
+        jvmArgs.add("-XX:ArchiveClassesAtExit=" + cdsArchive.toAbsolutePath());
+
+        Run run = start(jvmArgs);
+        try {
+            for (String path : List.of("/api/articles/1", "/api/articles", "/articles", "/articles/1", "/login")) {
+                get(run.port, path);
+            }
+        } finally {
+            run.stop();
+        }
+
+        if (!Files.exists(cdsArchive)) {
+            throw new IllegalStateException("AppCDS archive was not created: " + cdsArchive);
+        }
+        System.out.printf("AppCDS archive : %s (%d KB)%n", cdsArchive, Files.size(cdsArchive) / 1024);
+    }
+
+    // measure() : 모드마다 runs 번씩 새 JVM 으로 띄워 중앙값을 출력
+    public void measure(int runs) throws Exception {
+        List<Mode> modes = new ArrayList<>(List.of(
+                new Mode("default", List.of()),
+                new Mode("startup", STARTUP),
+                new Mode("startup + aot", STARTUP_AOT)));
+        if (Files.exists(cdsArchive)) {
+            List<String> jvmArgs = new ArrayList<>(STARTUP_AOT);
+            jvmArgs.add("-XX:SharedArchiveFile=" + cdsArchive.toAbsolutePath());
+            modes.add(new Mode("startup + aot + cds", jvmArgs));
+        } else {
+            System.out.println("AppCDS archive not found (./gradlew cdsArchive), skipping 'startup + aot + cds'");
+        }
+
+        System.out.printf("%-22s %22s %20s %18s%n", "mode", "jvm-start-to-ready(ms)", "launch-to-ready(ms)", "first-request(ms)");
+        for (Mode mode : modes) {
+            long[] jvmToReady = new long[runs];
+            long[] launchToReady = new long[runs];
+            long[] firstRequest = new long[runs];
+
+            for (int i = 0; i < runs; i++) {
+                Run run = start(mode.jvmArgs);
+                try {
+                    long start = System.nanoTime();
+                    get(run.port, "/api/articles/1");
+                    firstRequest[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                } finally {
+                    run.stop();
+                }
+                jvmToReady[i] = run.jvmToReadyMillis;
+                launchToReady[i] = run.launchToReadyMillis;
+            }
+
+            System.out.printf("%-22s %22d %20d %18d%n", mode.name, median(jvmToReady), median(launchToReady), median(firstRequest));
+        }
+    }
+
+    // start() : 애플리케이션을 새 JVM 으로 실행하고 시작 로그('Started ...')가 나올 때까지 기다림
+    private Run start(List<String> jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-cp", classpath, MAIN_CLASS, "--server.port=" + port));
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .start();
+
+        CompletableFuture<Double> ready = new CompletableFuture<>();
+        Thread reader = new Thread(() -> readOutput(process, ready), "startup-benchmark-output");
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            double jvmToReadySeconds = ready.get(START_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            long launchToReady = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launched);
+            return new Run(process, port, Math.round(jvmToReadySeconds * 1000), launchToReady);
+        } catch (Exception e) {
+            process.destroyForcibly();
+            throw e;
+        }
+    }
+
+    // 프로세스 출력이 가득 차서 애플리케이션이 멈추지 않도록 끝까지 읽으면서 시작 로그를 찾음
+    private static void readOutput(Process process, CompletableFuture<Double> ready) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (!ready.isDone() && matcher.find()) {
+                    ready.complete(Double.parseDouble(matcher.group(2).replace(',', '.')));
+                }
+            }
+        } catch (IOException e) {
+            ready.completeExceptionally(e);
+        }
+        if (!ready.isDone()) {
+            ready.completeExceptionally(new IllegalStateException("application exited before it was ready (exit code " + process.onExit().join().exitValue() + ")"));
+        }
+    }
+
+    private void get(int port, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofMinutes(1))
+                .build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status >= 500) {
+            throw new IllegalStateException("GET " + path + " returned " + status);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static final class Mode {
+
+        private final String name;
+        private final List<String> jvmArgs;
+
+        private Mode(String name, List<String> jvmArgs) {
+            this.name = name;
+            this.jvmArgs = jvmArgs;
+        }
+    }
+
+    private static final class Run {
+
+        private final Process process;
+        private final int port;
+        private final long jvmToReadyMillis;
+        private final long launchToReadyMillis;
+
+        private Run(Process process, int port, long jvmToReadyMillis, long launchToReadyMillis) {
+            this.process = process;
+            this.port = port;
+            this.jvmToReadyMillis = jvmToReadyMillis;
+            this.launchToReadyMillis = launchToReadyMillis;
+        }
+
+        // SIGTERM 으로 정상 종료 (종료 훅 / @PreDestroy 와 AppCDS 아카이브 저장이 실행되도록)
+        private void stop() throws InterruptedException {
+            process.destroy();
+            if (!process.waitFor(1, TimeUnit.MINUTES)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
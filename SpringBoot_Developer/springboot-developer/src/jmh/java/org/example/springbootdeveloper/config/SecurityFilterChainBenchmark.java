@@ -0,0 +1,141 @@
+package org.example.springbootdeveloper.config;
+
+import jakarta.servlet.FilterChain;
+import org.example.springbootdeveloper.BenchmarkApplication;
+import org.example.springbootdeveloper.config.jwt.TokenProvider;
+import org.example.springbootdeveloper.domain.User;
+import org.example.springbootdeveloper.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
+// 요청 하나가 스프링 시큐리티 필터 체인(FilterChainProxy)을 통과하는 비용 (컨트롤러는 호출하지 않음)
+// - session : 변경 전 기본 설정 (스프링 부트 기본 체인 : 폼 로그인 + Basic + HTTP 세션), 로그인한 세션으로 요청
+//             비교를 위해 /session/** 에만 같은 체인을 등록해서 측정함
+// - jwt     : 토큰 인증 체인, 'Authorization: Bearer <액세스 토큰>' 으로 글 작성 요청 (서명 검증만, DB / 세션 없음)
+// - public  : 공개 조회 체인, 인증 없이 글 조회 요청 (토큰 검증 필터 없음)
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityFilterChainBenchmark {
+
+    private static final FilterChain CONTROLLER = (request, response) -> { };  // 필터 체인을 통과하면 아무것도 하지 않음
+    private static final MockServletContext SERVLET_CONTEXT = new MockServletContext();  // 요청마다 만들면 그 비용이 측정을 덮어버림
+
+    @Param({"session", "jwt", "public"})
+    String chain;
+
+    private ConfigurableApplicationContext context;
+    private FilterChainProxy filterChainProxy;
+    private MockHttpSession session;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.startWeb(new Class<?>[]{SessionChainConfig.class});
+        filterChainProxy = context.getBean("springSecurityFilterChain", FilterChainProxy.class);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .email("benchmark@example.com")
+                .password("password")
+                .build());
+        accessToken = context.getBean(TokenProvider.class).generateAccessToken(user);
+
+        // 폼 로그인 후 세션에 저장되는 것과 같은 인증 정보
+        session = new MockHttpSession(SERVLET_CONTEXT);
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities())));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int filterChain() throws Exception {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filterChainProxy.doFilter(request, response, CONTROLLER);
+        return response.getStatus();
+    }
+
+    // 세 경우 모두 인증 / 인가를 통과해서 컨트롤러까지 도달해야 함 (401 이면 측정 대상이 아님)
+    @Setup
+    public void verify() throws Exception {
+        int status = filterChain();
+        if (status != 200) {
+            throw new IllegalStateException(chain + " request was rejected: " + status);
+        }
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = switch (chain) {
+            case "session" -> {
+                MockHttpServletRequest get = new MockHttpServletRequest(SERVLET_CONTEXT, "GET", "/session/api/articles/1");
+                get.setSession(session);
+                yield get;
+            }
+            case "jwt" -> {
+                MockHttpServletRequest post = new MockHttpServletRequest(SERVLET_CONTEXT, "POST", "/api/articles");
+                post.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+                yield post;
+            }
+            default -> new MockHttpServletRequest(SERVLET_CONTEXT, "GET", "/api/articles/1");
+        };
+        // DispatcherServlet 이 "/" 에 매핑되어 있으므로 서블릿 경로가 요청 경로 전체가 됨 (요청 매처는 서블릿 경로로 비교함)
+        request.setServletPath(request.getRequestURI());
+        return request;
+    }
+
+    // 변경 전 기본 체인 (SpringBootWebSecurityConfiguration 과 같은 설정)
+    @Configuration
+    static class SessionChainConfig {
+
+        @Bean
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        SecurityFilterChain sessionFilterChain(HttpSecurity http) throws Exception {
+            return http
+                    .securityMatcher(antMatcher("/session/**"))
+                    .authorizeHttpRequests(authorize -> authorize.anyRequest().authenticated())
+                    .formLogin(Customizer.withDefaults())
+                    .httpBasic(Customizer.withDefaults())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.springbootdeveloper.controller;
+
+import org.example.springbootdeveloper.BenchmarkApplication;
+import org.example.springbootdeveloper.dto.ArticleListViewResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 글 목록 화면 (articleList.html) 의 Thymeleaf 렌더링 비용
+// 템플릿 캐시가 켜진 상태 (애플리케이션 기본값) 에서 목록 크기(rows)에 따른 렌더링 시간만 측정함
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleListViewBenchmark {
+
+    @Param({"5", "20", "100"})
+    int rows;
+
+    private ConfigurableApplicationContext context;
+    private SpringTemplateEngine templateEngine;
+    private WebContext webContext;
+    private StringWriter writer;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        templateEngine = context.getBean(SpringTemplateEngine.class);
+
+        List<ArticleListViewResponse> articles = BenchmarkApplication.articles(rows, 200).stream()
+                .map(ArticleListViewResponse::new)
+                .toList();
+
+        // 링크 표현식(@{...})은 요청 정보가 필요하므로 목(mock) 요청으로 웹 컨텍스트를 만듬
+        MockServletContext servletContext = new MockServletContext();
+        JakartaServletWebApplication application = JakartaServletWebApplication.buildApplication(servletContext);
+        webContext = new WebContext(
+                application.buildExchange(new MockHttpServletRequest(servletContext, "GET", "/articles"), new MockHttpServletResponse()),
+                Locale.KOREA,
+                Map.of("articles", articles, "nextCursor", "next-cursor"));
+        writer = new StringWriter(64 * 1024);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int renderArticleList() {
+        writer.getBuffer().setLength(0);
+        templateEngine.process("articleList", webContext, writer);
+        return writer.getBuffer().length();
+    }
+}
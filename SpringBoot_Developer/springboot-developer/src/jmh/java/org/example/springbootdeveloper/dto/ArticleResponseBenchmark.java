@@ -0,0 +1,66 @@
+package org.example.springbootdeveloper.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springbootdeveloper.BenchmarkApplication;
+import org.example.springbootdeveloper.domain.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 DTO 변환 (엔티티 -> ArticleResponse / ArticleListViewResponse) 과 글 목록 JSON 직렬화 비용
+// 글 수(size)를 바꿔가며 목록 크기에 따라 비용이 어떻게 늘어나는지 확인함
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleResponseBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int size;
+
+    private List<Article> articles;
+    private List<ArticleResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        articles = BenchmarkApplication.articles(size, 500);
+        responses = toArticleResponses();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();  // 애플리케이션과 같은 기본 설정 (JavaTimeModule 등)
+    }
+
+    @Benchmark
+    public List<ArticleResponse> toArticleResponses() {
+        return articles.stream()
+                .map(ArticleResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> toArticleListViewResponses() {
+        return articles.stream()
+                .map(ArticleListViewResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeArticleResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
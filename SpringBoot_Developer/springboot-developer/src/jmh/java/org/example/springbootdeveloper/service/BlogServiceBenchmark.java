@@ -0,0 +1,78 @@
+package org.example.springbootdeveloper.service;
+
+import org.example.springbootdeveloper.BenchmarkApplication;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.dto.CursorPage;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// BlogService 조회 경로를 내장 H2 에 대해 측정
+// cacheEnabled 로 ArticleCache 를 켜고 끈 경우를 비교함 (false 면 매번 JPA / H2 조회)
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlogServiceBenchmark {
+
+    private static final int ARTICLES = 1000;
+
+    @Param({"true", "false"})
+    boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private long[] ids;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("blog.cache.enabled=" + cacheEnabled);
+        blogService = context.getBean(BlogService.class);
+
+        BlogRepository blogRepository = context.getBean(BlogRepository.class);
+        blogRepository.deleteAll();
+        List<Article> saved = blogRepository.saveAll(BenchmarkApplication.newArticles(ARTICLES, 200));  // content 컬럼 길이(255) 안으로
+        ids = saved.stream().mapToLong(Article::getId).toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Article findById() {
+        return blogService.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    // 글 전체(ARTICLES 개)를 엔티티로 조회
+    @Benchmark
+    public List<Article> findAll() {
+        return blogService.findAll();
+    }
+
+    // 목록 첫 페이지 (요약 프로젝션, 기본 페이지 크기)
+    @Benchmark
+    public CursorPage<ArticleSummary> findFirstPage() {
+        return blogService.findPage(null, null);
+    }
+}
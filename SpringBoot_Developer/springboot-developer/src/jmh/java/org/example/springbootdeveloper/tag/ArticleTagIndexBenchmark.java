@@ -0,0 +1,77 @@
+package org.example.springbootdeveloper.tag;
+
+import org.example.springbootdeveloper.BenchmarkApplication;
+import org.example.springbootdeveloper.domain.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 태그 색인으로 여러 태그를 AND / OR 해서 첫 페이지(20개)의 글 id 를 구하는 비용
+// 글 수(size)를 바꿔가며 많이 쓰는 태그(popular, 절반 / 3분의 1의 글)와 드문 태그(rare, 1%)를 조합해 측정함
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleTagIndexBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "1000000"})
+    int size;
+
+    private ArticleTagIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Article> articles = BenchmarkApplication.articles(size, 10);
+
+        for (Article article : articles) {
+            List<String> tags = new ArrayList<>();
+            if (random.nextInt(2) == 0) {
+                tags.add("popular-a");
+            }
+            if (random.nextInt(3) == 0) {
+                tags.add("popular-b");
+            }
+            if (random.nextInt(100) == 0) {
+                tags.add("rare");
+            }
+            article.updateTags(tags);
+        }
+
+        index = new ArticleTagIndex();
+        index.rebuild(articles.stream());
+    }
+
+    @Benchmark
+    public List<Long> andPopular() {
+        return index.findBefore(List.of("popular-a", "popular-b"), ArticleTagIndex.Mode.AND, Long.MAX_VALUE, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public List<Long> orPopular() {
+        return index.findBefore(List.of("popular-a", "popular-b"), ArticleTagIndex.Mode.OR, Long.MAX_VALUE, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public List<Long> andPopularAndRare() {
+        return index.findBefore(List.of("popular-a", "popular-b", "rare"), ArticleTagIndex.Mode.AND, Long.MAX_VALUE, PAGE_SIZE + 1);
+    }
+}
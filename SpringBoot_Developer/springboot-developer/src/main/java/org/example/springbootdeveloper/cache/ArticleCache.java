@@ -0,0 +1,154 @@
+package org.example.springbootdeveloper.cache;
+
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.ArticleListVersion;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.dto.CursorPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// BlogService 앞에 두는 글 캐시
+// - articles : 글 id -> Article (findById)
+// - pages    : "cursor:size" -> 목록 한 페이지 (findPage)
+// - listVersion : 목록 전체의 검증자 (글 수, 최근 수정 시간), 목록 ETag 계산용
+// 글이 추가 / 수정 / 삭제되면 해당 글과 목록 페이지 전체를 무효화함 (수정된 글은 커밋 후 최신 값으로 다시 채움)
+// 이때 렌더링된 HTML 캐시(RenderedPageCache)의 해당 글 / 목록 화면도 함께 무효화함
+// 읽기 / 쓰기 DataSource 를 나눈 경우 글이 바뀐 뒤 복제 지연 동안에는 replica 에서 읽은 값을 캐시에 넣지 않음 (RecentWrites)
+// blog.cache.enabled=false 이면 캐시를 거치지 않고 항상 DB 를 조회함
+
+@Component
+public class ArticleCache {
+
+    private final boolean enabled;
+    private final LocalCache<Long, Article> articles;
+    private final LocalCache<String, CursorPage<ArticleSummary>> pages;
+    private final LocalCache<String, ArticleListVersion> listVersion;
+    private final RenderedPageCache renderedPages;
+    private final RecentWrites recentWrites;
+
+    public ArticleCache(RenderedPageCache renderedPages,
+                        RecentWrites recentWrites,
+                        @Value("${blog.cache.enabled:true}") boolean enabled,
+                        @Value("${blog.cache.article.maximum-size:10000}") int articleMaximumSize,
+                        @Value("${blog.cache.article.ttl:10m}") Duration articleTtl,
+                        @Value("${blog.cache.page.maximum-size:1000}") int pageMaximumSize,
+                        @Value("${blog.cache.page.ttl:30s}") Duration pageTtl) {
+        this.renderedPages = renderedPages;
+        this.recentWrites = recentWrites;
+        this.enabled = enabled;
+        this.articles = new LocalCache<>("articles", articleMaximumSize, articleTtl);
+        this.pages = new LocalCache<>("articlePages", pageMaximumSize, pageTtl);
+        this.listVersion = new LocalCache<>("articleListVersion", 1, pageTtl);
+    }
+
+    public Article getArticle(long id, Supplier<Article> loader) {
+        return enabled ? articles.get(id, loader, recentWrites.canFill()) : loader.get();
+    }
+
+    // getArticles() : 여러 글을 한 번에 조회 (캐시에 없는 id 만 모아 loader 를 한 번 호출함), 없는 글은 결과에 없음
+    public Map<Long, Article> getArticles(Collection<Long> ids, Function<List<Long>, Map<Long, Article>> loader) {
+        return enabled ? articles.getAll(ids, loader, recentWrites.canFill()) : loader.apply(new ArrayList<>(ids));
+    }
+
+    public CursorPage<ArticleSummary> getPage(String cursor, int size, Supplier<CursorPage<ArticleSummary>> loader) {
+        return enabled ? pages.get(cursor + ":" + size, loader, recentWrites.canFill()) : loader.get();
+    }
+
+    public ArticleListVersion getListVersion(Supplier<ArticleListVersion> loader) {
+        return enabled ? listVersion.get("all", loader, recentWrites.canFill()) : loader.get();
+    }
+
+    // refreshArticle() : 글이 수정되었을 때 호출
+    // 커밋 전에는 무효화만 하고, 커밋 후에는 수정된 글로 캐시를 채워둠
+    // DB 에 따라 (예: H2 MVStore) 커밋 직후 다른 연결에서 잠시 이전 값이 읽힐 수 있는데,
+    // 캐시에 최신 값이 먼저 들어가 있으면 그런 로딩 결과가 캐시를 덮어쓰지 못함
+    public void refreshArticle(Article article) {
+        long id = article.getId();
+
+        recentWrites.mark();
+        articles.invalidate(id);
+        renderedPages.invalidateArticle(id);
+        evictLists();
+
+        afterCommit(() -> {
+            recentWrites.mark();
+            articles.refresh(id, article);
+            renderedPages.invalidateArticle(id);
+            evictLists();
+        });
+    }
+
+    // evictArticle() : 글이 삭제되었을 때 호출
+    // 목록 페이지에도 해당 글이 포함되어 있을 수 있으므로 페이지 캐시도 함께 비움
+    public void evictArticle(long id) {
+        runNowAndAfterCommit(() -> {
+            articles.invalidate(id);
+            renderedPages.invalidateArticle(id);
+            evictLists();
+        });
+    }
+
+    // evictPages() : 새 글이 추가되었을 때 호출 (글 단건 캐시는 영향 없음)
+    public void evictPages() {
+        runNowAndAfterCommit(this::evictLists);
+    }
+
+    private void evictLists() {
+        pages.invalidateAll();
+        listVersion.invalidateAll();
+        renderedPages.invalidateLists();
+    }
+
+    // clear() : 캐시 전체를 비움 (BlogService 를 거치지 않고 DB 를 직접 바꾼 경우 등)
+    public void clear() {
+        recentWrites.mark();
+        articles.invalidateAll();
+        renderedPages.clear();
+        evictLists();
+    }
+
+    // 트랜잭션 안에서 호출되면 지금 한 번, 커밋 후에 한 번 더 무효화함
+    // 커밋 전에 다른 스레드가 이전 값을 읽어 캐시에 넣었더라도 커밋 후 무효화로 지워지고,
+    // 커밋 전에 로딩을 시작한 스레드는 세대 값이 바뀌어 캐시에 넣지 못함
+    // 커밋 후부터 복제 지연 동안 replica 에서 읽은 값도 캐시에 넣지 않도록 쓰기 시각을 함께 기록함
+    private void runNowAndAfterCommit(Runnable eviction) {
+        Runnable markAndEvict = () -> {
+            recentWrites.mark();
+            eviction.run();
+        };
+        markAndEvict.run();
+        afterCommit(markAndEvict);
+    }
+
+    // 트랜잭션이 없으면 아무것도 하지 않음 (이미 커밋된 상태이므로 호출한 쪽에서 바로 실행한 것으로 충분함)
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<CacheStats> stats() {
+        List<CacheStats> stats = new ArrayList<>(List.of(articles.stats(), pages.stats(), listVersion.stats()));
+        stats.addAll(renderedPages.stats());
+        return stats;
+    }
+}
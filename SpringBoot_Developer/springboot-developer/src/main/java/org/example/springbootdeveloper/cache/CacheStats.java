@@ -0,0 +1,29 @@
+package org.example.springbootdeveloper.cache;
+
+import lombok.Getter;
+
+// LocalCache 의 통계 스냅샷
+
+@Getter
+public class CacheStats {
+
+    private final String name;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    public CacheStats(String name, long hitCount, long missCount, long evictionCount, long size) {
+        this.name = name;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    // 적중률 = hit / (hit + miss), 조회가 없었으면 1.0
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,234 @@
+package org.example.springbootdeveloper.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// 크기 / TTL 제한이 있는 간단한 인-프로세스 캐시
+// - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+// - 저장 후 ttl 이 지난 항목은 만료되어 다시 로딩함
+// - 적중(hit) / 실패(miss) / 제거(eviction) 횟수를 기록함
+//
+// 무효화와 로딩이 겹쳐도 오래된 값이 남지 않도록, 무효화할 때마다 세대(generation) 값을 올리고
+// 로딩을 시작할 때의 세대와 저장할 때의 세대가 다르면 로딩한 값을 캐시에 넣지 않음
+// 또한 로딩한 값은 이미 저장된 항목(refresh 로 넣은 최신 값 등)을 덮어쓰지 않음
+
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;  // 현재 시각(나노초), 테스트에서는 가짜 시계를 넣을 수 있음
+
+    // 접근 순서(access-order) LinkedHashMap : get 할 때마다 순서가 바뀌므로 모든 접근을 lock 으로 보호함
+    private final Map<K, Entry<V>> entries;
+    private final Object lock = new Object();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LocalCache(String name, int maximumSize, Duration ttl) {
+        this(name, maximumSize, ttl, System::nanoTime);
+    }
+
+    public LocalCache(String name, int maximumSize, Duration ttl, LongSupplier ticker) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LocalCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // get() : 캐시에 값이 있으면 반환하고, 없으면 loader 로 읽어 캐시에 저장한 뒤 반환 (read-through)
+    // loader 가 null 을 반환하거나 예외를 던지면 캐시에 저장하지 않음
+    public V get(K key, Supplier<V> loader) {
+        return get(key, loader, true);
+    }
+
+    // fill 이 false 이면 캐시에 있는 값은 그대로 반환하지만, 새로 읽은 값은 캐시에 저장하지 않음 (RecentWrites)
+    public V get(K key, Supplier<V> loader, boolean fill) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        V loaded = loader.get();
+
+        if (loaded == null || !fill) {
+            return loaded;
+        }
+        return putIfNotInvalidated(key, loaded, startGeneration);
+    }
+
+    // getAll() : 여러 키를 한 번에 조회, 캐시에 없는 키만 모아 loader 를 한 번 호출함
+    // loader 가 돌려주지 않은 키는 결과에 없고 캐시하지도 않음 (get() 에서 null 을 반환한 경우와 같음)
+    public Map<K, V> getAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        return getAll(keys, loader, true);
+    }
+
+    public Map<K, V> getAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader, boolean fill) {
+        Map<K, V> result = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+
+        for (K key : keys) {
+            V cached = getIfPresent(key);
+            if (cached != null) {
+                result.put(key, cached);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long startGeneration = generation.get();
+        if (!fill) {
+            result.putAll(loader.apply(missing));
+            return result;
+        }
+        loader.apply(missing).forEach((key, value) -> result.put(key, putIfNotInvalidated(key, value, startGeneration)));
+        return result;
+    }
+
+    public V getIfPresent(K key) {
+        long now = ticker.getAsLong();
+
+        synchronized (lock) {
+            Entry<V> entry = entries.get(key);
+
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        synchronized (lock) {
+            entries.put(key, new Entry<>(value, ticker.getAsLong() + ttlNanos));
+        }
+    }
+
+    // refresh() : 기존 항목을 새 값으로 바꾸고, 진행 중인 로딩 결과는 캐시에 들어가지 않도록 세대를 올림
+    public void refresh(K key, V value) {
+        synchronized (lock) {
+            generation.incrementAndGet();
+            entries.put(key, new Entry<>(value, ticker.getAsLong() + ttlNanos));
+        }
+    }
+
+    // 로딩한 값을 저장하고, 호출한 쪽에 돌려줄 값을 반환
+    private V putIfNotInvalidated(K key, V value, long startGeneration) {
+        long now = ticker.getAsLong();
+
+        synchronized (lock) {
+            // 로딩하는 동안 무효화가 있었으면 로딩한 값이 이미 오래된 값일 수 있으므로 버림
+            if (generation.get() != startGeneration) {
+                return value;
+            }
+
+            // 그 사이에 다른 스레드가 저장한 값이 있으면 그 값을 우선함 (refresh 로 넣은 최신 값을 덮어쓰지 않음)
+            Entry<V> existing = entries.get(key);
+            if (existing != null && !existing.isExpired(now)) {
+                return existing.value;
+            }
+
+            entries.put(key, new Entry<>(value, now + ttlNanos));
+            return value;
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (lock) {
+            generation.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    // cleanUp() : 만료된 항목을 한 번에 정리 (조회 시에도 만료 여부를 확인하므로 선택 사항)
+    public void cleanUp() {
+        long now = ticker.getAsLong();
+
+        synchronized (lock) {
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isExpired(now)) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    public long size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
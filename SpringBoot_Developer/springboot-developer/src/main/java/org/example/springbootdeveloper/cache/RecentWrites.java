@@ -0,0 +1,39 @@
+package org.example.springbootdeveloper.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 마지막으로 글이 바뀐 시각을 기록해서, 복제 지연 동안 replica 에서 읽은 값이 공유 캐시(ArticleCache, RenderedPageCache)에 들어가지 않게 함
+// 읽기 / 쓰기 DataSource 를 나누면 (blog.datasource.routing.enabled=true) 쓰기 직후 다른 요청은 아직 복제되지 않은 replica 에서 읽는데,
+// 그 결과를 캐시에 넣으면 primary 에서 읽어야 하는 요청(read-your-writes)도 캐시에서 이전 값을 받게 됨
+// -> 마지막 쓰기 후 read-your-writes 시간(blog.datasource.read-your-writes-window, 복제 지연의 상한으로 봄) 동안은
+//    캐시에 있는 값은 그대로 쓰고, 새로 읽은 값은 캐시에 넣지 않음 (그 사이 캐시에는 쓰기 전부터 있던 바뀌지 않은 값 / 커밋 후 채운 최신 값만 있음)
+// 라우팅을 쓰지 않으면 항상 primary 에서 읽으므로 제한하지 않음
+
+@Component
+public class RecentWrites {
+
+    private final long windowNanos;
+    private final AtomicLong lastWriteNanos;
+
+    public RecentWrites(@Value("${blog.datasource.routing.enabled:false}") boolean routing,
+                        @Value("${blog.datasource.read-your-writes-window:5s}") Duration window) {
+        this.windowNanos = routing ? window.toNanos() : 0;
+        this.lastWriteNanos = new AtomicLong(System.nanoTime() - windowNanos);
+    }
+
+    // 글 / 목록 캐시를 무효화할 때 호출 (ArticleCache)
+    public void mark() {
+        if (windowNanos > 0) {
+            lastWriteNanos.set(System.nanoTime());
+        }
+    }
+
+    // canFill() : 지금 시작하는 로딩의 결과를 캐시에 넣어도 되는지 (로딩 중에 쓰기가 있으면 LocalCache 의 세대 값으로 걸러짐)
+    public boolean canFill() {
+        return windowNanos == 0 || System.nanoTime() - lastWriteNanos.get() >= windowNanos;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.springbootdeveloper.cache;
+
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 렌더링이 끝난 HTML 한 페이지 : gzip 으로 압축한 바이트 배열로 보관함 (HTML 은 보통 1/4 ~ 1/8 크기로 줄어듬)
+// gzip 을 받는 클라이언트에게는 압축된 바이트를 그대로 보내고, 그렇지 않으면 풀어서 보냄
+// version : 글 상세 화면이면 렌더링할 때의 글 버전 (목록 화면은 0)
+
+@Getter
+public class RenderedPage {
+
+    private final long version;
+    private final byte[] gzipped;
+    private final int length;  // 압축을 풀었을 때의 크기 (UTF-8 바이트 수)
+
+    private RenderedPage(long version, byte[] gzipped, int length) {
+        this.version = version;
+        this.gzipped = gzipped;
+        this.length = length;
+    }
+
+    public static RenderedPage compress(String html, long version) {
+        byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // 메모리 스트림이므로 발생하지 않음
+        }
+        return new RenderedPage(version, buffer.toByteArray(), bytes.length);
+    }
+
+    // 압축을 풀면서 output 에 씀
+    public void writeUncompressed(OutputStream output) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped), 8192)) {
+            gzip.transferTo(output);
+        }
+    }
+}
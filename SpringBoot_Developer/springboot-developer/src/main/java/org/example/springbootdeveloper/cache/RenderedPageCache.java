@@ -0,0 +1,83 @@
+package org.example.springbootdeveloper.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 렌더링된 HTML 캐시 (BlogViewController)
+// - articleViews : 글 id -> 글 상세 화면 (article.html), 렌더링할 때의 글 버전과 현재 버전이 같을 때만 사용
+// - listViews    : "cursor:size" -> 글 목록 화면 (articleList.html)
+// 캐시에 있으면 템플릿 엔진을 거치지 않고 저장된 바이트를 바로 응답함
+// 무효화는 ArticleCache 가 글 / 목록 캐시를 무효화할 때 함께 호출함 (글 추가 / 수정 / 삭제, 대량 등록)
+// 글이 바뀐 뒤 복제 지연 동안에는 replica 에서 읽어 렌더링한 화면을 저장하지 않음 (RecentWrites)
+// blog.cache.enabled=false 이면 매번 렌더링함
+
+@Component
+public class RenderedPageCache {
+
+    private final boolean enabled;
+    private final LocalCache<Long, RenderedPage> articleViews;
+    private final LocalCache<String, RenderedPage> listViews;
+    private final RecentWrites recentWrites;
+
+    public RenderedPageCache(RecentWrites recentWrites,
+                             @Value("${blog.cache.enabled:true}") boolean enabled,
+                             @Value("${blog.cache.rendered.article.maximum-size:1000}") int articleMaximumSize,
+                             @Value("${blog.cache.rendered.article.ttl:10m}") Duration articleTtl,
+                             @Value("${blog.cache.rendered.list.maximum-size:200}") int listMaximumSize,
+                             @Value("${blog.cache.rendered.list.ttl:30s}") Duration listTtl) {
+        this.recentWrites = recentWrites;
+        this.enabled = enabled;
+        this.articleViews = new LocalCache<>("articleViews", articleMaximumSize, articleTtl);
+        this.listViews = new LocalCache<>("articleListViews", listMaximumSize, listTtl);
+    }
+
+    // getArticleView() : 같은 버전의 글을 렌더링한 결과가 있으면 반환하고, 없으면 renderer 로 렌더링해 저장
+    // 버전을 함께 확인하므로, 무효화 전에 시작한 렌더링이 이전 버전을 저장하더라도 수정된 글에는 사용되지 않음
+    public RenderedPage getArticleView(long id, long version, Supplier<RenderedPage> renderer) {
+        if (!enabled) {
+            return renderer.get();
+        }
+
+        RenderedPage cached = articleViews.getIfPresent(id);
+        if (cached != null && cached.getVersion() == version) {
+            return cached;
+        }
+
+        boolean fill = recentWrites.canFill();
+        RenderedPage rendered = renderer.get();
+        if (fill) {
+            articleViews.put(id, rendered);
+        }
+        return rendered;
+    }
+
+    public RenderedPage getListView(String cursor, Integer size, Supplier<RenderedPage> renderer) {
+        if (!enabled) {
+            return renderer.get();
+        }
+
+        String key = (cursor == null ? "" : cursor) + ":" + (size == null ? "" : size);
+        return listViews.get(key, renderer, recentWrites.canFill());
+    }
+
+    public void invalidateArticle(long id) {
+        articleViews.invalidate(id);
+    }
+
+    public void invalidateLists() {
+        listViews.invalidateAll();
+    }
+
+    public void clear() {
+        articleViews.invalidateAll();
+        listViews.invalidateAll();
+    }
+
+    public List<CacheStats> stats() {
+        return List.of(articleViews.stats(), listViews.stats());
+    }
+}
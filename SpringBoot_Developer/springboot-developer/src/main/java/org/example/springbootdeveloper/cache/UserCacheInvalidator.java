@@ -0,0 +1,25 @@
+package org.example.springbootdeveloper.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.springbootdeveloper.domain.User;
+import org.springframework.stereotype.Component;
+
+// User 엔티티 리스너 : 사용자가 수정 / 삭제되면 인증용 사용자 캐시에서 제거
+// 스프링 부트가 Hibernate 에 SpringBeanContainer 를 등록하므로 리스너도 스프링 빈으로 생성되어 의존성을 주입받음
+
+@Component
+public class UserCacheInvalidator {
+
+    private final UserDetailsCache userDetailsCache;
+
+    public UserCacheInvalidator(UserDetailsCache userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        userDetailsCache.removeUserFromCache(user.getEmail());
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.springbootdeveloper.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// 인증용 사용자 캐시 : email -> UserDetails (UserDetailService.loadUserByUsername 앞에 둠)
+// 인증된 요청마다 사용자를 DB 에서 다시 읽지 않도록 최대 크기 / TTL 이 있는 LocalCache 에 보관함
+// 사용자가 수정 / 삭제되면 UserCacheInvalidator 가 해당 email 을 지금 한 번, 커밋 후에 한 번 더 제거함
+// (비밀번호가 바뀐 경우 늦어도 커밋 직후부터는 새 비밀번호로 인증함)
+
+@Component
+public class UserDetailsCache implements UserCache {
+
+    private final LocalCache<String, UserDetails> users;
+
+    public UserDetailsCache(@Value("${blog.cache.user.maximum-size:1000}") int maximumSize,
+                            @Value("${blog.cache.user.ttl:5m}") Duration ttl) {
+        this.users = new LocalCache<>("users", maximumSize, ttl);
+    }
+
+    // getUser() : 캐시에 있으면 반환하고, 없으면 loader 로 읽어 캐시에 저장 (read-through)
+    // loader 가 던진 예외(없는 사용자)는 그대로 전달되고 캐시하지 않음
+    public UserDetails getUser(String username, Supplier<UserDetails> loader) {
+        return users.get(username, loader);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return users.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        users.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        users.invalidate(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    users.invalidate(username);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        users.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return users.stats();
+    }
+}
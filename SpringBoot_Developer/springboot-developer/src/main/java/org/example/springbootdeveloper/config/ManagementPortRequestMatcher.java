@@ -0,0 +1,32 @@
+package org.example.springbootdeveloper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+// 관리 포트(management.server.port)로 들어온 요청인지 확인하는 요청 매처
+// 관리 포트를 따로 지정하면 액추에이터는 별도의 웹 서버(자식 컨텍스트, 이름 "management")에서 실행되고,
+// 그 서버가 뜰 때 발생하는 WebServerInitializedEvent 가 부모 컨텍스트로도 전달되므로 실제로 열린 포트를 기록해 둠 (포트 0 이어도 동작)
+// 관리 포트를 지정하지 않으면 (애플리케이션 포트와 같으면) 관리 서버가 없으므로 어떤 요청과도 일치하지 않음
+
+@Component
+public class ManagementPortRequestMatcher implements RequestMatcher, ApplicationListener<WebServerInitializedEvent> {
+
+    private static final String MANAGEMENT_NAMESPACE = "management";
+
+    private volatile int managementPort = -1;
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (MANAGEMENT_NAMESPACE.equals(event.getApplicationContext().getServerNamespace())) {
+            managementPort = event.getWebServer().getPort();
+        }
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return managementPort > 0 && request.getLocalPort() == managementPort;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.springbootdeveloper.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Hibernate 2차 캐시 (JCache + Caffeine)
+// 영역(region)마다 최대 항목 수와 TTL 을 application.yml 의 blog.second-level-cache.* 에서 읽어 캐시를 만든 뒤 Hibernate 에 넘겨줌
+// - article : Article 엔티티 (@Cache(region = "article"))
+// - user    : User 엔티티 (@Cache(region = "user"))
+// - default-query-results-region : 캐시 가능한 쿼리(목록 / 글 수)의 결과
+// - default-update-timestamps-region : 테이블별 마지막 수정 시각, 쿼리 결과가 오래됐는지 판단하는 데 쓰이므로 제거 / 만료되지 않아야 함
+// 엔티티가 수정 / 삭제되면 Hibernate 가 해당 엔티티 캐시를 갱신하고, 그 테이블을 읽은 쿼리 캐시 결과는 자동으로 무효화됨
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String ARTICLE_REGION = "article";
+    public static final String USER_REGION = "user";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // Hibernate 가 종료될 때 CacheManager 를 닫으므로 컨텍스트마다 별도의 CacheManager 를 만듦 (테스트처럼 컨텍스트가 여러 개일 때 서로 닫지 않도록)
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${blog.second-level-cache.article.maximum-size:10000}") long articleMaximumSize,
+            @Value("${blog.second-level-cache.article.ttl:10m}") Duration articleTtl,
+            @Value("${blog.second-level-cache.user.maximum-size:1000}") long userMaximumSize,
+            @Value("${blog.second-level-cache.user.ttl:10m}") Duration userTtl,
+            @Value("${blog.second-level-cache.query.maximum-size:1000}") long queryMaximumSize,
+            @Value("${blog.second-level-cache.query.ttl:1m}") Duration queryTtl) {
+        return hibernateProperties -> {
+            CacheManager cacheManager = new CaffeineCachingProvider()
+                    .getCacheManager(URI.create("blog-second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+            createRegion(cacheManager, ARTICLE_REGION, articleMaximumSize, articleTtl);
+            createRegion(cacheManager, USER_REGION, userMaximumSize, userTtl);
+            createRegion(cacheManager, QUERY_RESULTS_REGION, queryMaximumSize, queryTtl);
+            createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, null, null);
+
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        };
+    }
+
+    // maximumSize, ttl 이 null 이면 크기 제한 / 만료 없음
+    private static void createRegion(CacheManager cacheManager, String region, Long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize == null ? OptionalLong.empty() : OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(ttl == null ? OptionalLong.empty() : OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        cacheManager.createCache(region, configuration);
+    }
+}
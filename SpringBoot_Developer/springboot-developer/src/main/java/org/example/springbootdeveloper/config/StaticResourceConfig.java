@@ -0,0 +1,41 @@
+package org.example.springbootdeveloper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+// 정적 리소스 캐시 헤더
+// 정적 리소스 주소에는 내용 해시가 붙으므로 (spring.web.resources.chain.strategy.content, ex. /js/article-<md5>.js)
+// 해시가 붙은 주소는 내용이 절대 바뀌지 않음 -> 1년 동안 캐시하고, 새로 고침할 때도 다시 확인하지 않도록 immutable 을 붙임
+// 해시가 없는 주소로 직접 요청한 경우에는 기본 헤더 (매번 확인) 를 그대로 사용함
+// (Spring 6.0 의 CacheControl 에는 immutable 지시자가 없어서 헤더 값을 직접 만듬)
+
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final Pattern VERSIONED_PATH = Pattern.compile("-[0-9a-f]{32}\\.[A-Za-z0-9]+$");
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().getHeaderValue() + ", immutable";
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof ResourceHttpRequestHandler && VERSIONED_PATH.matcher(request.getRequestURI()).find()) {
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+                }
+                return true;
+            }
+        });
+    }
+}
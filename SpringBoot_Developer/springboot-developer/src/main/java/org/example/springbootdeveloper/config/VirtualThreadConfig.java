@@ -0,0 +1,52 @@
+package org.example.springbootdeveloper.config;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 가상 스레드 모드 (virtual-threads 프로필, Java 21 이상)
+// 톰캣 요청 처리와 비동기 작업(StreamingResponseBody 등)을 요청마다 새 가상 스레드에서 실행함
+// -> BlogService 의 JPA 호출처럼 블로킹되는 동안에는 캐리어(플랫폼) 스레드를 놓아주므로, 톰캣 스레드 수(기본 200)에 묶이지 않음
+// 실행 : ./gradlew bootRun -PvirtualThreads (Java 21 툴체인 + virtual-threads 프로필)
+// 실험적 기능 : Java 21 에서 부하 테스트 / 가상 스레드 고정(JFR jdk.VirtualThreadPinned) 확인을 아직 하지 않음 (application.yml 참고)
+
+@Profile("virtual-threads")
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    // 톰캣 커넥터의 요청 처리 스레드 풀을 가상 스레드 실행기로 교체
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    // 스프링 MVC 비동기 요청과 @Async 가 사용하는 기본 실행기도 가상 스레드로 교체
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    // 바이트코드는 Java 17 로 컴파일하므로 Java 21 API 는 리플렉션으로 호출함
+    // Java 21 미만에서 프로필을 켜면 시작할 때 바로 실패함
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("virtual-threads profile requires Java 21 or later, running on " + Runtime.version(), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to create virtual thread executor", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.springbootdeveloper.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.config.jwt.TokenProvider;
+import org.example.springbootdeveloper.service.UserDetailService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
+// 스프링 시큐리티 설정 : 세션 없이 (STATELESS) JWT 액세스 토큰으로 인증
+// - 정적 리소스 / H2 콘솔 : 스프링 시큐리티를 아예 거치지 않음
+// - 공개 조회 (GET /api/articles/**, POST /api/articles/lookup, 글 화면) : 토큰을 확인하지 않는 가벼운 필터 체인으로 인증 없이 허용
+// - 그 외 요청 : 'Authorization: Bearer <액세스 토큰>' 헤더의 서명만 확인해서 인증 (DB / 세션 조회 없음), 없으면 401
+// 사용자는 POST /api/signup 으로 가입하고, 토큰은 POST /api/login 으로 발급받고, 만료되면 POST /api/token 으로 리프레시 토큰을 보내 다시 발급받음
+// Prometheus 는 사용자 토큰을 발급받을 수 없으므로 /actuator/prometheus, /actuator/metrics 는 관리 포트(management.server.port)로 들어온 요청만 인증 없이 허용함
+// (운영 프로필은 관리 포트를 따로 열고 외부에 공개하지 않음, 관리 포트가 없으면 애플리케이션 포트에서 액세스 토큰이 있어야 조회 가능)
+// 요청 매처는 스프링 MVC 빈(HandlerMappingIntrospector)이 없는 컨텍스트(벤치마크 등)에서도 동작하도록 Ant 패턴으로 지정함
+
+@RequiredArgsConstructor
+@Configuration
+@EnableWebSecurity
+public class WebSecurityConfig {
+
+    private final TokenProvider tokenProvider;
+    private final ManagementPortRequestMatcher managementPort;
+
+    // 스프링 시큐리티 기능 비활성화 : 정적 리소스와 H2 콘솔은 인증 / 인가 필터를 거치지 않음
+    @Bean
+    public WebSecurityCustomizer configure() {
+        return web -> web.ignoring()
+                .requestMatchers(antMatcher("/h2-console/**"))
+                .requestMatchers(antMatcher("/vendor/**"), antMatcher("/js/**"), antMatcher("/favicon.ico"));
+    }
+
+    // 공개 조회 필터 체인 : 글 목록 / 단건 / 여러 글 / 검색 / 많이 본 글 API 와 글 화면
+    // 여러 글 조회(lookup)는 id 목록을 본문으로 받으므로 POST 지만 글을 바꾸지 않음
+    // 토큰 검증 필터 / 세션 / CSRF / 요청 캐시 없이 허용만 하므로, 클라이언트가 토큰을 보내도 서명을 확인하지 않음
+    // 글 전체 내보내기(export)는 응답이 크므로 공개하지 않음
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher(publicReads())
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll())
+                .csrf(csrf -> csrf.disable())
+                .requestCache(cache -> cache.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .build();
+    }
+
+    // 토큰 인증 필터 체인 : 나머지 모든 요청
+    @Bean
+    @Order(2)
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        return http
+                // 토큰 방식으로 인증하기 때문에 기존에 사용하던 폼 로그인, 세션 비활성화
+                .csrf(csrf -> csrf.disable())
+                .httpBasic(basic -> basic.disable())
+                .formLogin(form -> form.disable())
+                .logout(logout -> logout.disable())
+                .requestCache(cache -> cache.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // 헤더를 확인할 커스텀 필터 추가
+                .addFilterBefore(new TokenAuthenticationFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class)
+                // 가입 / 토큰 발급 / 오류 화면 / 헬스 체크 / 관리 포트의 메트릭 스크레이프는 인증 없이 허용, 나머지는 인증 필요
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(antMatcher(HttpMethod.POST, "/api/signup"),
+                                antMatcher(HttpMethod.POST, "/api/login"), antMatcher(HttpMethod.POST, "/api/token")).permitAll()
+                        .requestMatchers(antMatcher("/error"), antMatcher("/actuator/health")).permitAll()
+                        .requestMatchers(new AndRequestMatcher(managementPort, new OrRequestMatcher(
+                                antMatcher(HttpMethod.GET, "/actuator/prometheus"),
+                                antMatcher(HttpMethod.GET, "/actuator/metrics/**"), antMatcher(HttpMethod.GET, "/actuator/metrics")))).permitAll()
+                        .anyRequest().authenticated())
+                // 인증되지 않은 요청은 로그인 페이지로 보내지 않고 401 Unauthorized 응답
+                .exceptionHandling(exception -> exception.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .build();
+    }
+
+    private static RequestMatcher publicReads() {
+        return new AndRequestMatcher(
+                new OrRequestMatcher(
+                        antMatcher(HttpMethod.GET, "/api/articles"),
+                        antMatcher(HttpMethod.GET, "/api/articles/**"),
+                        antMatcher(HttpMethod.POST, "/api/articles/lookup"),
+                        antMatcher(HttpMethod.GET, "/articles"),
+                        antMatcher(HttpMethod.GET, "/articles/**"),
+                        antMatcher(HttpMethod.GET, "/new-article")),
+                new NegatedRequestMatcher(antMatcher("/api/articles/export")));
+    }
+
+    // 인증 관리자 : 로그인(POST /api/login)할 때 UserDetailService 로 사용자를 찾고 BCrypt 로 비밀번호를 확인
+    @Bean
+    public AuthenticationManager authenticationManager(UserDetailService userDetailService,
+                                                       BCryptPasswordEncoder bCryptPasswordEncoder) {
+        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+        authProvider.setUserDetailsService(userDetailService);  // 사용자 정보 서비스 설정
+        authProvider.setPasswordEncoder(bCryptPasswordEncoder);
+        return new ProviderManager(authProvider);
+    }
+
+    // 패스워드 인코더로 사용할 빈 등록 (users.password 에는 BCrypt 로 암호화한 값을 저장함)
+    @Bean
+    public BCryptPasswordEncoder bCryptPasswordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+}
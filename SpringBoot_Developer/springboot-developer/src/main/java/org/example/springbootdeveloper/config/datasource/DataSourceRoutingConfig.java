@@ -0,0 +1,98 @@
+package org.example.springbootdeveloper.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.springbootdeveloper.cache.RecentWrites;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+// 읽기 / 쓰기 DataSource 분리 (blog.datasource.routing.enabled=true 일 때만 적용)
+// - primaryDataSource : spring.datasource.* (쓰기 + 스키마 생성 / data.sql)
+// - replicaDataSource : blog.datasource.replica.* (읽기 전용 복제본, HikariCP 설정을 그대로 사용 ex. jdbc-url, maximum-pool-size)
+// - dataSource (@Primary) : 트랜잭션 종류에 따라 둘 중 하나로 보내는 라우팅 DataSource, JPA / JdbcTemplate 은 이 DataSource 를 사용함
+// 설정하지 않으면 스프링 부트가 만드는 단일 DataSource 를 그대로 사용함
+// 복제 지연 동안 replica 에서 읽은 값은 애플리케이션 캐시(RecentWrites) / Hibernate 2차 캐시(ReplicaCacheModeJpaDialect)에 넣지 않음
+// Hibernate 쿼리 캐시는 끔 : 쿼리 결과가 오래됐는지를 primary 의 테이블 수정 시각으로만 판단하므로 복제 지연으로 뒤처진 결과도 최신으로 보고,
+// 쿼리는 세션의 CacheMode 를 따르지 않아 (Hibernate 6.1) 복제 지연 동안만 저장을 막을 수 없음 -> 목록 / 글 수는 ArticleCache 의 페이지 캐시가 대신함
+
+@Configuration
+@ConditionalOnProperty(name = "blog.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("blog.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);  // 복제본 연결은 읽기 전용 (실수로 쓰기가 가면 DB 가 거부함)
+        return dataSource;
+    }
+
+    // LazyConnectionDataSourceProxy : 트랜잭션 시작 시점이 아니라 첫 SQL 을 실행할 때 실제 연결을 가져옴
+    // -> 그때는 트랜잭션의 readOnly 여부가 정해져 있으므로 라우팅이 올바른 DataSource 를 고를 수 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource();
+        routing.setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer replicaQueryCacheCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+    }
+
+    // 스프링 부트가 만드는 EntityManagerFactory 에 ReplicaCacheModeJpaDialect 를 설정함 (JpaTransactionManager 도 이 JpaDialect 를 사용함)
+    // JpaVendorAdapter 의 기본 HibernateJpaDialect 는 jpaDialect 가 비어 있을 때만 쓰이므로 초기화 전에 지정함
+    @Bean
+    public static BeanPostProcessor replicaCacheModeJpaDialectPostProcessor(ObjectProvider<RecentWrites> recentWrites) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factory) {
+                    factory.setJpaDialect(new ReplicaCacheModeJpaDialect(recentWrites.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 모든 요청에 read-your-writes 상태를 설정함 (스프링 시큐리티보다 먼저 실행)
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${blog.datasource.read-your-writes-window:5s}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
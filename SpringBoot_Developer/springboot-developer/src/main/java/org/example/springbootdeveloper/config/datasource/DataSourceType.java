@@ -0,0 +1,8 @@
+package org.example.springbootdeveloper.config.datasource;
+
+// 라우팅 대상 DataSource : 쓰기(primary) / 읽기 전용 복제본(replica)
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
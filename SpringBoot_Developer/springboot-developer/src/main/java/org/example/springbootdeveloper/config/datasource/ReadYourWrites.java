@@ -0,0 +1,35 @@
+package org.example.springbootdeveloper.config.datasource;
+
+// 요청 단위의 read-your-writes 상태
+// 이번 요청에서 이미 쓰기를 했거나 (같은 요청 안의 이후 조회), 최근에 쓰기를 한 클라이언트의 요청이면 (ReadYourWritesFilter 의 쿠키)
+// 읽기 전용 트랜잭션도 primary 로 보내서 복제 지연 때문에 방금 쓴 내용이 안 보이는 일이 없게 함
+// ReadYourWritesFilter 가 요청을 시작할 때 begin(), 끝날 때 end() 를 호출함 (요청 밖의 스레드 - 스케줄러 등 - 에는 상태를 남기지 않음)
+
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<boolean[]> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void begin(boolean pinnedToPrimary) {
+        PINNED.set(new boolean[]{pinnedToPrimary});
+    }
+
+    static void end() {
+        PINNED.remove();
+    }
+
+    // 쓰기 트랜잭션이 primary 연결을 가져갈 때 호출 : 같은 요청의 이후 조회는 primary 에서 읽음
+    static void markWrite() {
+        boolean[] pinned = PINNED.get();
+        if (pinned != null) {
+            pinned[0] = true;
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        boolean[] pinned = PINNED.get();
+        return pinned != null && pinned[0];
+    }
+}
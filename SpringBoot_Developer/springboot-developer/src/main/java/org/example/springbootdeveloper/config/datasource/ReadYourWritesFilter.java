@@ -0,0 +1,61 @@
+package org.example.springbootdeveloper.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+// 최근에 쓰기 요청(POST / PUT / PATCH / DELETE)을 보낸 클라이언트의 조회를 일정 시간(window) 동안 primary 로 보냄
+// 쓰기 요청의 응답에 짧은 쿠키를 붙이고, 그 쿠키가 있는 요청은 읽기 전용 트랜잭션도 primary 에서 읽음
+// 세션 / 서버 메모리에 상태를 두지 않으므로 인스턴스가 여러 대여도 (어느 인스턴스로 가든) 같은 효과가 있음
+// 응답 본문을 쓰기 시작하면 헤더를 더 붙일 수 없으므로 요청을 처리하기 전에 쿠키를 붙임
+// 본문으로 조건을 받는 조회(POST /api/articles/lookup)는 POST 지만 쓰기가 아니므로 쿠키를 붙이지 않음 (replica 에서 읽음)
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "blog-read-primary";
+
+    // 글을 바꾸지 않는 POST 요청 (WebSecurityConfig 의 공개 조회와 같음)
+    private static final Set<String> READ_ONLY_POSTS = Set.of("/api/articles/lookup");
+
+    private final int windowSeconds;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowSeconds = (int) Math.max(1, window.toSeconds());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = isWrite(request);
+        if (write) {
+            Cookie cookie = new Cookie(COOKIE_NAME, "1");
+            cookie.setPath("/");
+            cookie.setMaxAge(windowSeconds);
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+
+        ReadYourWrites.begin(write || WebUtils.getCookie(request, COOKIE_NAME) != null);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        return switch (request.getMethod()) {
+            case "POST" -> !READ_ONLY_POSTS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+            case "PUT", "PATCH", "DELETE" -> true;
+            default -> false;
+        };
+    }
+}
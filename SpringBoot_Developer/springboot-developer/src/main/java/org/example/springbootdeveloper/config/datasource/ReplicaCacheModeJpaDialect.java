@@ -0,0 +1,53 @@
+package org.example.springbootdeveloper.config.datasource;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.example.springbootdeveloper.cache.RecentWrites;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+// 복제 지연 동안 replica 에서 읽은 엔티티가 Hibernate 2차 캐시에 들어가지 않도록 하는 JpaDialect
+// 글이 바뀐 뒤 read-your-writes 시간 동안 (RecentWrites) primary 에 고정되지 않은 읽기 전용 트랜잭션은 캐시 저장 모드를 BYPASS 로 실행함
+// -> 캐시에 있는 엔티티는 읽지만 새로 읽은 엔티티는 넣지 않음 (CacheMode.GET, 수정된 글은 커밋할 때 Hibernate 가 2차 캐시를 최신 값으로 갱신함)
+// EntityManager.find() 는 세션의 CacheMode 가 아니라 EntityManager 의 jakarta.persistence.cache.storeMode 속성을 따르므로 속성으로 지정함
+// 그렇지 않으면 삭제 직후 쿠키 없는 요청이 replica 에서 읽은 글을 2차 캐시에 넣고, 쿠키가 있는 요청이 primary 대신 그 글을 받게 됨
+// (쿼리 캐시는 세션의 CacheMode 를 따르지 않으므로 라우팅을 켜면 끔, DataSourceRoutingConfig)
+
+class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    private final RecentWrites recentWrites;
+
+    ReplicaCacheModeJpaDialect(RecentWrites recentWrites) {
+        this.recentWrites = recentWrites;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+
+        if (definition.isReadOnly() && !ReadYourWrites.isPinnedToPrimary() && !recentWrites.canFill()) {
+            Object previous = entityManager.getProperties().getOrDefault(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.USE);
+            entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+            return new ReplicaTransactionData(transactionData, entityManager, previous);
+        }
+        return transactionData;
+    }
+
+    // EntityManager 를 트랜잭션보다 오래 쓰는 경우 (open-in-view 등) 다음 트랜잭션에 영향이 없도록 원래 저장 모드로 되돌림
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaTransactionData data) {
+            super.cleanupTransaction(data.delegate());
+            data.entityManager().setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, data.previous());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReplicaTransactionData(Object delegate, EntityManager entityManager, Object previous) {
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.springbootdeveloper.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 종류에 따라 연결을 가져올 DataSource 를 고름
+// - @Transactional(readOnly = true) 트랜잭션 : replica (단, read-your-writes 로 primary 에 고정된 요청이면 primary)
+// - 그 외 (쓰기 트랜잭션, 트랜잭션 밖의 JDBC 호출) : primary
+// 트랜잭션이 시작된 뒤에 readOnly 여부를 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸서
+// 첫 SQL 을 실행할 때 연결을 가져오도록 해야 함 (DataSourceRoutingConfig)
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ReadYourWrites.isPinnedToPrimary() ? DataSourceType.PRIMARY : DataSourceType.REPLICA;
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            ReadYourWrites.markWrite();
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.springbootdeveloper.config.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// application.yml 의 jwt.* 값을 읽어오는 클래스
+// - issuer : 토큰 발급자 (검증할 때 같은 발급자인지 확인)
+// - secret-key : HS256 서명 키 (32바이트 이상), 환경 변수 JWT_SECRET_KEY 로 주입 (기본값 없음, 로컬 개발용 키는 dev 프로필)
+// - access-token-ttl / refresh-token-ttl : 액세스 / 리프레시 토큰의 유효 기간
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("jwt")  // 자바 클래스에 프로퍼티 값을 가져와서 사용하는 애너테이션
+public class JwtProperties {
+
+    private String issuer;
+    private String secretKey;
+    private Duration accessTokenTtl = Duration.ofMinutes(30);
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+}
@@ -0,0 +1,120 @@
+package org.example.springbootdeveloper.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.springbootdeveloper.domain.User;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+// JWT 토큰 생성 / 검증
+// 토큰에 사용자 id / email / 토큰 종류를 담아 HS256 으로 서명하고, 검증할 때는 서명 / 발급자 / 만료 시간만 확인함
+// 요청마다 사용자를 DB 에서 읽지 않고 토큰의 클레임으로 인증 정보를 만듬 (세션 / DB 조회 없음)
+// 서명 키와 파서는 시작할 때 한 번만 만들어 재사용함 (JwtParser 는 불변 객체라 여러 스레드에서 함께 사용 가능)
+// 서명 키가 없거나 32바이트(HS256 키 길이)보다 짧으면 시작할 때 IllegalStateException 예외 발생 (기본 키로 뜨지 않도록)
+
+@Service
+public class TokenProvider {
+
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    private static final String ID_CLAIM = "id";
+    private static final String TOKEN_TYPE_CLAIM = "token_type";
+    private static final int MIN_SECRET_KEY_BYTES = 32;  // HS256 키 최소 길이
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("user"));  // User.getAuthorities() 와 같은 권한
+
+    private final JwtProperties jwtProperties;
+    private final SecretKey key;
+    private final JwtParser parser;
+
+    public TokenProvider(JwtProperties jwtProperties) {
+        String secretKey = jwtProperties.getSecretKey();
+        if (secretKey == null || secretKey.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_KEY_BYTES) {
+            throw new IllegalStateException("jwt.secret-key (JWT_SECRET_KEY) must be set to at least "
+                    + MIN_SECRET_KEY_BYTES + " bytes");
+        }
+
+        this.jwtProperties = jwtProperties;
+        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .requireIssuer(jwtProperties.getIssuer())
+                .build();
+    }
+
+    public String generateAccessToken(User user) {
+        return generateToken(user, ACCESS_TOKEN, jwtProperties.getAccessTokenTtl());
+    }
+
+    public String generateRefreshToken(User user) {
+        return generateToken(user, REFRESH_TOKEN, jwtProperties.getRefreshTokenTtl());
+    }
+
+    // JWT 토큰 생성 메서드
+    private String generateToken(User user, String tokenType, Duration expiredAt) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)  // 헤더 typ : JWT
+                .setIssuer(jwtProperties.getIssuer())          // 내용 iss : application.yml 의 jwt.issuer
+                .setIssuedAt(now)                              // 내용 iat : 현재 시간
+                .setExpiration(new Date(now.getTime() + expiredAt.toMillis()))  // 내용 exp : 만료 시간
+                .setSubject(user.getEmail())                   // 내용 sub : 유저의 이메일
+                .claim(ID_CLAIM, user.getId())                 // 클레임 id : 유저 ID
+                .claim(TOKEN_TYPE_CLAIM, tokenType)            // 클레임 token_type : access / refresh
+                .signWith(key, SignatureAlgorithm.HS256)       // 서명 : 비밀 키와 함께 해시값을 HS256 방식으로 암호화
+                .compact();
+    }
+
+    // JWT 유효성 검증 메서드 : 서명 / 발급자 / 만료 시간이 맞고 기대한 종류의 토큰이면 true
+    public boolean validToken(String token, String tokenType) {
+        try {
+            return tokenType.equals(getClaims(token).get(TOKEN_TYPE_CLAIM, String.class));
+        } catch (JwtException | IllegalArgumentException e) {  // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
+            return false;
+        }
+    }
+
+    // 액세스 토큰 기반으로 인증 정보를 가져오는 메서드 (DB 조회 없음), 유효하지 않은 토큰이면 null
+    // 요청마다 호출되므로 validToken() 을 따로 호출하지 않고 한 번만 파싱함
+    public Authentication getAuthentication(String token) {
+        Claims claims;
+        try {
+            claims = getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (!ACCESS_TOKEN.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            return null;  // 리프레시 토큰으로는 API 를 호출할 수 없음
+        }
+
+        return new UsernamePasswordAuthenticationToken(
+                new org.springframework.security.core.userdetails.User(claims.getSubject(), "", AUTHORITIES),
+                token,
+                AUTHORITIES);
+    }
+
+    // 토큰 기반으로 유저 ID를 가져오는 메서드
+    public Long getUserId(String token) {
+        return getClaims(token).get(ID_CLAIM, Long.class);
+    }
+
+    private Claims getClaims(String token) {
+        return parser.parseClaimsJws(token)  // 서명 / 발급자 / 만료 시간을 확인하고 클레임 조회
+                .getBody();
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.springbootdeveloper.controller;
+
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.ArticleListVersion;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+// 조건부 요청 (If-None-Match / If-Modified-Since / If-Match) 에 사용할 ETag, Last-Modified 값을 만드는 클래스
+// 글 단건은 If-Match 에도 쓰이므로 강한(strong) ETag, 목록은 If-None-Match 에만 쓰이므로 약한(weak) ETag 를 사용함
+// (톰캣은 강한 ETag 가 붙은 응답은 압축하지 않음 -> 크기가 큰 목록 응답이 압축되도록 약한 ETag 사용)
+// 리액티브 API (reactive 패키지) 도 같은 값을 쓰므로 public
+
+public final class ArticleETags {
+
+    private static final Pattern URL_SAFE_BASE64 = Pattern.compile("[A-Za-z0-9_-]*");
+
+    private ArticleETags() {
+    }
+
+    // 글 단건 : "글 id - 버전" (버전은 수정될 때마다 증가)
+    public static String of(Article article) {
+        return quote(Long.toHexString(article.getId()) + "-" + Long.toHexString(article.getVersion()));
+    }
+
+    // If-Match 헤더에서 글 버전을 꺼냄, 헤더가 없거나 "*" 이면 null (버전 확인 없이 수정)
+    // 다른 글의 ETag 이거나 형식이 잘못되었으면 어떤 버전과도 같지 않은 값(-1)을 반환해 412 로 응답하게 함
+    public static Long versionFromIfMatch(String ifMatch, long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            return -1L;  // 약한(weak) ETag 는 If-Match 에 사용할 수 없음
+        }
+
+        String[] parts = value.substring(1, value.length() - 1).split("-");
+        try {
+            if (parts.length != 2 || Long.parseLong(parts[0], 16) != id) {
+                return -1L;
+            }
+            return Long.parseLong(parts[1], 16);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    // 글 목록 : 글 수 + 최근 수정 시간 + 요청한 페이지(size, cursor) 로 구성
+    // 같은 URL 이라도 글이 추가 / 수정 / 삭제되면 값이 바뀜
+    // 페이지는 해시하지 않고 그대로 넣음 (다른 페이지가 같은 ETag 를 받아 304 로 잘못 응답하지 않도록)
+    // cursor 는 URL 에 안전한 Base64 라 ETag 에 그대로 쓸 수 있고, 마지막에 두므로 cursor 안의 '-' 와 섞이지 않음
+    public static String ofList(ArticleListVersion version, String cursor, Integer size) {
+        return "W/" + quote("l-" + Long.toHexString(version.getCount())
+                + "-" + toHex(version.getLastModifiedAt())
+                + "-" + (size == null ? "" : Integer.toHexString(size))
+                + "-" + listCursor(cursor));
+    }
+
+    // Last-Modified 헤더 값 (epoch 밀리초), 수정 시간이 없으면 -1 (헤더를 보내지 않음)
+    public static long lastModified(Article article) {
+        LocalDateTime updatedAt = article.getUpdatedAt();
+
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 잘못된 cursor (Base64 가 아닌 문자, 따옴표 등) 는 헤더에 그대로 넣지 않고 SHA-256 앞 64비트로 대신함 ("~" 로 구분, 목록은 400 으로 응답함)
+    private static String listCursor(String cursor) {
+        if (cursor == null) {
+            return "";
+        }
+        if (URL_SAFE_BASE64.matcher(cursor).matches()) {
+            return cursor;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(cursor.getBytes(StandardCharsets.UTF_8));
+            return "~" + HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);  // SHA-256 은 모든 JVM 이 지원함
+        }
+    }
+
+    private static String toHex(LocalDateTime time) {
+        if (time == null) {
+            return "0";
+        }
+        long micros = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+        return Long.toHexString(micros);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
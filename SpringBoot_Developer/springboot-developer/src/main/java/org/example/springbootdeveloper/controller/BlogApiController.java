@@ -1,16 +1,49 @@
 package org.example.springbootdeveloper.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.example.springbootdeveloper.domain.Article;
 import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.ArticleBatchResponse;
 import org.example.springbootdeveloper.dto.ArticleResponse;
+import org.example.springbootdeveloper.dto.ArticleSearchResponse;
+import org.example.springbootdeveloper.dto.BulkImportResponse;
+import org.example.springbootdeveloper.dto.CursorPage;
+import org.example.springbootdeveloper.dto.MostViewedArticleResponse;
 import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.example.springbootdeveloper.exception.VersionMismatchException;
+import org.example.springbootdeveloper.feed.ArticleEventBroadcaster;
+import org.example.springbootdeveloper.service.ArticleExportService;
+import org.example.springbootdeveloper.service.ArticleImportService;
+import org.example.springbootdeveloper.service.ArticleSearchService;
+import org.example.springbootdeveloper.service.ArticleTagService;
+import org.example.springbootdeveloper.service.ArticleViewService;
 import org.example.springbootdeveloper.service.BlogService;
+import org.example.springbootdeveloper.tag.ArticleTagIndex;
+import org.example.springbootdeveloper.tag.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 // BlogApiController.java : controller 패키지를 생성한 뒤, controller 패키지에서 BlogApiController 클래스 생성
 
@@ -21,6 +54,17 @@ import java.util.List;
 public class BlogApiController {
 
         private final BlogService blogService;
+        private final ArticleImportService articleImportService;
+        private final ArticleExportService articleExportService;
+        private final ArticleSearchService articleSearchService;
+        private final ArticleTagService articleTagService;
+        private final ArticleViewService articleViewService;
+        private final ArticleEventBroadcaster articleEventBroadcaster;
+
+        // 여러 글 한 번에 조회 시 요청할 수 있는 최대 id 수
+        @Value("${blog.multi-get.max-ids:1000}")
+        private int maxBatchIds;
+        private final ObjectMapper objectMapper;
 
     // @PostMapping : HTTP 메서드가 POST일 때 전달받은 URL과 동일하면 메서드로 매핑
     @PostMapping("/api/articles")  // '/api/articles' 는 addArticle() 메서드에 매핑함
@@ -37,33 +81,219 @@ public class BlogApiController {
         // 응답 코드 201 / 즉, Created를 응답하고 테이블에 저장된 객체를 반환
     }
 
-    // findAllArticles() : 전체 글을 조회한 뒤 반환하는 메서드
-    // /api/articles GET 요청이 오면 글 전체를 조회하는 findAll() 메서드를 호출한 다음 응답용 객체인 ArticleResponse로 파싱해 body에 담아 클라이언트에게 전송
+    // bulkAddArticles() : 글 여러 개를 한 번에 등록하는 메서드 (JSON 배열)
+    // 요청 본문을 한 번에 객체 리스트로 바꾸지 않고, MappingIterator 로 한 건씩 읽으면서 묶음(batch-size) 단위로 저장함
+    // 일부 글이 실패해도 나머지는 저장되고, 응답에 성공 / 실패 건수와 실패한 항목의 순번, 사유를 담음
+    @PostMapping(value = "/api/articles/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResponse> bulkAddArticles(InputStream body) throws IOException {
+        BulkImportResponse response = articleImportService.importArticles(
+                objectMapper.readerFor(AddArticleRequest.class).readValues(body));
+
+        return ResponseEntity.ok()
+                .body(response);
+    }
+
+    // bulkAddArticlesNdjson() : 한 줄에 글 하나씩 (NDJSON, application/x-ndjson) 보내는 대량 등록
+    // 클라이언트가 스트리밍으로 보내는 대로 한 줄씩 읽어 저장하므로 요청 크기와 관계없이 메모리 사용량이 일정함
+    @PostMapping(value = "/api/articles/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResponse> bulkAddArticlesNdjson(InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));  // NDJSON 은 UTF-8
+
+        return ResponseEntity.ok()
+                .body(articleImportService.importNdjson(reader));
+    }
+
+    // searchArticles() : 제목 / 본문에서 검색어를 찾아 관련도(BM25)가 높은 순으로 반환하는 메서드
+    // 한글은 2글자 단위로 잘라 색인하므로 "블로그" 로 "블로그를", "블로그에서" 가 들어간 글도 찾음
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<List<ArticleSearchResponse>> searchArticles(@RequestParam String q,
+                                                                      @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok()
+                .body(articleSearchService.search(q, size));
+    }
+
+    // mostViewedArticles() : 조회 수가 많은 순으로 글을 반환하는 메서드
+    // 순위는 메모리에 모아둔 조회 수로 계산하므로 DB 에 아직 반영되지 않은 조회 수도 포함됨
+    @GetMapping("/api/articles/most-viewed")
+    public ResponseEntity<List<MostViewedArticleResponse>> mostViewedArticles(@RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok()
+                .body(articleViewService.mostViewed(size));
+    }
+
+    // articleEvents() : 글 추가 / 수정 / 삭제 이벤트를 Server-Sent Events (text/event-stream) 로 보내는 메서드
+    // 목록을 주기적으로 다시 받지 않고 연결을 열어 둔 채 바뀐 글만 받음 (article-created / article-updated / article-deleted)
+    // 연결이 끊기면 브라우저(EventSource)가 마지막으로 받은 이벤트 번호를 Last-Event-ID 헤더로 보내며 다시 연결하고, 그 이후 이벤트부터 이어 받음
+    // 이어 받을 수 없으면 reset 이벤트를 보내므로 클라이언트는 목록을 다시 읽음
+    // 구독자 수가 최대(blog.feed.max-subscribers)에 도달하면 503 Service Unavailable + Retry-After
+    @GetMapping(value = "/api/articles/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> articleEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        if (!articleEventBroadcaster.hasCapacity()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")  // 프록시(nginx)가 응답을 모아 두지 않고 바로 전달하도록
+                .body(articleEventBroadcaster.subscribe(lastEventId));
+    }
+
+    // exportArticles() : 글 전체를 내보내는 메서드 (format=ndjson 기본, format=csv)
+    // 응답 본문을 StreamingResponseBody 로 만들어 DB 에서 읽는 대로 출력 스트림에 바로 씀 -> 전체 글을 메모리에 올리지 않음
+    // 쓰기는 요청 스레드가 아닌 비동기 스레드에서 ArticleExportService 의 트랜잭션 안에서 일어남 (open-in-view 와 무관)
+    @GetMapping("/api/articles/export")
+    public ResponseEntity<StreamingResponseBody> exportArticles(@RequestParam(defaultValue = "ndjson") String format) {
+        return switch (format) {
+            case "ndjson" -> export("articles.ndjson", MediaType.APPLICATION_NDJSON, articleExportService::exportNdjson);
+            case "csv" -> export("articles.csv", new MediaType("text", "csv", StandardCharsets.UTF_8), articleExportService::exportCsv);
+            default -> ResponseEntity.badRequest().build();
+        };
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String filename, MediaType mediaType, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    // findAllArticles() : 글 목록을 최신순으로 한 페이지씩 조회한 뒤 반환하는 메서드
+    // /api/articles GET 요청이 오면 키셋 페이지네이션으로 size 개의 글을 조회한 다음 응답용 객체인 ArticleResponse로 파싱해 body에 담아 클라이언트에게 전송
+    // 다음 / 이전 페이지의 커서는 Link 헤더 (rel="next", rel="prev") 로 전달하므로 응답 본문은 기존과 같은 JSON 배열
+    // 목록 전체의 검증자로 만든 ETag 가 If-None-Match 와 같으면 목록을 조회하지 않고 304 Not Modified 를 응답함
+    // 잘못된 cursor 는 400 Bad Request (태그로 거른 목록 / 리액티브 API 와 같음)
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        List<ArticleResponse> articles = blogService.findAll()
-                .stream()
-                // stream (스트림) : 여러 데이터가 모여 있는 컬렉션을 간편하게 처리하기 위한 자바 8에서 추가된 기능
-                // 리스트를 스트림으로 변환하여 스트림 파이프라인을 구성
-                .map(ArticleResponse::new)
-                // map() : 요소들을 특정 조건에 해당하는 값으로 변환
-                // .map(ArticleResponse::new) : 각 블로그 글을 ArticleResponse 객체로 매핑
-                .toList();
+    public ResponseEntity<List<ArticleResponse>> findAllArticles(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size,
+                                                                 WebRequest webRequest) {
+        String eTag = ArticleETags.ofList(blogService.findListVersion(), cursor, size);
+        if (webRequest.checkNotModified(eTag)) {
+            // checkNotModified() : 조건부 요청 헤더를 검사해 바뀌지 않았으면 304 상태를 설정하고 true 반환
+            // null 을 반환하면 응답 본문 없이 304 Not Modified 로 응답함
+            return null;
+        }
+
+        CursorPage<ArticleResponse> page;
+        try {
+            page = blogService.findPage(cursor, size)  // 잘못된 커서는 IllegalArgumentException
+                    .map(ArticleResponse::new);
+                    // .map(ArticleResponse::new) : 각 블로그 글을 ArticleResponse 객체로 매핑
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())  // 캐시는 하되 매번 ETag 로 재검증하도록 함
+                .headers(linkHeaders(page))
+                .body(page.getContent());
+    }
+
+    // findArticlesByIds() : 여러 글을 한 번에 조회하는 메서드 (ex. /api/articles?ids=3,1,2)
+    // 글마다 /api/articles/{id} 를 요청하는 대신 한 번의 요청 / 쿼리로 읽음 (ids 파라미터가 있을 때만 이 메서드로 매핑됨)
+    // 응답은 요청한 id 순서대로이고, 없는 글은 404 대신 missing 에 담음
+    @GetMapping(value = "/api/articles", params = "ids")
+    public ResponseEntity<ArticleBatchResponse> findArticlesByIds(@RequestParam List<Long> ids) {
+        return findArticles(ids);
+    }
+
+    // findArticlesByTags() : 태그로 거른 글 목록을 최신순으로 한 페이지씩 조회하는 메서드 (ex. /api/articles?tags=java,spring&mode=and)
+    // mode=and (기본) 는 모든 태그가 붙은 글, mode=or 는 태그 중 하나라도 붙은 글, 태그는 대소문자 / 앞뒤 공백을 구분하지 않음
+    // 조건에 맞는 글은 DB 조인 대신 메모리 비트맵 색인의 교집합 / 합집합으로 구하고, 페이지 커서는 전체 목록과 같이 Link 헤더로 전달함
+    // 태그가 없거나 너무 많은 경우 / 잘못된 mode, cursor 는 400 Bad Request (ids 파라미터가 함께 오면 여러 글 조회로 처리함)
+    @GetMapping(value = "/api/articles", params = {"tags", "!ids"})
+    public ResponseEntity<List<ArticleResponse>> findArticlesByTags(@RequestParam List<String> tags,
+                                                                    @RequestParam(defaultValue = "and") String mode,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer size) {
+        ArticleTagIndex.Mode matchMode = switch (mode) {
+            case "and" -> ArticleTagIndex.Mode.AND;
+            case "or" -> ArticleTagIndex.Mode.OR;
+            default -> null;
+        };
+
+        CursorPage<ArticleResponse> page;
+        try {
+            List<String> normalized = Tags.normalize(tags);  // 태그가 너무 길거나 많으면 IllegalArgumentException
+            if (matchMode == null || normalized.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            page = articleTagService.findPage(normalized, matchMode, cursor, size)  // 잘못된 커서는 IllegalArgumentException
+                    .map(ArticleResponse::new);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .headers(linkHeaders(page))
+                .body(page.getContent());
+    }
+
+    // lookupArticles() : id 가 많아 URL 이 너무 길어질 때 본문(JSON 배열)으로 보내는 여러 글 조회 (ex. [3, 1, 2])
+    // 글을 바꾸지 않는 조회이므로 GET 과 같이 인증 없이 허용함 (WebSecurityConfig)
+    @PostMapping(value = "/api/articles/lookup", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ArticleBatchResponse> lookupArticles(@RequestBody List<Long> ids) {
+        return findArticles(ids);
+    }
+
+    private ResponseEntity<ArticleBatchResponse> findArticles(List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);  // 요청 순서를 유지하면서 같은 id 는 한 번만
+        distinct.remove(null);
+
+        if (distinct.size() > maxBatchIds) {
+            return ResponseEntity.badRequest().build();
+        }
 
         return ResponseEntity.ok()
-                .body(articles);
+                .body(new ArticleBatchResponse(distinct, blogService.findAllById(distinct)));
+    }
+
+    // linkHeaders() : 현재 요청 URL 의 cursor 파라미터만 바꿔서 다음 / 이전 페이지 링크를 만듬
+    private HttpHeaders linkHeaders(CursorPage<?> page) {
+        List<String> links = new ArrayList<>();
+
+        if (page.hasNext()) {
+            links.add(pageLink(page.getNextCursor(), "next"));
+        }
+        if (page.hasPrev()) {
+            links.add(pageLink(page.getPrevCursor(), "prev"));
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        if (!links.isEmpty()) {
+            headers.add(HttpHeaders.LINK, String.join(", ", links));
+        }
+        return headers;
+    }
+
+    private String pageLink(String cursor, String rel) {
+        String uri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", cursor)
+                .toUriString();
+
+        return "<" + uri + ">; rel=\"" + rel + "\"";
     }
 
     @GetMapping("/api/articles/{id}")  // ex. /api/articles/3 GET 요청을 받으면 id에 3이 들어옴
     // URL 경로에서 값 추출
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id) {
+    // ETag(글 id + 버전), Last-Modified(수정 시간) 헤더를 함께 보내고, If-None-Match / If-Modified-Since 요청에는
+    // 글이 바뀌지 않았으면 본문을 직렬화하지 않고 304 Not Modified 로 응답함 (글은 BlogService 캐시에서 조회)
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id, WebRequest webRequest) {
         // @PathVariable 애너테이션 : URL에서 값을 가져오는 애너테이션
         // 위 애너테이션이 붙은 메서드의 동작 원리는 '/api/articles/3 GET' 요청을 받으면 id에 3이 들어옴
         // + 이 값은 앞서 만든 서비스 클래스의 findById() 메서드로 넘어가 3번 블로그 글을 찾음
         // 글을 찾으면 3번 글의 정보를 body에 담아 웹 브라우저로 전송
         Article article = blogService.findById(id);
 
+        if (webRequest.checkNotModified(ArticleETags.of(article), ArticleETags.lastModified(article))) {
+            return null;  // 이미 받은 글을 다시 확인한 것이므로 조회 수에 넣지 않음
+        }
+        articleViewService.increment(id);  // 조회 수는 메모리에서만 세고 주기적으로 DB 에 반영됨
+
         return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
                 .body(new ArticleResponse(article));
     }
 
@@ -82,11 +312,30 @@ public class BlogApiController {
     // '/api/articles/{id} PUT' 요청이 오면 Request Body 정보가 request로 넘어옴
     // 그리고 다시 서비스 클래스의 update() 메서드에 id와 request를 넘겨줌
     // 응답 값은 body에 담아 전송
-    public ResponseEntity<Article> updateArticle(@PathVariable long id, @RequestBody UpdateArticleRequest request) {
-        Article updateArticle = blogService.update(id, request);
+    // If-Match 헤더(조회할 때 받은 ETag)가 있으면 글이 그 사이에 수정되지 않았을 때만 수정함
+    // 응답의 ETag 는 수정된 글의 새 버전이므로 다음 수정 요청의 If-Match 로 사용할 수 있음
+    public ResponseEntity<Article> updateArticle(@PathVariable long id,
+                                                 @RequestBody UpdateArticleRequest request,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Article updateArticle = blogService.update(id, request, ArticleETags.versionFromIfMatch(ifMatch, id));
 
         return ResponseEntity.ok()
+                .eTag(ArticleETags.of(updateArticle))
                 .body(updateArticle);
     }
 
+    // If-Match 로 보낸 버전이 현재 글의 버전과 다르면 412 Precondition Failed
+    @ExceptionHandler(VersionMismatchException.class)
+    public ResponseEntity<String> handleVersionMismatch(VersionMismatchException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(e.getMessage());
+    }
+
+    // 같은 글을 동시에 수정해서 커밋 시점에 버전 충돌이 나면 409 Conflict
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("conflict: article was modified concurrently");
+    }
+
 }
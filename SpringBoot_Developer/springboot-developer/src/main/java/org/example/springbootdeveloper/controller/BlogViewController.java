@@ -1,47 +1,95 @@
 package org.example.springbootdeveloper.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.cache.RenderedPage;
+import org.example.springbootdeveloper.cache.RenderedPageCache;
 import org.example.springbootdeveloper.domain.Article;
 import org.example.springbootdeveloper.dto.ArticleListViewResponse;
 import org.example.springbootdeveloper.dto.ArticleViewResponse;
+import org.example.springbootdeveloper.dto.CursorPage;
+import org.example.springbootdeveloper.service.ArticleViewService;
 import org.example.springbootdeveloper.service.BlogService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Controller
 public class BlogViewController {
 
     private final BlogService blogService;
+    private final ArticleViewService articleViewService;
+    private final RenderedPageCache renderedPageCache;  // 렌더링된 글 / 목록 화면 캐시
+    private final SpringTemplateEngine templateEngine;
 
     // /articles GET 요청을 처리할 코드
     @GetMapping("/articles")
-    public String getArticles(Model model) {
-        List<ArticleListViewResponse> articles = blogService.findAll()
-                .stream()
-                .map(ArticleListViewResponse::new)
-                .toList();
-        model.addAttribute("articles", articles);  // 1. 블로그 글 리스트 저장
-        // addAttribute() : 모델에 값을 저장 + "articles" 키에 블로그 글 리스트를 저장함
-
-        return "articleList";  // 2. articleList.html 뷰 조회
-        // 반환값 "articleList" : resource/templates/articleList.html 을 찾도록 뷰의 이름을 지정함
+    // cursor 쿼리 파라미터가 있으면 해당 위치부터 한 페이지를 조회함 ([더 보기] 버튼)
+    // 같은 (cursor, size) 의 목록 화면을 렌더링한 결과가 캐시에 있으면 글 조회와 템플릿 렌더링 없이 바로 응답함
+    // 잘못된 cursor 는 400 Bad Request (오류 화면)
+    public String getArticles(@RequestParam(required = false) String cursor,
+                              @RequestParam(required = false) Integer size,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        RenderedPage rendered;
+        try {
+            rendered = renderedPageCache.getListView(cursor, size, () -> {
+                CursorPage<ArticleListViewResponse> page = blogService.findPage(cursor, size)  // 잘못된 커서는 IllegalArgumentException
+                        .map(ArticleListViewResponse::new);
+
+                Map<String, Object> model = new HashMap<>();
+                model.put("articles", page.getContent());  // 1. 블로그 글 리스트 저장
+                model.put("nextCursor", page.getNextCursor());  // 다음 페이지가 없으면 null -> [더 보기] 버튼을 숨김
+
+                return render("articleList", model, 0, request, response);  // 2. articleList.html 렌더링
+            });
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return null;
+        }
+
+        write(rendered, request, response);
+        return null;  // 응답을 직접 썼으므로 뷰를 렌더링하지 않음
     }
 
     @GetMapping("/articles/{id}")
     // getArticle() 메서드 : 인자 id에 URL로 넘어온 값을 받아 findById() 메서드로 넘겨 글을 조회
     // + 화면에서 사용할 모델에 데이터를 저장
     // 보여줄 화면의 템플릿 이름을 반환
-    public String getArticle(@PathVariable Long id, Model model) {
+    // 글이 바뀌지 않았으면 (If-None-Match / If-Modified-Since) 템플릿을 렌더링하지 않고 304 Not Modified 로 응답함
+    // 같은 버전의 글을 렌더링한 결과가 캐시에 있으면 템플릿 엔진을 거치지 않고 바로 응답함
+    public String getArticle(@PathVariable Long id, WebRequest webRequest,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
         Article article = blogService.findById(id);
-        model.addAttribute("article", new ArticleViewResponse(article));
 
-        return "article";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (webRequest.checkNotModified(ArticleETags.of(article), ArticleETags.lastModified(article))) {
+            return null;  // 뷰 이름 대신 null 을 반환하면 본문 없이 304 로 응답함 (조회 수에 넣지 않음)
+        }
+        articleViewService.increment(id);
+
+        RenderedPage rendered = renderedPageCache.getArticleView(id, article.getVersion(), () ->
+                render("article", Map.of("article", new ArticleViewResponse(article)), article.getVersion(), request, response));
+
+        write(rendered, request, response);
+        return null;
     }
 
 
@@ -55,8 +103,77 @@ public class BlogViewController {
         } else {  // 3. id가 없으면 수정
             Article article = blogService.findById(id);
             model.addAttribute("article", new ArticleViewResponse(article));
+            model.addAttribute("articleETag", ArticleETags.of(article));
+            // 수정할 때 If-Match 헤더로 보내서, 그 사이에 다른 사용자가 수정했으면 덮어쓰지 않도록 함
         }
 
         return "newArticle";
     }
-}
\ No newline at end of file
+
+    // 템플릿을 문자열로 렌더링한 뒤 압축해 둠 (뷰 리졸버를 거칠 때와 같은 템플릿 엔진 / 설정을 사용)
+    private RenderedPage render(String template, Map<String, Object> model, long version,
+                                HttpServletRequest request, HttpServletResponse response) {
+        JakartaServletWebApplication application = JakartaServletWebApplication.buildApplication(request.getServletContext());
+        WebContext context = new WebContext(application.buildExchange(request, response),
+                RequestContextUtils.getLocale(request), model);
+
+        return RenderedPage.compress(templateEngine.process(template, context), version);
+    }
+
+    // 클라이언트가 gzip 을 받을 수 있으면 압축된 바이트를 그대로 보내고, 아니면 압축을 풀어서 보냄
+    private static void write(RenderedPage page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.TEXT_HTML_VALUE + ";charset=UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(page.getGzipped().length);
+            response.getOutputStream().write(page.getGzipped());
+        } else {
+            response.setContentLength(page.getLength());
+            page.writeUncompressed(response.getOutputStream());
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        return acceptsGzip(String.join(",", Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING))));
+    }
+
+    // Accept-Encoding 의 coding 과 q 값을 읽어 gzip 을 받을 수 있는지 확인 (ex. "br, gzip;q=0.8, identity")
+    // - gzip (x-gzip) 의 q 값이 0 보다 커야 함 (gzip;q=0 은 받지 않는다는 뜻), gzip 이 없으면 "*" 의 q 값을 따름
+    // - 헤더가 없거나 identity / 다른 coding 만 받는 클라이언트에게는 압축하지 않고 보냄
+    // (톰캣 응답 압축과 같은 기준 : 여기서 압축하지 않은 화면을 톰캣이 다시 압축하거나, 그 반대가 되지 않도록)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        double gzip = -1;
+        double any = -1;
+
+        for (String element : acceptEncoding.split(",")) {
+            String[] params = element.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.isEmpty()) {
+                continue;
+            }
+
+            double q = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;  // 잘못된 q 값은 받지 않는 것으로 봄
+                    }
+                }
+            }
+
+            switch (coding) {
+                case "gzip", "x-gzip" -> gzip = Math.max(gzip, q);
+                case "*" -> any = Math.max(any, q);
+                default -> {
+                }
+            }
+        }
+
+        return (gzip < 0 ? any : gzip) > 0;
+    }
+}
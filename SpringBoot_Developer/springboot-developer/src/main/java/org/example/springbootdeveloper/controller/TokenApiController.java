@@ -0,0 +1,47 @@
+package org.example.springbootdeveloper.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.dto.CreateAccessTokenRequest;
+import org.example.springbootdeveloper.dto.CreateAccessTokenResponse;
+import org.example.springbootdeveloper.dto.LoginRequest;
+import org.example.springbootdeveloper.dto.LoginResponse;
+import org.example.springbootdeveloper.service.TokenService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+// 토큰 API : 로그인 / 액세스 토큰 재발급
+// 발급받은 액세스 토큰은 'Authorization: Bearer <토큰>' 헤더로 보내면 세션 없이 인증됨
+
+@RequiredArgsConstructor
+@RestController
+public class TokenApiController {
+
+    private final TokenService tokenService;
+
+    @PostMapping("/api/login")
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
+        LoginResponse response = tokenService.login(request.getEmail(), request.getPassword());
+
+        return ResponseEntity.ok()
+                .body(response);
+    }
+
+    @PostMapping("/api/token")
+    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(@RequestBody CreateAccessTokenRequest request) {
+        String newAccessToken = tokenService.createNewAccessToken(request.getRefreshToken());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new CreateAccessTokenResponse(newAccessToken));
+    }
+
+    // 로그인 실패 / 유효하지 않은 리프레시 토큰 -> 401 Unauthorized
+    @ExceptionHandler({AuthenticationException.class, IllegalArgumentException.class})
+    public ResponseEntity<Void> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+}
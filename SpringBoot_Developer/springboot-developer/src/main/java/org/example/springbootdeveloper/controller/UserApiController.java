@@ -0,0 +1,40 @@
+package org.example.springbootdeveloper.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.dto.AddUserRequest;
+import org.example.springbootdeveloper.service.UserService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+// 회원 가입 API : 가입한 뒤 POST /api/login 으로 로그인함
+
+@RequiredArgsConstructor
+@RestController
+public class UserApiController {
+
+    private final UserService userService;
+
+    @PostMapping("/api/signup")
+    public ResponseEntity<Void> signup(@RequestBody AddUserRequest request) {
+        userService.save(request);
+
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    // 이메일 / 비밀번호가 비어 있음 -> 400 Bad Request
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> badRequest() {
+        return ResponseEntity.badRequest().build();
+    }
+
+    // 이미 가입된 이메일 -> 409 Conflict
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Void> conflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
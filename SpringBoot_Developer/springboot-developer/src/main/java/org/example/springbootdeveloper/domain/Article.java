@@ -2,12 +2,31 @@ package org.example.springbootdeveloper.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.springbootdeveloper.config.SecondLevelCacheConfig;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.markdown.RenderedContent;
+import org.example.springbootdeveloper.tag.Tags;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity // 엔티티로 지정
+@Table(indexes = {
+        @Index(name = "idx_article_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_article_updated_at", columnList = "updated_at")
+})
+// 목록 조회는 (created_at, id) 기준 키셋 페이지네이션을 사용하므로 같은 순서의 복합 인덱스를 둠
+// 목록 ETag 에 사용하는 max(updated_at) 도 인덱스로 바로 구함
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ARTICLE_REGION)
+// 2차 캐시 : id 로 조회할 때 (findById) DB 대신 캐시에서 읽음
+// READ_WRITE : 수정 / 삭제하는 동안 캐시 항목을 잠가 두고 커밋 후 새 값으로 교체하므로 다른 요청이 이전 값을 읽지 않음
+@EntityListeners(AuditingEntityListener.class)  // 생성, 수정 시간을 자동으로 채우기 위해 Auditing 리스너 등록
+// @EnableJpaAuditing 만으로는 동작하지 않고, 엔티티에 AuditingEntityListener 가 등록되어 있어야 @CreatedDate, @LastModifiedDate 가 채워짐
 @Getter  // 클래스 필드에 대해 별도 코드 없이 모든 필드에 대한 접근자 메서드를 만들 수 있게 함
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // 접근 제어자가 PROTECTED인 기본 생성자를 별도의 코드 없이 생성함
 public class Article {
@@ -16,8 +35,11 @@ public class Article {
     // @Id 만 사용할 경우 기본 키(PK)를 직접 할당 해주어야 함
     // 기본 키를 직접 할당하는 대신 DB가 생성해주는 값을 사용하려면 @GeneratedValue 사용
     // @GeneratedValue : 기본 키(PK)를 자동으로 생성해주는 Annotation
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본키를 자동으로 1씩 증가
-    // IDENTITY 전략 : 기본 키 생성을 DB에 위임하는 전략, AUTO_INCREMENT 처럼 DB에 값을 저장하고 나서 기본 키 값을 구할 수 있을 때 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    // SEQUENCE 전략 : DB 시퀀스에서 기본 키를 미리 받아오는 전략
+    // IDENTITY 전략은 INSERT 를 실행해야 기본 키를 알 수 있어서 Hibernate 가 INSERT 를 JDBC 배치로 묶지 못함
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
+    // allocationSize = 50 : 시퀀스를 한 번 호출할 때 50개의 id 를 할당받음 (pooled 최적화, 50건마다 시퀀스 조회 1번)
     @Column(name = "id", updatable = false)  // @Column : 객체 필드를 테이블의 컬럼에 매핑 시켜 주는 Annotaion
     // name 속성 : DB 테이블의 "id" 컬럼을 지정
     // updatable 속성 : "id" 컬럼이 DB에 업데이트 가능한지 여부를 지정
@@ -27,24 +49,54 @@ public class Article {
     @Column(name = "title", nullable = false) // 'title'이라는 not null 컬럼과 매칭
     private String title;
 
-    @Column(name = "content", nullable = false)
+    @Column(name = "content", nullable = false)  // 작성한 본문 (Markdown), 수정 화면 / 내보내기 / 검색에 사용
     private String content;
 
+    // 저장 / 수정할 때 본문을 렌더링한 결과 (MarkdownRenderer), 조회할 때는 파싱 없이 그대로 사용함
+    // 이 컬럼이 생기기 전에 저장된 글은 null 이며 ArticleRenderBackfillService 가 채움 (그 전에는 본문을 글자 그대로 보여줌)
+    @Column(name = "content_html", length = 65536)  // 참조 링크 등으로 HTML 이 본문보다 훨씬 길어질 수 있음
+    private String contentHtml;
+
+    @Column(name = "excerpt", length = ArticleSummary.EXCERPT_LENGTH)  // Markdown 문법을 뺀 본문 앞부분 (목록 미리보기)
+    private String excerpt;
+
+    // 태그 : 정규화한 태그를 쉼표로 이어 저장함 (Tags), 태그가 없으면 null
+    // 태그로 거르는 조회는 DB 가 아닌 메모리 비트맵 색인(ArticleTagIndex)으로 하므로 태그 테이블 / 조인 없이 컬럼 하나로 둠
+    @Getter(AccessLevel.NONE)  // 컬럼 값 대신 태그 목록을 반환하는 getTags() 사용
+    @Column(name = "tags", length = Tags.COLUMN_LENGTH)
+    private String tags;
+
     // Entity 에 생성, 수정 시간 추가
     // 글의 생성 시간을 뷰에서 확인
     @CreatedDate // Entity 가 생성될 때 생성 시간을 "created_at" 컬럼에 저장
-    @Column(name = "created_at")
+    @Column(name = "created_at", updatable = false)  // 생성 시간은 수정할 때 바뀌지 않음
     private LocalDateTime createdAt;
 
     @LastModifiedDate  // Entity 가 수정될 때 마지막으로 수정된 시간을 "updated_at" 칼럼에 저장
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version  // 낙관적 락(optimistic lock) 용 버전, 수정될 때마다 1씩 증가
+    // UPDATE ... WHERE id = ? AND version = ? 으로 수정하므로, 그 사이에 다른 트랜잭션이 먼저 수정했으면 실패함
+    // -> 행 잠금(pessimistic lock) 없이도 동시에 수정할 때 나중 수정이 앞선 수정을 덮어쓰지 않음 (lost update 방지)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "views", nullable = false, updatable = false)  // 조회 수
+    // ArticleViewService 가 메모리에 모아둔 조회 수를 'views = views + ?' 로 직접 더하므로 Hibernate 는 이 컬럼을 수정하지 않음 (updatable = false)
+    // -> 글을 수정할 때 엔티티에 남아 있는 이전 조회 수로 덮어쓰지 않음, 최신 조회 수는 ArticleViewService 에서 조회
+    private long views;
+
     @Builder  // 빌더 패턴으로 객체 생성
     // @Builder 애너테이션 : 롬북에서 지원 & 생성자 위에 입력 시 빌더 패턴 방식으로 객체 생성 (편리)
-    public Article(String title, String content) {
+    public Article(String title, String content, List<String> tags) {
         this.title = title;
         this.content = content;
+        this.tags = Tags.join(Tags.normalize(tags));
+    }
+
+    public List<String> getTags() {
+        return Tags.split(tags);
     }
 
     // 엔티티에 요청받은 내용으로 값을 수정하는 메서드 : update() 메서드
@@ -53,6 +105,17 @@ public class Article {
         this.content = content;
     }
 
+    // 태그를 바꾸는 메서드 : 정규화한 태그로 교체함 (잘못된 태그는 IllegalArgumentException)
+    public void updateTags(List<String> tags) {
+        this.tags = Tags.join(Tags.normalize(tags));
+    }
+
+    // 본문을 렌더링한 결과를 저장 : 본문을 저장 / 수정할 때 함께 호출함
+    public void render(RenderedContent rendered) {
+        this.contentHtml = rendered.getHtml();
+        this.excerpt = rendered.getExcerpt();
+    }
+
 
 
 }
@@ -0,0 +1,37 @@
+package org.example.springbootdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 리프레시 토큰 : 사용자마다 마지막으로 발급한 리프레시 토큰 하나를 저장
+// 액세스 토큰을 새로 발급할 때만 조회하므로 (API 요청마다 조회하지 않음) 저장해 두고 로그아웃 / 재발급 시 무효화할 수 있게 함
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_refresh_token_refresh_token", columnList = "refresh_token"))  // 토큰으로 조회하므로 인덱스 생성
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(name = "refresh_token", nullable = false, length = 512)
+    private String refreshToken;
+
+    public RefreshToken(Long userId, String refreshToken) {
+        this.userId = userId;
+        this.refreshToken = refreshToken;
+    }
+
+    public RefreshToken update(String newRefreshToken) {
+        this.refreshToken = newRefreshToken;
+        return this;
+    }
+}
@@ -5,8 +5,10 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.apache.catalina.UserDatabase;
-import org.hibernate.annotations.Table;
+import org.example.springbootdeveloper.cache.UserCacheInvalidator;
+import org.example.springbootdeveloper.config.SecondLevelCacheConfig;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,15 +19,18 @@ import java.util.List;
 
 // User 클래스가 상속한 UserDetails 클래스 : Spring Security 에서 사용자의 인증 정보를 담아 두는 인터페이스
 
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_email", columnList = "email", unique = true))
 // @Table : 맵핑할 테이블을 지정
 // naem : 매핑할 테이블의 이름을 지정
 // catelog : DB의 catalog를 맵핑
 // schema : DB 스키마와 맵핑
 // uniqueConstraint : DDL 쿼리를 작성할 때 제약 조건을 생성
+// indexes : 로그인할 때마다 email 로 사용자를 찾으므로 email 에 유니크 인덱스를 만들어 테이블 전체를 읽지 않도록 함
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_REGION)  // 2차 캐시 : 로그인할 때마다 id 로 조회하는 사용자를 캐시
+@EntityListeners(UserCacheInvalidator.class)  // 사용자가 수정 / 삭제되면 인증용 사용자 캐시(UserDetailsCache)에서 제거
 public class User implements UserDetails { // UserDetails 를 상혹받아 인증 객체로 사용
 
     @Id  // @Id : JPA가 객체를 관리할 때 식별할 기본키를 지정
@@ -33,7 +38,7 @@ public class User implements UserDetails { // UserDetails 를 상혹받아 인
     @Column(name = "id", updatable = false)
     private Long id;
 
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false, updatable = false)  // 유니크 여부는 idx_users_email 인덱스로 보장, 캐시 키로 쓰이므로 바꿀 수 없음
     private String email;
 
     @Column(name = "password")
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.springbootdeveloper.domain.Article;
 
+import java.util.List;
+
 // Service 계층에서 요청을 받은 객체
 // BlogService 클래스를 생성한 다음에 블로그 글 추가 메서드인 save() 구현
 // 컨트롤러에서 요청한 본문을 받을 객체
@@ -16,6 +18,11 @@ public class AddArticleRequest {
 
     private String title;
     private String content;
+    private List<String> tags;  // 없으면 태그 없는 글
+
+    public AddArticleRequest(String title, String content) {
+        this(title, content, null);
+    }
 
     // toEntity() 빌더 패턴을 사용해 DTO를 엔티티로 만들어주는 메서드
     // + 추후에 블로그 글을 추가할 때 저장할 엔티티로 변환하는 용도로 사용
@@ -23,6 +30,7 @@ public class AddArticleRequest {
         return Article.builder()
                 .title(title)
                 .content(content)
+                .tags(tags)
                 .build();
     }
 }
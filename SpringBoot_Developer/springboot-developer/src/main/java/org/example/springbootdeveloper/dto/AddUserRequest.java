@@ -0,0 +1,16 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원 가입 요청 (POST /api/signup) : 이메일 / 비밀번호
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class AddUserRequest {
+
+    private String email;
+    private String password;
+}
@@ -0,0 +1,56 @@
+package org.example.springbootdeveloper.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.example.springbootdeveloper.domain.Article;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 여러 글 한 번에 조회(GET /api/articles?ids=..., POST /api/articles/lookup) 결과
+// 글은 요청한 id 순서대로 담고 (같은 id 는 한 번만), 없는 글의 id 는 missing 에 담음 (일부가 없어도 요청 전체는 성공)
+// 글 하나는 단건 조회(ArticleResponse)와 같은 필드에 id / version 을 더한 모양
+
+@Getter
+public class ArticleBatchResponse {
+
+    private final List<Item> articles;
+    private final List<Long> missing;
+
+    public ArticleBatchResponse(Collection<Long> ids, Map<Long, Article> found) {
+        this.articles = new ArrayList<>(found.size());
+        this.missing = new ArrayList<>();
+
+        for (Long id : ids) {
+            Article article = found.get(id);
+            if (article != null) {
+                articles.add(new Item(article));
+            } else {
+                missing.add(id);
+            }
+        }
+    }
+
+    @Getter
+    public static class Item {
+
+        private final long id;
+        private final String title;
+        private final String content;
+        private final List<String> tags;
+        @JsonInclude(JsonInclude.Include.NON_NULL)  // 아직 렌더링되지 않은 글은 응답에서 뺌
+        private final String contentHtml;
+        private final Long version;  // 글 버전 (수정될 때마다 증가, 단건 조회의 ETag 에 들어가는 값)
+
+        public Item(Article article) {
+            this.id = article.getId();
+            this.title = article.getTitle();
+            this.content = article.getContent();
+            this.tags = article.getTags();
+            this.contentHtml = article.getContentHtml();
+            this.version = article.getVersion();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 키셋(커서) 페이지네이션에서 사용하는 커서
+// 마지막으로 본 글의 (createdAt, id) 와 이동 방향을 담고, 클라이언트에게는 Base64 로 인코딩한 불투명한 토큰으로 전달함
+// OFFSET 방식과 달리 앞쪽 행을 건너뛰며 읽지 않으므로, 테이블이 커져도 페이지 조회 비용이 일정함
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArticleCursor {
+
+    public enum Direction {
+        NEXT,  // 커서보다 오래된 글 (다음 페이지)
+        PREV   // 커서보다 최신 글 (이전 페이지)
+    }
+
+    private static final String DELIMITER = "|";
+
+    private final Direction direction;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static ArticleCursor next(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(Direction.NEXT, createdAt, id);
+    }
+
+    public static ArticleCursor prev(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(Direction.PREV, createdAt, id);
+    }
+
+    // encode() : "방향|생성 시간|id" 문자열을 URL 에 안전한 Base64 로 인코딩
+    public String encode() {
+        String raw = direction.name().charAt(0) + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // decode() : 클라이언트가 보낸 토큰을 커서로 복원, 형식이 잘못되었으면 IllegalArgumentException 예외 발생
+    public static ArticleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, 3);
+
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("invalid cursor: " + token);
+            }
+
+            Direction direction = switch (parts[0]) {
+                case "N" -> Direction.NEXT;
+                case "P" -> Direction.PREV;
+                default -> throw new IllegalArgumentException("invalid cursor: " + token);
+            };
+
+            return new ArticleCursor(direction, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 은 IllegalArgumentException 의 하위 클래스
+            throw new IllegalArgumentException("invalid cursor: " + token, e);
+        }
+    }
+}
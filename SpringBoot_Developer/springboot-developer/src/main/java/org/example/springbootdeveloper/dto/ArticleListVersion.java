@@ -0,0 +1,21 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 글 목록 전체에 대한 검증자(validator)
+// 글 수와 가장 최근 수정 시간으로 구성되며, 글이 추가 / 수정 / 삭제되면 둘 중 하나가 반드시 바뀜
+// 목록 API 의 ETag 를 만들 때 사용하므로 목록 페이지를 조회하지 않고도 304 Not Modified 여부를 판단할 수 있음
+
+@Getter
+public class ArticleListVersion {
+
+    private final long count;
+    private final LocalDateTime lastModifiedAt;  // 글이 하나도 없으면 null
+
+    public ArticleListVersion(long count, LocalDateTime lastModifiedAt) {
+        this.count = count;
+        this.lastModifiedAt = lastModifiedAt;
+    }
+}
@@ -22,4 +22,12 @@ public class ArticleListViewResponse {
         this.content = article.getContent();
         this.createdAt = article.getCreatedAt();
     }
+
+    // 목록 화면은 본문 미리보기만 보여주므로 요약 프로젝션(ArticleSummary)으로부터 바로 만듬
+    public ArticleListViewResponse(ArticleSummary summary) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.content = summary.getExcerpt();
+        this.createdAt = summary.getCreatedAt();
+    }
 }
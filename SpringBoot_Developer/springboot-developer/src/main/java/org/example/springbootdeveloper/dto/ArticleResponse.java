@@ -1,18 +1,35 @@
 package org.example.springbootdeveloper.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import org.example.springbootdeveloper.domain.Article;
 
+import java.util.List;
+
 @Getter
 public class ArticleResponse {
 
     private final String title;
     private final String content;
+    private final List<String> tags;
+    @JsonInclude(JsonInclude.Include.NON_NULL)  // 목록(미리보기) / 아직 렌더링되지 않은 글은 응답에서 뺌
+    private final String contentHtml;  // 저장할 때 본문(Markdown)을 렌더링해 둔 HTML
 
     public ArticleResponse(Article article) {
     // 글은 제목과 내용 구성이므로 해당 필드를 가지는 클래스를 만든 다음,
     // 엔티티를 인수로 받는 생성자를 추가
         this.title = article.getTitle();
         this.content = article.getContent();
+        this.tags = article.getTags();
+        this.contentHtml = article.getContentHtml();
+    }
+
+    // 목록 조회용 생성자 : content 에는 본문 전체가 아니라 요약 프로젝션의 미리보기(excerpt)가 담김
+    // 본문 전체는 /api/articles/{id} 로 조회
+    public ArticleResponse(ArticleSummary summary) {
+        this.title = summary.getTitle();
+        this.content = summary.getExcerpt();
+        this.tags = summary.getTags();
+        this.contentHtml = null;
     }
 }
@@ -0,0 +1,21 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+// 검색 결과 응답 : 목록 조회와 같이 본문 대신 미리보기(excerpt)를 담고, 관련도 점수(BM25)를 함께 응답함
+
+@Getter
+public class ArticleSearchResponse {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final float score;
+
+    public ArticleSearchResponse(ArticleSummary summary, float score) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.excerpt = summary.getExcerpt();
+        this.score = score;
+    }
+}
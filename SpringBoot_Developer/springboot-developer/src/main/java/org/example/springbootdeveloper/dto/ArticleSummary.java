@@ -0,0 +1,33 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.Getter;
+import org.example.springbootdeveloper.tag.Tags;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 글 목록 조회용 요약 프로젝션
+// BlogRepository 의 JPQL 생성자 표현식(select new ...)으로 바로 만들어지므로 엔티티가 영속성 컨텍스트에 올라가지 않음
+// -> 스냅샷 / 변경 감지 비용이 없고, 본문 전체 대신 앞부분(excerpt)만 DB 에서 읽어옴
+
+@Getter
+public class ArticleSummary {
+
+    // 목록에서 보여줄 본문 미리보기의 최대 길이 (JPQL substring 에서 사용하므로 컴파일 타임 상수)
+    public static final int EXCERPT_LENGTH = 200;
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final LocalDateTime createdAt;
+    private final List<String> tags;
+
+    // tags : article.tags 컬럼 값 (쉼표로 이은 태그, 없으면 null)
+    public ArticleSummary(Long id, String title, String excerpt, LocalDateTime createdAt, String tags) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.createdAt = createdAt;
+        this.tags = Tags.split(tags);
+    }
+}
@@ -5,6 +5,7 @@ import lombok.NoArgsConstructor;
 import org.example.springbootdeveloper.domain.Article;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @NoArgsConstructor
 @Getter
@@ -12,13 +13,17 @@ public class ArticleViewResponse {
 
     private Long id;
     private String title;
-    private String content;
+    private String content;  // 작성한 본문 (Markdown), 수정 화면에서 사용
+    private String contentHtml;  // 저장할 때 렌더링해 둔 HTML, 아직 렌더링되지 않은 글은 null
     private LocalDateTime createdAt;
+    private List<String> tags;
 
     public ArticleViewResponse(Article article) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
+        this.contentHtml = article.getContentHtml();
         this.createdAt = article.getCreatedAt();
+        this.tags = article.getTags();
     }
 }
@@ -0,0 +1,36 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 대량 등록(/api/articles/bulk) 결과
+// 실패한 항목이 있어도 나머지 항목은 저장되며, 실패한 항목의 순번(0부터)과 사유를 함께 응답함
+
+@Getter
+public class BulkImportResponse {
+
+    private final int received;   // 요청에 담긴 글 수
+    private final int imported;   // 저장에 성공한 글 수
+    private final int failed;     // 실패한 글 수
+    private final List<Failure> failures;  // 실패 상세 (너무 많으면 앞쪽 일부만 담음)
+
+    public BulkImportResponse(int received, int imported, int failed, List<Failure> failures) {
+        this.received = received;
+        this.imported = imported;
+        this.failed = failed;
+        this.failures = failures;
+    }
+
+    @Getter
+    public static class Failure {
+
+        private final int index;
+        private final String message;
+
+        public Failure(int index, String message) {
+            this.index = index;
+            this.message = message;
+        }
+    }
+}
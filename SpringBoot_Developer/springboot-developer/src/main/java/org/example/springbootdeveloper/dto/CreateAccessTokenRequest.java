@@ -0,0 +1,15 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 액세스 토큰 재발급 요청 (POST /api/token)
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class CreateAccessTokenRequest {
+
+    private String refreshToken;
+}
@@ -0,0 +1,40 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 커서 기반으로 조회한 한 페이지 분량의 결과
+// 다음 / 이전 페이지가 없으면 해당 커서는 null
+
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final String prevCursor;
+
+    public CursorPage(List<T> content, String nextCursor, String prevCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
+    // map() : 커서는 그대로 두고 내용만 다른 타입(응답 DTO 등)으로 변환
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream()
+                .<R>map(mapper)
+                .toList();
+
+        return new CursorPage<>(mapped, nextCursor, prevCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrev() {
+        return prevCursor != null;
+    }
+}
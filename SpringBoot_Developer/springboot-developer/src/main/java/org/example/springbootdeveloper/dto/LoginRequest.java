@@ -0,0 +1,16 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 로그인 요청 (POST /api/login) : 이메일 / 비밀번호
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class LoginRequest {
+
+    private String email;
+    private String password;
+}
@@ -0,0 +1,14 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로그인 응답 : API 요청에 사용할 액세스 토큰과, 액세스 토큰이 만료되면 새로 발급받을 때 사용할 리프레시 토큰
+
+@AllArgsConstructor
+@Getter
+public class LoginResponse {
+
+    private String accessToken;
+    private String refreshToken;
+}
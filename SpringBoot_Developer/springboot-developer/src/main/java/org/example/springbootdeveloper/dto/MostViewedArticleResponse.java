@@ -0,0 +1,19 @@
+package org.example.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+// 많이 본 글 응답 : 글 id, 제목, 조회 수
+
+@Getter
+public class MostViewedArticleResponse {
+
+    private final Long id;
+    private final String title;
+    private final long views;
+
+    public MostViewedArticleResponse(ArticleSummary summary, long views) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.views = views;
+    }
+}
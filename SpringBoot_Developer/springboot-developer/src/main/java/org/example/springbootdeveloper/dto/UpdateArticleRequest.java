@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -12,4 +14,9 @@ public class UpdateArticleRequest {
     // 글에서 수정해야 하는 내용은 제목과 내용이므로 그에 맞게 제목과 내용 필드로 구성
     private String title;
     private String content;
+    private List<String> tags;  // 태그를 바꿀 때만 보냄 (null 이면 기존 태그 유지, 빈 배열이면 태그를 모두 지움)
+
+    public UpdateArticleRequest(String title, String content) {
+        this(title, content, null);
+    }
 }
@@ -0,0 +1,21 @@
+package org.example.springbootdeveloper.exception;
+
+import lombok.Getter;
+
+// 수정 요청의 If-Match 로 지정한 버전과 현재 글의 버전이 다를 때 발생하는 예외
+// (다른 사용자가 먼저 글을 수정함) -> 412 Precondition Failed 로 응답
+
+@Getter
+public class VersionMismatchException extends RuntimeException {
+
+    private final long id;
+    private final Long expectedVersion;
+    private final Long actualVersion;
+
+    public VersionMismatchException(long id, Long expectedVersion, Long actualVersion) {
+        super("version mismatch: " + id + " (expected " + expectedVersion + ", actual " + actualVersion + ")");
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+}
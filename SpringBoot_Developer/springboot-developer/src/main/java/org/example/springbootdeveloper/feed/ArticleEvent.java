@@ -0,0 +1,53 @@
+package org.example.springbootdeveloper.feed;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.example.springbootdeveloper.domain.Article;
+
+import java.time.LocalDateTime;
+
+// 글 변경 이벤트 : GET /api/articles/events 로 구독한 클라이언트에게 SSE 로 보냄
+// id / type 은 SSE 의 id: / event: 줄로 보내고, data: 줄에는 나머지 필드를 JSON 으로 보냄
+// 삭제 이벤트에는 글 id 만 담음 (title / version / updatedAt 없음)
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ArticleEvent {
+
+    @JsonIgnore
+    private final long id;  // 이벤트 번호 (Last-Event-ID 로 이어 받을 때 사용)
+
+    @JsonIgnore
+    private final Type type;
+
+    private final long articleId;
+    private final String title;
+    private final Long version;
+    private final LocalDateTime updatedAt;
+
+    public ArticleEvent(long id, Type type, long articleId, Article article) {
+        this.id = id;
+        this.type = type;
+        this.articleId = articleId;
+        this.title = article == null ? null : article.getTitle();
+        this.version = article == null ? null : article.getVersion();
+        this.updatedAt = article == null ? null : article.getUpdatedAt();
+    }
+
+    public enum Type {
+        CREATED("article-created"),
+        UPDATED("article-updated"),
+        DELETED("article-deleted");
+
+        private final String eventName;  // SSE event 이름 (EventSource.addEventListener 에 사용)
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String getEventName() {
+            return eventName;
+        }
+    }
+}
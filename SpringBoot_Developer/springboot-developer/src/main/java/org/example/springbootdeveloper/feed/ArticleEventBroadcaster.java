@@ -0,0 +1,482 @@
+package org.example.springbootdeveloper.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.domain.Article;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 글 변경 이벤트 방송 (Server-Sent Events)
+// BlogService 가 글을 추가 / 수정 / 삭제하면 커밋 후에 이벤트를 만들어 모든 구독자에게 보냄
+// - 연결마다 스레드를 두지 않음 : SseEmitter 는 서블릿 비동기 요청이므로 대기 중인 연결은 스레드를 쓰지 않고,
+//   실제 쓰기는 작은 공용 스레드 풀(blog.feed.writer-threads)이 구독자별 버퍼를 비우면서 함
+// - 이벤트는 한 번만 JSON 으로 직렬화해서 (SseFrame) 모든 구독자가 같은 객체를 공유함
+// - 구독자마다 버퍼 크기(blog.feed.buffer-size)를 제한하고, 넘치면 overflow-policy 에 따라
+//   DROP_OLDEST : 가장 오래된 이벤트를 버림 (클라이언트는 이벤트 번호가 건너뛴 것으로 알 수 있음)
+//   DISCONNECT  : 연결을 끊음 (클라이언트가 Last-Event-ID 로 다시 연결해서 최근 이벤트부터 이어 받음)
+// - 최근 이벤트 replay-size 개를 링 버퍼에 보관해서 Last-Event-ID 이후의 이벤트를 다시 보냄
+//   링 버퍼보다 오래된 번호(재시작 전의 번호 등)면 reset 이벤트를 보내 목록을 다시 읽도록 함
+// - 대량 등록처럼 글이 한꺼번에 추가되면 글마다 이벤트를 보내지 않고 reset 이벤트 하나로 목록을 다시 읽도록 함 (reset())
+// - 이벤트 번호는 시작 시각(ms)부터 1씩 증가하므로 재시작 후에도 이전 번호와 겹치지 않음
+// - heartbeat-interval 마다 주석 줄을 보내 끊어진 연결을 찾아 정리하고, 프록시가 유휴 연결을 닫지 않도록 함
+// - 쓰기 한 번이 write-timeout 보다 오래 걸리면 (클라이언트가 읽지 않아 소켓 버퍼가 가득 참) 그 구독자의 연결을 끊음 (expireStalledWrites())
+//   SseEmitter.send() 는 블로킹이고 다른 스레드에서 중단시킬 수 없으므로, 멈춘 쓰기가 끝날 때까지 (클라이언트가 읽거나 서블릿 컨테이너의 쓰기 타임아웃)
+//   스레드 풀에 스레드를 하나 더 두어 다른 구독자에게 보내는 쓰기가 느린 클라이언트 때문에 밀리지 않도록 함
+
+@Slf4j
+@Component
+public class ArticleEventBroadcaster {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DISCONNECT
+    }
+
+    static final String RESET_EVENT = "reset";
+
+    // 연결 직후 보내는 주석 : 응답 헤더를 바로 보내고, 끊기면 3초 뒤에 다시 연결하도록 알려줌
+    private static final SseFrame CONNECTED = SseFrame.of(SseEmitter.event().reconnectTime(3000).comment("connected"));
+    private static final SseFrame HEARTBEAT = SseFrame.of(SseEmitter.event().comment("heartbeat"));
+
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor writers;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> writing = ConcurrentHashMap.newKeySet();  // 지금 쓰고 있는 구독자 (연결을 끊는 중인 구독자 포함)
+    private final LongAdder dropped = new LongAdder();  // 버퍼가 넘쳐 버린 이벤트 수 (연결을 끊은 경우 포함)
+    private final LongAdder stalled = new LongAdder();  // 쓰기가 write-timeout 을 넘겨 연결을 끊은 구독자 수
+
+    // 이벤트 번호 발급 / 링 버퍼 / 구독 시작이 서로 겹치지 않도록 (새 구독자가 이어 받는 이벤트와 실시간 이벤트 사이에 빠지거나 겹치는 이벤트가 없음)
+    private final Lock lock = new ReentrantLock();
+    private final SseFrame[] recent;  // 최근 이벤트 링 버퍼, lock 으로 보호됨
+    private final long firstId;       // 이 인스턴스가 발급한 번호는 firstId 보다 큼
+    private long lastId;              // 마지막으로 발급한 이벤트 번호, lock 으로 보호됨
+
+    public ArticleEventBroadcaster(ObjectMapper objectMapper,
+                                   @Value("${blog.feed.replay-size:256}") int replaySize,
+                                   @Value("${blog.feed.buffer-size:64}") int bufferSize,
+                                   @Value("${blog.feed.overflow-policy:drop-oldest}") OverflowPolicy overflowPolicy,
+                                   @Value("${blog.feed.max-subscribers:20000}") int maxSubscribers,
+                                   @Value("${blog.feed.timeout:30m}") Duration timeout,
+                                   @Value("${blog.feed.writer-threads:4}") int writerThreads,
+                                   @Value("${blog.feed.write-timeout:10s}") Duration writeTimeout) {
+        this.objectMapper = objectMapper;
+        this.recent = new SseFrame[replaySize];
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("article-feed-");
+        threadFactory.setDaemon(true);
+        this.writers = new ThreadPoolExecutor(writerThreads, writerThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+
+        this.firstId = System.currentTimeMillis();
+        this.lastId = firstId;
+    }
+
+    // subscribe() : 새 구독을 시작, lastEventId 가 있으면 그 이후의 이벤트부터 보냄
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(emitter, lastEventId);
+        return emitter;
+    }
+
+    // 구독자 수가 최대 수보다 적으면 true (넘으면 컨트롤러가 503 으로 응답함)
+    public boolean hasCapacity() {
+        return subscribers.size() < maxSubscribers;
+    }
+
+    // created() / updated() / deleted() : 트랜잭션 안에서 호출되면 커밋된 후에 보냄 (롤백된 변경은 보내지 않음)
+    // 수정된 글의 버전 / 수정 시간은 flush 할 때 바뀌므로 이벤트는 커밋 후에 만듬
+    public void created(Article article) {
+        afterCommit(() -> publish(ArticleEvent.Type.CREATED, article.getId(), article));
+    }
+
+    public void updated(Article article) {
+        afterCommit(() -> publish(ArticleEvent.Type.UPDATED, article.getId(), article));
+    }
+
+    public void deleted(long articleId) {
+        afterCommit(() -> publish(ArticleEvent.Type.DELETED, articleId, null));
+    }
+
+    // reset() : 글이 한꺼번에 바뀌었을 때 (대량 등록의 묶음 하나가 커밋됨) 목록을 다시 읽으라는 reset 이벤트를 보냄
+    // 다른 이벤트와 같이 번호를 발급하고 링 버퍼에 보관하므로, 그 사이에 끊겼던 클라이언트도 다시 연결하면 받음
+    public void reset() {
+        afterCommit(this::publishReset);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long stalledCount() {
+        return stalled.sum();
+    }
+
+    // 구독자마다 버퍼가 비어 있을 때만 heartbeat 를 보냄 (이미 보낼 이벤트가 있으면 그것으로 충분함)
+    // 끊어진 연결은 쓰기가 실패할 때 정리됨
+    @Scheduled(fixedDelayString = "${blog.feed.heartbeat-interval:PT30S}", initialDelayString = "${blog.feed.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerIfIdle(HEARTBEAT);
+        }
+    }
+
+    // 1초마다 write-timeout 을 넘겨 멈춰 있는 쓰기를 찾아 그 구독자의 연결을 끊음
+    // 멈춘 쓰기가 끝날 때까지 쓰기 스레드를 하나 더 두고, 끝나면 (Subscriber.send()) 원래 수로 되돌림
+    @Scheduled(fixedDelay = 1000, initialDelay = 1000)
+    public void expireStalledWrites() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : writing) {
+            if (subscriber.stall(now)) {
+                stalled.increment();
+                resizeWriters(1);
+                log.debug("article feed subscriber did not accept a write within {} ms, disconnecting",
+                        TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos));
+                subscriber.close();
+            }
+        }
+    }
+
+    // 늘릴 때는 최대 스레드 수를 먼저, 줄일 때는 나중에 바꿈 (core > max 이면 IllegalArgumentException)
+    private synchronized void resizeWriters(int delta) {
+        if (delta > 0) {
+            writers.setMaximumPoolSize(writers.getMaximumPoolSize() + delta);
+            writers.setCorePoolSize(writers.getCorePoolSize() + delta);
+        } else {
+            writers.setCorePoolSize(writers.getCorePoolSize() + delta);
+            writers.setMaximumPoolSize(writers.getMaximumPoolSize() + delta);
+        }
+    }
+
+    // 종료할 때 모든 연결을 끝냄 (클라이언트는 Last-Event-ID 로 다른 인스턴스에 다시 연결함)
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        writers.shutdown();
+        writers.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    // 구독자를 등록하고 이어 받을 이벤트를 버퍼에 넣음 (테스트에서는 직접 만든 SseEmitter 로 호출)
+    Subscriber register(SseEmitter emitter, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        lock.lock();
+        try {
+            subscriber.enqueue(CONNECTED);
+            for (SseFrame frame : replay(lastEventId)) {
+                subscriber.enqueue(frame);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        subscriber.schedule();
+        return subscriber;
+    }
+
+    // lock 을 잡은 상태에서 호출됨
+    private List<SseFrame> replay(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+
+        long from;
+        try {
+            from = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return List.of(resetFrame());
+        }
+
+        long oldest = Math.max(firstId, lastId - recent.length);  // 링 버퍼에 남아 있는 가장 오래된 이벤트의 바로 앞 번호
+        if (from < oldest || from > lastId) {
+            return List.of(resetFrame());
+        }
+
+        List<SseFrame> frames = new ArrayList<>((int) (lastId - from));
+        for (long id = from + 1; id <= lastId; id++) {
+            frames.add(recent[slot(id)]);
+        }
+        return frames;
+    }
+
+    // 이어 받을 이벤트가 남아 있지 않을 때 : 목록을 다시 읽으라는 이벤트 (id 는 현재 번호로 두어 다음 연결부터는 이어 받음)
+    private SseFrame resetFrame() {
+        return SseFrame.of(SseEmitter.event()
+                .id(String.valueOf(lastId))
+                .name(RESET_EVENT)
+                .data("{}", MediaType.APPLICATION_JSON));
+    }
+
+    private void publish(ArticleEvent.Type type, long articleId, Article article) {
+        lock.lock();
+        try {
+            long id = lastId + 1;
+            ArticleEvent event = new ArticleEvent(id, type, articleId, article);
+            SseFrame frame = SseFrame.of(SseEmitter.event()
+                    .id(String.valueOf(id))
+                    .name(type.getEventName())
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON));
+
+            lastId = id;
+            broadcast(frame);
+        } catch (JsonProcessingException e) {
+            log.warn("failed to serialize {} event of article {}", type, articleId, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publishReset() {
+        lock.lock();
+        try {
+            lastId++;
+            broadcast(resetFrame());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 을 잡은 상태에서 호출됨 : 마지막으로 발급한 번호(lastId)의 이벤트를 링 버퍼에 보관하고 모든 구독자에게 보냄
+    private void broadcast(SseFrame frame) {
+        recent[slot(lastId)] = frame;
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    private int slot(long id) {
+        return (int) (id % recent.length);
+    }
+
+    // 트랜잭션이 없으면 (이미 커밋된 상태) 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 구독자 한 명 (연결 하나) : 보낼 이벤트 버퍼와 쓰기 상태
+    // 버퍼는 공용 스레드 풀에서 한 번에 한 작업만 비우므로 (draining) 한 연결에 대한 쓰기는 항상 순서대로 일어남
+    final class Subscriber {
+
+        private static final int IDLE = 0;
+        private static final int WRITING = 1;
+        private static final int STALLED = 2;  // expireStalledWrites() 가 연결을 끊고 쓰기 스레드를 하나 더 둔 상태
+
+        private final SseEmitter emitter;
+        private final Deque<SseFrame> buffer = new ArrayDeque<>();  // bufferLock 으로 보호됨
+        private final Lock bufferLock = new ReentrantLock();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger writeState = new AtomicInteger(IDLE);
+        private volatile long writeStartedNanos;
+        private volatile boolean closed;
+        private volatile boolean completed;  // emitter.complete() 를 호출했거나 쓰기가 실패함
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // 구독을 시작할 때 : 연결 / 이어 받을 이벤트는 버퍼 크기와 관계없이 넣음 (링 버퍼 크기로 제한됨)
+        private void enqueue(SseFrame frame) {
+            bufferLock.lock();
+            try {
+                buffer.addLast(frame);
+            } finally {
+                bufferLock.unlock();
+            }
+        }
+
+        // 새 이벤트 : 버퍼가 가득 찼으면 overflowPolicy 에 따라 가장 오래된 이벤트를 버리거나 연결을 끊음
+        private void offer(SseFrame frame) {
+            boolean disconnect = false;
+
+            bufferLock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    dropped.increment();
+                    if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                        disconnect = true;
+                    } else {
+                        buffer.pollFirst();
+                        buffer.addLast(frame);
+                    }
+                } else {
+                    buffer.addLast(frame);
+                }
+            } finally {
+                bufferLock.unlock();
+            }
+
+            if (disconnect) {
+                log.debug("article feed subscriber is too slow, disconnecting");
+                close();
+            } else {
+                schedule();
+            }
+        }
+
+        private void offerIfIdle(SseFrame frame) {
+            bufferLock.lock();
+            try {
+                if (closed || !buffer.isEmpty()) {
+                    return;
+                }
+                buffer.addLast(frame);
+            } finally {
+                bufferLock.unlock();
+            }
+            schedule();
+        }
+
+        // 연결을 끝냄 : 버퍼를 비우고, 실제 complete() 는 쓰기 작업에서 호출함
+        // (쓰고 있는 중에 다른 스레드가 complete() 를 호출하면 쓰기가 끝날 때까지 기다리게 되므로)
+        void close() {
+            bufferLock.lock();
+            try {
+                closed = true;
+                buffer.clear();
+            } finally {
+                bufferLock.unlock();
+            }
+            subscribers.remove(this);
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);  // 종료 중
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseFrame frame;
+                while ((frame = poll()) != null) {
+                    send(frame);
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 (IOException) 이미 끝난 연결 : 서블릿 컨테이너가 요청을 정리함
+                closed = true;
+                completed = true;
+                subscribers.remove(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            // 버퍼를 다 비운 뒤 draining 을 false 로 바꾸기 전에 들어온 이벤트 / 종료 요청이 있으면 다시 실행
+            if (hasPending() || (closed && !completed)) {
+                schedule();
+            }
+        }
+
+        // 쓰기 상태는 expireStalledWrites() 와 compareAndSet 으로 바꾸므로, 늘린 쓰기 스레드는 정확히 한 번만 되돌림
+        private void send(SseFrame frame) throws IOException {
+            writeStartedNanos = System.nanoTime();
+            writeState.set(WRITING);
+            writing.add(this);
+            try {
+                emitter.send(frame);
+            } finally {
+                writing.remove(this);
+                if (!writeState.compareAndSet(WRITING, IDLE)) {
+                    writeState.set(IDLE);
+                    resizeWriters(-1);
+                }
+            }
+        }
+
+        // 쓰기가 now 기준으로 write-timeout 을 넘겼으면 STALLED 로 바꾸고 true
+        private boolean stall(long now) {
+            return writeState.get() == WRITING
+                    && now - writeStartedNanos >= writeTimeoutNanos
+                    && writeState.compareAndSet(WRITING, STALLED);
+        }
+
+        private SseFrame poll() {
+            bufferLock.lock();
+            try {
+                return closed ? null : buffer.pollFirst();
+            } finally {
+                bufferLock.unlock();
+            }
+        }
+
+        private boolean hasPending() {
+            bufferLock.lock();
+            try {
+                return !closed && !buffer.isEmpty();
+            } finally {
+                bufferLock.unlock();
+            }
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.springbootdeveloper.feed;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.Set;
+
+// 미리 만들어 둔 SSE 이벤트 : 이벤트 하나를 한 번만 직렬화해서 모든 구독자에게 같은 객체로 보냄
+// SseEmitter.event() 빌더는 build() 할 때마다 줄바꿈을 덧붙이므로 재사용할 수 없음
+// -> 빌더로 한 번 만든 결과(텍스트 / JSON 조각)를 들고 있다가 build() 에서 그대로 돌려줌 (수정 메서드는 지원하지 않음)
+
+final class SseFrame implements SseEmitter.SseEventBuilder {
+
+    private final Set<ResponseBodyEmitter.DataWithMediaType> items;
+
+    private SseFrame(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+        this.items = Collections.unmodifiableSet(items);
+    }
+
+    static SseFrame of(SseEmitter.SseEventBuilder builder) {
+        return new SseFrame(builder.build());
+    }
+
+    @Override
+    public Set<ResponseBodyEmitter.DataWithMediaType> build() {
+        return items;
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder id(String id) {
+        throw unsupported();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder name(String eventName) {
+        throw unsupported();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder reconnectTime(long reconnectTimeMillis) {
+        throw unsupported();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder comment(String comment) {
+        throw unsupported();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder data(Object object) {
+        throw unsupported();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder data(Object object, MediaType mediaType) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("prepared SSE frame cannot be modified");
+    }
+}
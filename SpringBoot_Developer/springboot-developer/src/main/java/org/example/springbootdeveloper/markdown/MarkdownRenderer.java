@@ -0,0 +1,108 @@
+package org.example.springbootdeveloper.markdown;
+
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.Heading;
+import org.commonmark.node.IndentedCodeBlock;
+import org.commonmark.node.Node;
+import org.commonmark.node.Paragraph;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+// 글 본문(Markdown) -> HTML / 미리보기(excerpt) 변환
+// 글을 추가 / 수정할 때 한 번만 실행하고 결과를 글과 함께 저장함 (BlogService, ArticleImportService, ArticleRenderBackfillService)
+// -> 글을 읽을 때는 저장된 HTML 을 그대로 보내므로 조회 경로에서 Markdown 을 파싱하지 않음
+// - HTML : 본문에 직접 쓴 HTML 태그는 태그가 아닌 글자로 바꾸고 (escapeHtml), 링크 / 이미지 주소는 http / https / mailto 만 남김 (sanitizeUrls, 링크에 rel="nofollow")
+//   결과에는 CommonMark 가 만드는 태그(p, em, a, code, ...)만 있으므로 템플릿에서 그대로 출력해도 됨 (th:utext)
+// - 미리보기 : Markdown 문법 / 링크 주소 / 본문에 쓴 HTML 을 뺀 글자만 모은 텍스트의 앞부분 ArticleSummary.EXCERPT_LENGTH 글자 (목록 화면 / 목록 API)
+// 한 번 파싱한 문서로 HTML 과 텍스트를 함께 만들고, Parser / 렌더러는 상태가 없어 여러 스레드가 함께 사용함
+
+@Component
+public class MarkdownRenderer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Parser parser = Parser.builder()
+            .build();
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .build();
+
+    public RenderedContent render(String markdown) {
+        Node document = parser.parse(markdown == null ? "" : markdown);
+
+        return new RenderedContent(htmlRenderer.render(document), excerpt(plainText(document)));
+    }
+
+    // 문서의 글자(Text / 코드)만 순서대로 모음, 줄바꿈과 문단 / 제목 / 코드 블록 사이는 공백 하나로 구분함
+    private static String plainText(Node document) {
+        StringBuilder text = new StringBuilder();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text node) {
+                text.append(node.getLiteral());
+            }
+
+            @Override
+            public void visit(Code node) {
+                text.append(node.getLiteral());
+            }
+
+            @Override
+            public void visit(FencedCodeBlock node) {
+                text.append(node.getLiteral()).append(' ');
+            }
+
+            @Override
+            public void visit(IndentedCodeBlock node) {
+                text.append(node.getLiteral()).append(' ');
+            }
+
+            @Override
+            public void visit(SoftLineBreak node) {
+                text.append(' ');
+            }
+
+            @Override
+            public void visit(HardLineBreak node) {
+                text.append(' ');
+            }
+
+            @Override
+            public void visit(Paragraph node) {
+                visitChildren(node);
+                text.append(' ');
+            }
+
+            @Override
+            public void visit(Heading node) {
+                visitChildren(node);
+                text.append(' ');
+            }
+        });
+        return text.toString();
+    }
+
+    // 줄바꿈 / 연속된 공백을 공백 하나로 바꾸고 앞에서부터 EXCERPT_LENGTH 글자까지 자름 (서로게이트 쌍 중간에서 자르지 않음)
+    static String excerpt(String text) {
+        String collapsed = WHITESPACE.matcher(text).replaceAll(" ").strip();
+        if (collapsed.length() <= ArticleSummary.EXCERPT_LENGTH) {
+            return collapsed;
+        }
+
+        int end = ArticleSummary.EXCERPT_LENGTH;
+        if (Character.isHighSurrogate(collapsed.charAt(end - 1))) {
+            end--;
+        }
+        return collapsed.substring(0, end);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.springbootdeveloper.markdown;
+
+import lombok.Getter;
+
+// MarkdownRenderer 의 결과 : 본문을 렌더링한 안전한 HTML 과 미리보기 텍스트
+
+@Getter
+public class RenderedContent {
+
+    private final String html;
+    private final String excerpt;
+
+    public RenderedContent(String html, String excerpt) {
+        this.html = html;
+        this.excerpt = excerpt;
+    }
+}
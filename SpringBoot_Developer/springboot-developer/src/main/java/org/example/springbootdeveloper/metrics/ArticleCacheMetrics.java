@@ -0,0 +1,51 @@
+package org.example.springbootdeveloper.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.springbootdeveloper.cache.ArticleCache;
+import org.example.springbootdeveloper.cache.CacheStats;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+// ArticleCache 의 캐시별 적중 / 부재 / 제거 수와 크기를 blog.cache.* 미터로 노출 (태그 : cache)
+// 값은 스크레이프할 때마다 ArticleCache.stats() 에서 읽어옴
+
+@Component
+public class ArticleCacheMetrics implements MeterBinder {
+
+    private final ArticleCache articleCache;
+
+    public ArticleCacheMetrics(ArticleCache articleCache) {
+        this.articleCache = articleCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CacheStats stats : articleCache.stats()) {
+            String name = stats.getName();
+
+            counter(registry, "blog.cache.hits", name, cache -> stat(cache, name).getHitCount());
+            counter(registry, "blog.cache.misses", name, cache -> stat(cache, name).getMissCount());
+            counter(registry, "blog.cache.evictions", name, cache -> stat(cache, name).getEvictionCount());
+            Gauge.builder("blog.cache.size", articleCache, cache -> stat(cache, name).getSize())
+                    .tag("cache", name)
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String metric, String name, ToDoubleFunction<ArticleCache> value) {
+        FunctionCounter.builder(metric, articleCache, value)
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private static CacheStats stat(ArticleCache cache, String name) {
+        return cache.stats().stream()
+                .filter(stats -> stats.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.springbootdeveloper.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.springbootdeveloper.feed.ArticleEventBroadcaster;
+import org.springframework.stereotype.Component;
+
+// 글 변경 이벤트(SSE) 구독자 수, 버퍼가 넘쳐 버린 이벤트 수, 쓰기가 멈춰 끊은 구독자 수를 blog.feed.* 미터로 노출
+// dropped 가 계속 늘어나면 buffer-size 를 늘리거나 느린 클라이언트를 확인해야 함
+// stalled 가 늘어나면 응답을 읽지 않는 클라이언트 (또는 너무 짧은 write-timeout)
+
+@Component
+public class ArticleFeedMetrics implements MeterBinder {
+
+    private final ArticleEventBroadcaster articleEventBroadcaster;
+
+    public ArticleFeedMetrics(ArticleEventBroadcaster articleEventBroadcaster) {
+        this.articleEventBroadcaster = articleEventBroadcaster;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("blog.feed.subscribers", articleEventBroadcaster, ArticleEventBroadcaster::subscriberCount)
+                .register(registry);
+        FunctionCounter.builder("blog.feed.dropped", articleEventBroadcaster, ArticleEventBroadcaster::droppedCount)
+                .register(registry);
+        FunctionCounter.builder("blog.feed.stalled", articleEventBroadcaster, ArticleEventBroadcaster::stalledCount)
+                .register(registry);
+    }
+}
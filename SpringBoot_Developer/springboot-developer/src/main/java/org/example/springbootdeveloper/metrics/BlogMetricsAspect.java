@@ -0,0 +1,57 @@
+package org.example.springbootdeveloper.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 컨트롤러 핸들러와 BlogService 의 public 메서드 실행 시간을 blog.method 타이머로 기록
+// 태그 : class (클래스 이름), method (메서드 이름), exception (던진 예외 이름, 정상 종료면 none)
+// 정상 종료 타이머는 메서드마다 한 번만 만들어 두고 재사용함 (호출마다 미터를 찾지 않도록)
+
+@Aspect
+@Component
+public class BlogMetricsAspect {
+
+    static final String METRIC_NAME = "blog.method";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public BlogMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * org.example.springbootdeveloper.controller.BlogApiController.*(..))"
+            + " || execution(public * org.example.springbootdeveloper.controller.BlogViewController.*(..))"
+            + " || execution(public * org.example.springbootdeveloper.service.BlogService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(timers.computeIfAbsent(method, key -> timer(key, "none")));
+            return result;
+        } catch (Throwable e) {
+            sample.stop(timer(method, e.getClass().getSimpleName()));
+            throw e;
+        }
+    }
+
+    private Timer timer(Method method, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .description("Execution time of blog controller handlers and service methods")
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
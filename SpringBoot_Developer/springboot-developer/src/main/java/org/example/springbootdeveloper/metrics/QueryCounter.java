@@ -0,0 +1,43 @@
+package org.example.springbootdeveloper.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Hibernate 가 실행하는 SQL 수를 요청(스레드) 단위로 셈
+// StatementInspector 로 등록되어 SQL 이 준비될 때마다 호출되며, SQL 은 바꾸지 않고 그대로 돌려줌
+// QueryCountFilter 가 요청 시작 시 start(), 끝날 때 stop() 을 호출해 요청 하나의 쿼리 수를 기록함
+
+@Component
+public class QueryCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    public void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // 지금까지 센 쿼리 수를 반환하고 세기를 멈춤
+    public int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
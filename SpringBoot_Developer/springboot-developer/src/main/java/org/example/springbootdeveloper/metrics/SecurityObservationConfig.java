@@ -0,0 +1,19 @@
+package org.example.springbootdeveloper.metrics;
+
+import io.micrometer.observation.ObservationPredicate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 스프링 시큐리티 관찰(observation) 끄기
+// ObservationRegistry 빈이 있으면 스프링 시큐리티 6 는 필터 체인의 필터 하나하나를 관찰(spring.security.filterchains 등)로 감싸
+// 요청마다 타이머 / 롱 태스크 타이머를 만들고 기록함 -> 필터 체인 통과 비용이 약 10배 (SecurityFilterChainBenchmark : 약 250us -> 30us, 64KB -> 6.5KB 할당)
+// 요청 전체 시간은 http.server.requests 로 이미 기록되므로 spring.security.* 관찰만 제외함 (ObservationAutoConfiguration 이 레지스트리에 등록)
+
+@Configuration
+public class SecurityObservationConfig {
+
+    @Bean
+    public ObservationPredicate ignoreSpringSecurityObservations() {
+        return (name, context) -> !name.startsWith("spring.security.");
+    }
+}
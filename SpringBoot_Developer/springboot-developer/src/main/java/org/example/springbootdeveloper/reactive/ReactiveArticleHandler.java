@@ -0,0 +1,150 @@
+package org.example.springbootdeveloper.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.controller.ArticleETags;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.ArticleResponse;
+import org.example.springbootdeveloper.dto.CursorPage;
+import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.example.springbootdeveloper.exception.VersionMismatchException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// 리액티브 글 API 핸들러 (라우팅은 ReactiveWebConfig)
+// BlogApiController 와 같은 경로 / 요청 / 응답 본문(AddArticleRequest, UpdateArticleRequest, ArticleResponse, Article)과
+// 같은 헤더(ETag, Last-Modified, Link, Cache-Control) / 상태 코드(201, 304, 412)를 사용함
+// 없는 글은 404 Not Found, 잘못된 커서는 400 Bad Request
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Component
+public class ReactiveArticleHandler {
+
+    private final ReactiveBlogService blogService;
+
+    // findAllArticles() : 글 목록을 최신순으로 한 페이지씩 반환 (커서는 Link 헤더, 목록 ETag 가 같으면 304)
+    public Mono<ServerResponse> findAllArticles(ServerRequest request) {
+        String cursor = request.queryParam("cursor").orElse(null);
+        Integer size;
+        try {
+            size = request.queryParam("size").map(Integer::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+
+        return blogService.findListVersion()
+                .flatMap(version -> {
+                    String eTag = ArticleETags.ofList(version, cursor, size);
+
+                    return request.checkNotModified(eTag)
+                            .switchIfEmpty(Mono.defer(() -> blogService.findPage(cursor, size)
+                                    .map(page -> page.map(ArticleResponse::new))
+                                    .flatMap(page -> ServerResponse.ok()
+                                            .eTag(eTag)
+                                            .cacheControl(CacheControl.noCache())  // 캐시는 하되 매번 ETag 로 재검증하도록 함
+                                            .headers(headers -> headers.addAll(HttpHeaders.LINK, linkHeaders(request, page)))
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .bodyValue(page.getContent()))));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest().build());
+    }
+
+    // streamArticles() : 'Accept: application/x-ndjson' 으로 목록을 요청하면 전체 글을 최신순으로 한 줄에 하나씩 흘려보냄
+    // Netty 가 소켓에 쓸 수 있는 만큼만 다음 글을 요청하므로 (backpressure) 느린 클라이언트가 있어도 서버 메모리 / 스레드가 늘지 않음
+    public Mono<ServerResponse> streamArticles(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("X-Accel-Buffering", "no")  // 프록시(nginx)가 응답을 모아 두지 않고 바로 전달하도록
+                .body(blogService.streamAll().map(ArticleResponse::new), ArticleResponse.class);
+    }
+
+    // findArticle() : 글 단건 조회, ETag(글 id + 버전) / Last-Modified 가 같으면 본문 없이 304
+    public Mono<ServerResponse> findArticle(ServerRequest request) {
+        long id = Long.parseLong(request.pathVariable("id"));
+
+        return blogService.findById(id)
+                .flatMap(article -> {
+                    String eTag = ArticleETags.of(article);
+                    long lastModified = ArticleETags.lastModified(article);
+                    Mono<ServerResponse> notModified = lastModified < 0
+                            ? request.checkNotModified(eTag)
+                            : request.checkNotModified(Instant.ofEpochMilli(lastModified), eTag);
+
+                    return notModified.switchIfEmpty(Mono.defer(() -> {
+                        ServerResponse.BodyBuilder ok = ServerResponse.ok()
+                                .eTag(eTag)
+                                .cacheControl(CacheControl.noCache());
+                        if (lastModified >= 0) {
+                            ok.lastModified(Instant.ofEpochMilli(lastModified));
+                        }
+                        return ok.bodyValue(new ArticleResponse(article));
+                    }));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.notFound().build());
+    }
+
+    // addArticle() : 글 추가, 201 Created + 저장된 글
+    public Mono<ServerResponse> addArticle(ServerRequest request) {
+        return request.bodyToMono(AddArticleRequest.class)
+                .flatMap(blogService::save)
+                .flatMap(article -> ServerResponse.status(HttpStatus.CREATED)
+                        .bodyValue(article));
+    }
+
+    // updateArticle() : 글 수정, If-Match 가 있으면 그 버전일 때만 수정 (다르면 412), 응답의 ETag 는 수정된 글의 새 버전
+    public Mono<ServerResponse> updateArticle(ServerRequest request) {
+        long id = Long.parseLong(request.pathVariable("id"));
+        Long expectedVersion = ArticleETags.versionFromIfMatch(request.headers().firstHeader(HttpHeaders.IF_MATCH), id);
+
+        return request.bodyToMono(UpdateArticleRequest.class)
+                .flatMap(body -> blogService.update(id, body, expectedVersion))
+                .flatMap(article -> ServerResponse.ok()
+                        .eTag(ArticleETags.of(article))
+                        .bodyValue(article))
+                .onErrorResume(VersionMismatchException.class, e -> ServerResponse.status(HttpStatus.PRECONDITION_FAILED)
+                        .bodyValue(e.getMessage()))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.notFound().build());
+    }
+
+    // deleteArticle() : 글 삭제
+    public Mono<ServerResponse> deleteArticle(ServerRequest request) {
+        long id = Long.parseLong(request.pathVariable("id"));
+
+        return blogService.delete(id)
+                .then(ServerResponse.ok().build());
+    }
+
+    // linkHeaders() : 현재 요청 URL 의 cursor 파라미터만 바꿔서 다음 / 이전 페이지 링크를 만듬
+    private static List<String> linkHeaders(ServerRequest request, CursorPage<?> page) {
+        List<String> links = new ArrayList<>();
+
+        if (page.hasNext()) {
+            links.add(pageLink(request, page.getNextCursor(), "next"));
+        }
+        if (page.hasPrev()) {
+            links.add(pageLink(request, page.getPrevCursor(), "prev"));
+        }
+        return links.isEmpty() ? List.of() : List.of(String.join(", ", links));
+    }
+
+    private static String pageLink(ServerRequest request, String cursor, String rel) {
+        URI uri = request.uriBuilder()
+                .replaceQueryParam("cursor", cursor)
+                .build();
+
+        return "<" + uri + ">; rel=\"" + rel + "\"";
+    }
+}
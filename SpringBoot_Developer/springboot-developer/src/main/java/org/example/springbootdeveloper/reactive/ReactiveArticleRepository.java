@@ -0,0 +1,156 @@
+package org.example.springbootdeveloper.reactive;
+
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.ArticleListVersion;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.markdown.RenderedContent;
+import org.example.springbootdeveloper.tag.Tags;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 글 테이블(article)을 R2DBC 로 읽고 쓰는 리포지토리 : 결과를 한 행씩 Flux / Mono 로 흘려보내고 스레드를 막지 않음
+// 테이블 / 시퀀스는 JPA 엔티티(Article)와 같음, 행은 R2dbcConverter 가 컬럼 이름(created_at -> createdAt)으로 Article 필드에 채움
+// 목록 쿼리는 BlogRepository 의 키셋 페이지네이션 / 요약(excerpt) 쿼리와 같은 조건, 같은 순서
+// - 추가 / 수정은 'SELECT * FROM FINAL TABLE (INSERT / UPDATE ...)' 로 바뀐 행을 같은 문장에서 돌려받음 (H2, 왕복 1번)
+// - id 는 시퀀스 값을 그대로 사용 : Hibernate 는 시퀀스 값 이하의 50개(allocationSize)를 쓰므로 같은 DB 를 함께 써도 겹치지 않음
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Repository
+public class ReactiveArticleRepository {
+
+    private static final String SUMMARY = "SELECT id, title, COALESCE(excerpt, SUBSTRING(content, 1, " + ArticleSummary.EXCERPT_LENGTH + ")) AS excerpt, created_at, tags"
+            + " FROM article";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    public Mono<Article> findById(long id) {
+        return databaseClient.sql("SELECT * FROM article WHERE id = :id")
+                .bind("id", id)
+                .map(this::toArticle)
+                .one();
+    }
+
+    // 최신순 첫 페이지 (limit 개)
+    public Flux<ArticleSummary> findLatest(int limit) {
+        return databaseClient.sql(SUMMARY + " ORDER BY created_at DESC, id DESC LIMIT :limit")
+                .bind("limit", limit)
+                .map(ReactiveArticleRepository::toSummary)
+                .all();
+    }
+
+    // 커서보다 오래된 글을 최신순으로 조회 (다음 페이지)
+    public Flux<ArticleSummary> findOlderThan(LocalDateTime createdAt, long id, int limit) {
+        return databaseClient.sql(SUMMARY
+                        + " WHERE created_at < :createdAt OR (created_at = :createdAt AND id < :id)"
+                        + " ORDER BY created_at DESC, id DESC LIMIT :limit")
+                .bind("createdAt", createdAt)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveArticleRepository::toSummary)
+                .all();
+    }
+
+    // 커서보다 최신 글을 오래된 순으로 조회 (이전 페이지, 호출하는 쪽에서 순서를 뒤집어 사용)
+    public Flux<ArticleSummary> findNewerThan(LocalDateTime createdAt, long id, int limit) {
+        return databaseClient.sql(SUMMARY
+                        + " WHERE created_at > :createdAt OR (created_at = :createdAt AND id > :id)"
+                        + " ORDER BY created_at ASC, id ASC LIMIT :limit")
+                .bind("createdAt", createdAt)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveArticleRepository::toSummary)
+                .all();
+    }
+
+    // 전체 글을 최신순으로 조회 (스트리밍 목록), 구독자가 요청한 만큼만 행을 읽어 보냄
+    public Flux<ArticleSummary> findAllLatest() {
+        return databaseClient.sql(SUMMARY + " ORDER BY created_at DESC, id DESC")
+                .map(ReactiveArticleRepository::toSummary)
+                .all();
+    }
+
+    public Mono<ArticleListVersion> findListVersion() {
+        return databaseClient.sql("SELECT COUNT(*) AS cnt, MAX(updated_at) AS last_modified_at FROM article")
+                .map(row -> new ArticleListVersion(row.get("cnt", Long.class), row.get("last_modified_at", LocalDateTime.class)))
+                .one();
+    }
+
+    // tags : 정규화한 태그 (Tags.normalize)
+    public Mono<Article> insert(String title, String content, List<String> tags, RenderedContent rendered) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("SELECT * FROM FINAL TABLE ("
+                        + "INSERT INTO article (id, title, content, tags, content_html, excerpt, created_at, updated_at, version, views)"
+                        + " VALUES (NEXT VALUE FOR article_seq, :title, :content, :tags, :contentHtml, :excerpt, :now, :now, 0, 0))")
+                .bind("title", title)
+                .bind("content", content)
+                .bind("contentHtml", rendered.getHtml())
+                .bind("excerpt", rendered.getExcerpt())
+                .bind("now", LocalDateTime.now());
+
+        return bindTags(spec, tags)
+                .map(this::toArticle)
+                .one();
+    }
+
+    // 제목 / 본문(렌더링 결과 포함)을 바꾸고 버전을 1 올림, expectedVersion 이 있으면 그 버전일 때만 수정 (없거나 버전이 다르면 빈 Mono)
+    // tags 가 null 이면 태그는 바꾸지 않음 (BlogService.update() 와 같음)
+    // 조건 확인과 수정이 UPDATE 한 문장이므로 그 사이에 다른 요청이 끼어들 수 없음
+    public Mono<Article> update(long id, String title, String content, List<String> tags, RenderedContent rendered, Long expectedVersion) {
+        String where = expectedVersion == null ? " WHERE id = :id" : " WHERE id = :id AND version = :version";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("SELECT * FROM FINAL TABLE ("
+                        + "UPDATE article SET title = :title, content = :content, content_html = :contentHtml, excerpt = :excerpt,"
+                        + (tags == null ? "" : " tags = :tags,")
+                        + " updated_at = :now, version = version + 1"
+                        + where + ")")
+                .bind("id", id)
+                .bind("title", title)
+                .bind("content", content)
+                .bind("contentHtml", rendered.getHtml())
+                .bind("excerpt", rendered.getExcerpt())
+                .bind("now", LocalDateTime.now());
+        if (tags != null) {
+            spec = bindTags(spec, tags);
+        }
+        if (expectedVersion != null) {
+            spec = spec.bind("version", expectedVersion);
+        }
+
+        return spec.map(this::toArticle)
+                .one();
+    }
+
+    public Mono<Long> deleteById(long id) {
+        return databaseClient.sql("DELETE FROM article WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // 태그가 없으면 컬럼 값은 null (Tags.join)
+    private static DatabaseClient.GenericExecuteSpec bindTags(DatabaseClient.GenericExecuteSpec spec, List<String> tags) {
+        String column = Tags.join(tags);
+        return column == null ? spec.bindNull("tags", String.class) : spec.bind("tags", column);
+    }
+
+    private Article toArticle(Row row, RowMetadata metadata) {
+        return converter.read(Article.class, row, metadata);
+    }
+
+    private static ArticleSummary toSummary(Readable row) {
+        return new ArticleSummary(row.get("id", Long.class), row.get("title", String.class),
+                row.get("excerpt", String.class), row.get("created_at", LocalDateTime.class), row.get("tags", String.class));
+    }
+}
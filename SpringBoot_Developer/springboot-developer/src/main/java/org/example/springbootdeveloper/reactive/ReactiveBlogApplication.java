@@ -0,0 +1,31 @@
+package org.example.springbootdeveloper.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+// 리액티브 글 API 애플리케이션 : WebFlux (Netty) + R2DBC 로 /api/articles 를 제공함 (기본 포트 8081, application.yml 의 reactive 프로필)
+// 요청 처리 / DB 조회 중에 스레드를 막지 않으므로 느린 클라이언트나 동시 연결이 많아도 스레드 수가 늘지 않음 (이벤트 루프 스레드 = CPU 수)
+// MVC 애플리케이션(SpringBootDeveloperApplication)과 같은 DTO / 커서 / ETag 를 쓰고, reactive 패키지만 스캔함
+// ex) ./gradlew bootRunReactive
+// - @SpringBootConfiguration 을 붙이지 않음 : 다른 패키지의 @SpringBootTest 가 설정 클래스를 찾을 때 MVC 애플리케이션과 함께 찾지 않도록
+// - MVC 애플리케이션도 이 패키지를 스캔하므로 reactive 패키지의 빈은 모두 리액티브 웹 애플리케이션일 때만 등록됨
+
+@Configuration(proxyBeanMethods = false)
+@EnableAutoConfiguration
+@ComponentScan
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBlogApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveBlogApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(PROFILE)
+                .run(args);
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.springbootdeveloper.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.ArticleCursor;
+import org.example.springbootdeveloper.dto.ArticleListVersion;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.dto.CursorPage;
+import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.example.springbootdeveloper.exception.VersionMismatchException;
+import org.example.springbootdeveloper.markdown.MarkdownRenderer;
+import org.example.springbootdeveloper.tag.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// BlogService 의 리액티브 버전 : 같은 규칙(페이지 크기, 키셋 커서, If-Match 버전 확인)을 Mono / Flux 로 반환함
+// MVC 애플리케이션의 메모리 캐시 / 검색 색인 / 조회 수 / SSE 이벤트는 다른 프로세스에 있으므로 거치지 않고 항상 DB 를 읽음
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Service
+public class ReactiveBlogService {
+
+    private final ReactiveArticleRepository articleRepository;
+    private final MarkdownRenderer markdownRenderer;  // BlogService 와 같이 저장할 때 본문을 렌더링함 (글이 짧아 이벤트 루프에서 바로 실행)
+
+    // 페이지 크기를 지정하지 않았을 때 사용할 기본 크기
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultPageSize;
+
+    // 클라이언트가 요청할 수 있는 최대 페이지 크기 (서버 측 상한)
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int maxPageSize;
+
+    // 잘못된 태그는 IllegalArgumentException (Mono.error)
+    public Mono<Article> save(AddArticleRequest request) {
+        return Mono.defer(() -> articleRepository.insert(request.getTitle(), request.getContent(),
+                Tags.normalize(request.getTags()), markdownRenderer.render(request.getContent())));
+    }
+
+    // findPage() : BlogService.findPage() 와 같은 키셋 페이지네이션, size + 1 개를 읽어 그 방향으로 페이지가 더 있는지 판단함
+    // 잘못된 커서는 IllegalArgumentException (Mono.error)
+    public Mono<CursorPage<ArticleSummary>> findPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+
+        if (cursor == null || cursor.isBlank()) {
+            return articleRepository.findLatest(pageSize + 1)
+                    .collectList()
+                    .map(rows -> {
+                        boolean hasNext = rows.size() > pageSize;
+                        return toPage(hasNext ? rows.subList(0, pageSize) : rows, hasNext, false);
+                    });
+        }
+
+        return Mono.fromSupplier(() -> ArticleCursor.decode(cursor))
+                .flatMap(decoded -> decoded.getDirection() == ArticleCursor.Direction.NEXT
+                        ? articleRepository.findOlderThan(decoded.getCreatedAt(), decoded.getId(), pageSize + 1)
+                                .collectList()
+                                .map(rows -> {
+                                    boolean hasNext = rows.size() > pageSize;
+                                    // 다음 페이지로 이동해 왔으므로 이전 페이지는 항상 존재함
+                                    return toPage(hasNext ? rows.subList(0, pageSize) : rows, hasNext, true);
+                                })
+                        : articleRepository.findNewerThan(decoded.getCreatedAt(), decoded.getId(), pageSize + 1)
+                                .collectList()
+                                .map(rows -> {
+                                    // 이전 페이지는 오래된 순으로 조회되므로 최신순으로 뒤집어서 반환
+                                    boolean hasPrev = rows.size() > pageSize;
+                                    List<ArticleSummary> content = new ArrayList<>(hasPrev ? rows.subList(0, pageSize) : rows);
+                                    Collections.reverse(content);
+                                    return toPage(content, true, hasPrev);
+                                }));
+    }
+
+    // streamAll() : 전체 글을 최신순으로 한 건씩 흘려보냄 (페이지로 나누지 않는 스트리밍 목록)
+    // 클라이언트가 느리면 응답 쓰기가 밀린 만큼 DB 에서 다음 행을 늦게 읽으므로 (backpressure) 전체 글을 메모리에 모으지 않음
+    public Flux<ArticleSummary> streamAll() {
+        return articleRepository.findAllLatest();
+    }
+
+    public Mono<ArticleListVersion> findListVersion() {
+        return articleRepository.findListVersion();
+    }
+
+    // 없는 글이면 IllegalArgumentException (Mono.error)
+    public Mono<Article> findById(long id) {
+        return articleRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("not found: " + id)));
+    }
+
+    public Mono<Long> delete(long id) {
+        return articleRepository.deleteById(id);
+    }
+
+    // 조건부 수정 : expectedVersion 이 있으면 현재 글의 버전과 같을 때만 수정 (If-Match)
+    // 수정된 행이 없으면 글을 다시 읽어 원인을 구분함 : 글이 없으면 IllegalArgumentException, 버전이 다르면 VersionMismatchException
+    public Mono<Article> update(long id, UpdateArticleRequest request, Long expectedVersion) {
+        List<String> tags = request.getTags() == null ? null : Tags.normalize(request.getTags());  // null 이면 태그 유지
+
+        return articleRepository.update(id, request.getTitle(), request.getContent(), tags, markdownRenderer.render(request.getContent()), expectedVersion)
+                .switchIfEmpty(Mono.defer(() -> findById(id)
+                        .flatMap(current -> Mono.error(new VersionMismatchException(id, expectedVersion, current.getVersion())))));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return defaultPageSize;
+        }
+
+        return Math.min(size, maxPageSize);
+    }
+
+    private CursorPage<ArticleSummary> toPage(List<ArticleSummary> content, boolean hasNext, boolean hasPrev) {
+        if (content.isEmpty()) {
+            return new CursorPage<>(content, null, null);
+        }
+
+        ArticleSummary first = content.get(0);
+        ArticleSummary last = content.get(content.size() - 1);
+        String next = hasNext ? ArticleCursor.next(last.getCreatedAt(), last.getId()).encode() : null;
+        String prev = hasPrev ? ArticleCursor.prev(first.getCreatedAt(), first.getId()).encode() : null;
+
+        return new CursorPage<>(content, next, prev);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.springbootdeveloper.reactive;
+
+import org.example.springbootdeveloper.config.jwt.TokenProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+// TokenAuthenticationFilter 의 리액티브 버전
+// 'Authorization: Bearer <액세스 토큰>' 의 서명만 확인하고 (DB / 세션 조회 없음), 유효하면 인증 정보를 Reactor Context 에 넣어 다음 필터로 넘김
+// 유효하지 않으면 익명 사용자로 처리되어 보호된 API 는 401
+// 빈으로 등록하면 WebFlux 의 전역 필터로도 한 번 더 등록되므로 빈이 아닌 ReactiveWebConfig 에서 직접 생성함
+
+public class ReactiveTokenAuthenticationFilter implements WebFilter {
+
+    private static final String TOKEN_PREFIX = "Bearer ";
+
+    private final TokenProvider tokenProvider;
+
+    public ReactiveTokenAuthenticationFilter(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = getAccessToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        Authentication authentication = token == null ? null : tokenProvider.getAuthentication(token);
+        if (authentication == null) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    private String getAccessToken(String authorizationHeader) {
+        if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_PREFIX)) {
+            return authorizationHeader.substring(TOKEN_PREFIX.length());
+        }
+        return null;
+    }
+}
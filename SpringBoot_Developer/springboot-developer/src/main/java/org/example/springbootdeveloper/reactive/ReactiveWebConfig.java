@@ -0,0 +1,89 @@
+package org.example.springbootdeveloper.reactive;
+
+import org.example.springbootdeveloper.config.jwt.JwtProperties;
+import org.example.springbootdeveloper.config.jwt.TokenProvider;
+import org.example.springbootdeveloper.markdown.MarkdownRenderer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.headers;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+// 리액티브 글 API 의 라우팅 / 보안 설정
+// - 라우팅 : BlogApiController 와 같은 /api/articles 경로를 ReactiveArticleHandler 로 연결 (함수형 엔드포인트)
+// - 보안 : WebSecurityConfig 와 같은 규칙, 글 조회(GET)는 인증 없이 허용하고 나머지는 JWT 액세스 토큰이 필요함 (없으면 401)
+//   세션 / 폼 로그인 / CSRF 없이 요청마다 토큰의 서명만 확인함, 토큰 발급(/api/login)은 MVC 애플리케이션에서 받음
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(JwtProperties.class)
+public class ReactiveWebConfig {
+
+    // 클래스패스에 톰캣(MVC 애플리케이션용)도 있으면 스프링 부트는 리액티브 애플리케이션도 톰캣으로 띄우므로 Netty 를 직접 지정함
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> articleRoutes(ReactiveArticleHandler handler) {
+        return route()
+                // 같은 경로라도 Accept 에 NDJSON 을 명시하면 페이지 없이 전체 목록을 스트리밍으로 보냄 (*/* 는 기존과 같은 JSON 페이지)
+                .GET("/api/articles", acceptsExplicitly(MediaType.APPLICATION_NDJSON), handler::streamArticles)
+                .GET("/api/articles", handler::findAllArticles)
+                .GET("/api/articles/{id}", handler::findArticle)
+                .POST("/api/articles", handler::addArticle)
+                .PUT("/api/articles/{id}", handler::updateArticle)
+                .DELETE("/api/articles/{id}", handler::deleteArticle)
+                .build();
+    }
+
+    private static RequestPredicate acceptsExplicitly(MediaType mediaType) {
+        return headers(headers -> headers.accept().stream().anyMatch(mediaType::equalsTypeAndSubtype));
+    }
+
+    // MVC 애플리케이션과 같은 키 / 발급자로 서명을 확인하므로 MVC 애플리케이션에서 발급받은 토큰을 그대로 사용할 수 있음
+    @Bean
+    public TokenProvider tokenProvider(JwtProperties jwtProperties) {
+        return new TokenProvider(jwtProperties);
+    }
+
+    // reactive 패키지만 스캔하므로 MVC 애플리케이션과 같은 렌더러를 직접 등록함
+    @Bean
+    public MarkdownRenderer markdownRenderer() {
+        return new MarkdownRenderer();
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, TokenProvider tokenProvider) {
+        return http
+                .csrf(csrf -> csrf.disable())
+                .httpBasic(basic -> basic.disable())
+                .formLogin(form -> form.disable())
+                .logout(logout -> logout.disable())
+                .requestCache(cache -> cache.disable())
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())  // 세션에 저장하지 않음 (STATELESS)
+                .addFilterAt(new ReactiveTokenAuthenticationFilter(tokenProvider), SecurityWebFiltersOrder.AUTHENTICATION)
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers(HttpMethod.GET, "/api/articles", "/api/articles/**").permitAll()
+                        .pathMatchers("/actuator/health").permitAll()
+                        .anyExchange().authenticated())
+                // 인증되지 않은 요청은 401 Unauthorized 응답
+                .exceptionHandling(exception -> exception.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .build();
+    }
+}
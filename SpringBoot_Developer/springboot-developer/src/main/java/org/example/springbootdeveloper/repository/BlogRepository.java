@@ -1,8 +1,97 @@
 package org.example.springbootdeveloper.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.ArticleListVersion;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 // 엔티티 Article & 엔티티의 PK 타입 Long을 인수로 넣음
 public interface BlogRepository extends JpaRepository<Article, Long> {
+
+    // 글 전체 조회 / 내보내기(export) 시 DB 에서 한 번에 가져오는 행 수 (드라이버 기본값은 작거나 전체를 한 번에 읽음)
+    int BULK_FETCH_SIZE = 500;
+
+    // 목록 조회용 요약 프로젝션 : 본문 대신 저장할 때 만든 미리보기(excerpt)를 읽고, 결과는 엔티티가 아닌 ArticleSummary DTO 로 바로 만듬
+    // 미리보기가 아직 없는 글(ArticleRenderBackfillService 가 채우기 전)은 본문 앞부분 EXCERPT_LENGTH 글자를 사용함
+    String SUMMARY = "select new org.example.springbootdeveloper.dto.ArticleSummary("
+            + "a.id, a.title, coalesce(a.excerpt, substring(a.content, 1, " + ArticleSummary.EXCERPT_LENGTH + ")), a.createdAt, a.tags)"
+            + " from Article a";
+
+    // 키셋 페이지네이션용 쿼리
+    // 반환 타입이 List 이므로 Pageable 은 LIMIT 으로만 사용되고 count 쿼리는 실행되지 않음
+    // (created_at, id) 인덱스를 따라 커서 위치부터 필요한 만큼만 읽음 (OFFSET 없음)
+
+    // 목록 / 글 수 쿼리는 쿼리 캐시에 결과를 저장함 (Article 테이블이 바뀌면 Hibernate 가 자동으로 무효화)
+    // 조회 쿼리는 읽기 전용 트랜잭션으로 실행함 : 복제본(replica)이 있으면 복제본에서 읽음 (DataSourceRoutingConfig)
+
+    // 가장 최신 글부터 조회 (첫 페이지)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Transactional(readOnly = true)
+    @Query(SUMMARY + " order by a.createdAt desc, a.id desc")
+    List<ArticleSummary> findLatest(Pageable pageable);
+
+    // 커서보다 오래된 글을 최신순으로 조회 (다음 페이지)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Transactional(readOnly = true)
+    @Query(SUMMARY
+            + " where a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)"
+            + " order by a.createdAt desc, a.id desc")
+    List<ArticleSummary> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 커서보다 최신 글을 오래된 순으로 조회 (이전 페이지, 호출하는 쪽에서 순서를 뒤집어 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Transactional(readOnly = true)
+    @Query(SUMMARY
+            + " where a.createdAt > :createdAt or (a.createdAt = :createdAt and a.id > :id)"
+            + " order by a.createdAt asc, a.id asc")
+    List<ArticleSummary> findNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 검색 결과 / 태그 색인에서 찾은 글 id 로 요약을 한 번에 조회 (순서는 호출하는 쪽에서 검색 점수순 / id 역순으로 맞춤)
+    @Transactional(readOnly = true)
+    @Query(SUMMARY + " where a.id in :ids")
+    List<ArticleSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 목록 전체의 검증자 : 글 수와 가장 최근 수정 시간 (updated_at 인덱스로 max 를 바로 구함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Transactional(readOnly = true)
+    @Query("select new org.example.springbootdeveloper.dto.ArticleListVersion(count(a), max(a.updatedAt)) from Article a")
+    ArticleListVersion findListVersion();
+
+    // 글 전체 조회 : JpaRepository.findAll() 을 다시 선언해서 조회 힌트를 붙임 (SimpleJpaRepository 가 쿼리에 적용함)
+    // - read-only : 읽은 엔티티의 스냅샷(변경 감지용 사본)을 만들지 않고, 커밋할 때 변경 감지 대상에서 제외함
+    //   (읽기 전용 트랜잭션이면 세션 전체가 read-only / FlushMode.MANUAL 이지만, 쓰기 트랜잭션 안에서 호출해도 스냅샷을 만들지 않도록 함)
+    // - fetch size : 행을 BULK_FETCH_SIZE 개씩 나눠 가져옴
+    // - 2차 캐시 : 전체 글을 한 번에 읽는 용도이므로 넣지 않음 (CacheMode.IGNORE, 자주 읽는 글이 밀려나지 않도록)
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + BULK_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Transactional(readOnly = true)
+    List<Article> findAll();
+
+    // 전체 글 내보내기용 스트림 : 결과를 List 로 모으지 않고 forward-only 커서로 BULK_FETCH_SIZE 행씩 읽어옴
+    // read-only 힌트로 스냅샷(변경 감지용 사본)을 만들지 않으며, 호출하는 쪽은 트랜잭션 안에서 스트림을 닫아야 함 (try-with-resources)
+    // 전체 글을 한 번씩 읽는 용도이므로 2차 캐시에 넣지 않음 (CacheMode.IGNORE, 자주 읽는 글이 밀려나지 않도록)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + BULK_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select a from Article a order by a.id")
+    Stream<Article> streamAll();
 }
@@ -1,7 +1,11 @@
 package org.example.springbootdeveloper.repository;
 
+import org.example.springbootdeveloper.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface UserRepository extends JpaRepository<User, Long> {
+    // email 로 사용자를 조회 (users.email 의 유니크 인덱스 idx_users_email 을 사용)
     Optional<User> findByEmail(String email);
 }
@@ -0,0 +1,106 @@
+package org.example.springbootdeveloper.search;
+
+import org.example.springbootdeveloper.domain.Article;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 글 제목 / 본문 검색용 메모리 역색인
+// 검색은 읽기 락으로 동시에 여러 건 실행되고, 글 추가 / 수정 / 삭제는 쓰기 락으로 한 건씩 반영됨
+// 트랜잭션 안에서 호출되면 커밋된 후에 반영함 (롤백된 수정이 검색에 보이지 않도록)
+// 애플리케이션 시작 시 ArticleSearchService 가 DB 의 전체 글로 rebuild() 함
+
+@Component
+public class ArticleSearchIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();  // lock 으로 보호됨
+
+    // index() : 글을 색인에 추가 (이미 있는 글이면 수정된 내용으로 교체)
+    // 토큰은 호출 시점의 제목 / 본문으로 바로 만들고, 색인 반영만 커밋 후로 미룸
+    public void index(Article article) {
+        long id = article.getId();
+        List<String> tokens = tokenize(article);
+
+        afterCommit(() -> write(target -> target.add(id, tokens)));
+    }
+
+    // remove() : 삭제된 글을 색인에서 제거
+    public void remove(long id) {
+        afterCommit(() -> write(target -> target.remove(id)));
+    }
+
+    // rebuild() : 전달받은 글로 새 색인을 만든 뒤 한 번에 교체 (만드는 동안에도 이전 색인으로 검색 가능)
+    public void rebuild(Stream<Article> articles) {
+        InvertedIndex rebuilt = new InvertedIndex();
+        articles.forEach(article -> rebuilt.add(article.getId(), tokenize(article)));
+
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // search() : 검색어와 관련 있는 글을 BM25 점수순으로 최대 limit 개 반환
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(HangulTokenizer.tokenize(query));  // 같은 토큰은 한 번만 점수에 반영
+
+        lock.readLock().lock();
+        try {
+            return index.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Consumer<InvertedIndex> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(index);
+            if (index.shouldCompact()) {
+                index.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 제목과 본문을 하나의 필드로 색인함
+    private static List<String> tokenize(Article article) {
+        return HangulTokenizer.tokenize(article.getTitle() + "\n" + article.getContent());
+    }
+
+    // 트랜잭션이 없으면 (이미 커밋된 상태) 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
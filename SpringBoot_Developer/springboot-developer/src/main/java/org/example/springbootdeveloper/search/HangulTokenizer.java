@@ -0,0 +1,79 @@
+package org.example.springbootdeveloper.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색 색인 / 검색어에 같이 사용하는 토크나이저
+// - 한글 : 조사가 붙어 띄어쓰기만으로는 단어를 나눌 수 없으므로 연속된 음절을 2글자씩 겹쳐 자름 (bigram)
+//          "블로그를" -> "블로", "로그", "그를" / 한 글자 단어는 그대로 사용
+// - 그 외 문자 / 숫자 : 연속된 구간을 하나의 토큰으로 사용 ("Spring3" -> "spring3")
+// - 공백, 문장 부호 등은 구분자로만 사용
+// 형태소 분석기 없이도 "블로그" 로 "블로그를", "블로그에서" 를 찾을 수 있고, 검색어도 같은 방식으로 잘리므로 색인과 일치함
+
+public final class HangulTokenizer {
+
+    // 너무 긴 토큰 (URL, 해시 값 등)은 앞부분만 사용
+    private static final int MAX_TOKEN_LENGTH = 32;
+
+    private HangulTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        // NFKC : 전각 문자 / 자모로 나뉜 한글 등을 같은 형태로 맞춤
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = normalized.codePointAt(i);
+
+            if (isHangulSyllable(codePoint)) {
+                int end = i + 1;
+                while (end < length && isHangulSyllable(normalized.charAt(end))) {
+                    end++;
+                }
+                addBigrams(normalized, i, end, tokens);
+                i = end;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int end = i + Character.charCount(codePoint);
+                while (end < length) {
+                    int next = normalized.codePointAt(end);
+                    if (isHangulSyllable(next) || !Character.isLetterOrDigit(next)) {
+                        break;
+                    }
+                    end += Character.charCount(next);
+                }
+                tokens.add(normalized.substring(i, Math.min(end, i + MAX_TOKEN_LENGTH)));
+                i = end;
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+
+        return tokens;
+    }
+
+    // 한글 음절 구간 [start, end) 를 2글자씩 겹쳐 자름 (한글 음절은 모두 BMP 이므로 char 단위로 처리)
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    // 완성형 한글 음절 (가 ~ 힣)
+    private static boolean isHangulSyllable(int codePoint) {
+        return codePoint >= 0xAC00 && codePoint <= 0xD7A3;
+    }
+}
@@ -0,0 +1,264 @@
+package org.example.springbootdeveloper.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// 역색인 (토큰 -> 그 토큰이 나오는 문서 목록)
+// 글마다 내부 문서 번호(doc)를 0부터 차례로 붙이고, 포스팅 목록은 문서 번호 / 출현 횟수를 int 배열로 저장함 (박싱 없음)
+// 글이 수정 / 삭제되면 이전 문서 번호는 삭제 표시만 해두고, 삭제된 문서가 살아있는 문서보다 많아지면 compact() 로 정리함
+// 스레드 안전하지 않음 -> ArticleSearchIndex 가 읽기 / 쓰기 락으로 감싸서 사용
+
+final class InvertedIndex {
+
+    // BM25 파라미터 (일반적으로 쓰는 기본값)
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+
+    // 삭제된 문서가 이 수보다 적으면 정리하지 않음 (작은 색인에서 매번 정리하지 않도록)
+    private static final int MIN_DELETED_TO_COMPACT = 1024;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByArticle = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private long[] articleIds = new long[1024];  // 문서 번호 -> 글 id
+    private int[] lengths = new int[1024];       // 문서 번호 -> 토큰 수
+
+    private int maxDoc;        // 지금까지 붙인 문서 번호 수 (삭제된 문서 포함)
+    private int liveDocs;      // 살아있는 문서 수
+    private long totalLength;  // 살아있는 문서의 토큰 수 합 (평균 문서 길이 계산용)
+
+    // 글을 색인에 추가, 이미 색인된 글이면 이전 내용을 삭제하고 새 문서 번호로 추가함
+    void add(long articleId, List<String> tokens) {
+        remove(articleId);
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.computeIfAbsent(token, key -> new int[1])[0]++;
+        }
+
+        int doc = maxDoc++;
+        if (doc == articleIds.length) {
+            articleIds = Arrays.copyOf(articleIds, doc * 2);
+            lengths = Arrays.copyOf(lengths, doc * 2);
+        }
+        articleIds[doc] = articleId;
+        lengths[doc] = tokens.size();
+
+        for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new Postings()).add(doc, entry.getValue()[0]);
+        }
+
+        docByArticle.put(articleId, doc);
+        liveDocs++;
+        totalLength += tokens.size();
+    }
+
+    // 글을 색인에서 삭제 (삭제 표시만 하고 포스팅 목록은 compact() 때 정리)
+    boolean remove(long articleId) {
+        Integer doc = docByArticle.remove(articleId);
+        if (doc == null) {
+            return false;
+        }
+
+        deleted.set(doc);
+        liveDocs--;
+        totalLength -= lengths[doc];
+        return true;
+    }
+
+    // 검색어 토큰(중복 없음)과 하나라도 일치하는 문서를 BM25 점수순으로 최대 limit 개 반환
+    List<SearchHit> search(Collection<String> terms, int limit) {
+        if (liveDocs == 0 || terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        float averageLength = (float) totalLength / liveDocs;
+        float[] scores = new float[maxDoc];
+        boolean matched = false;
+
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+
+            // 문서 빈도(df) : 삭제 표시된 문서는 제외하고 셈
+            int documentFrequency = 0;
+            for (int i = 0; i < list.size; i++) {
+                if (!deleted.get(list.docs[i])) {
+                    documentFrequency++;
+                }
+            }
+            if (documentFrequency == 0) {
+                continue;
+            }
+
+            float idf = (float) Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            for (int i = 0; i < list.size; i++) {
+                int doc = list.docs[i];
+                if (deleted.get(doc)) {
+                    continue;
+                }
+
+                int frequency = list.freqs[i];
+                float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                scores[doc] += idf * frequency * (K1 + 1) / (frequency + norm);
+            }
+            matched = true;
+        }
+
+        return matched ? topHits(scores, limit) : List.of();
+    }
+
+    // 점수가 높은 문서 limit 개를 최소 힙으로 고른 뒤 점수 내림차순으로 정렬
+    private List<SearchHit> topHits(float[] scores, int limit) {
+        int[] heap = new int[limit];
+        int size = 0;
+
+        for (int doc = 0; doc < scores.length; doc++) {
+            if (scores[doc] <= 0) {
+                continue;
+            }
+
+            if (size < limit) {
+                heap[size] = doc;
+                siftUp(heap, size++, scores);
+            } else if (ranksHigher(doc, heap[0], scores)) {
+                heap[0] = doc;
+                siftDown(heap, size, scores);
+            }
+        }
+
+        // 힙에서는 가장 낮은 점수부터 꺼내지므로 뒤에서부터 채움
+        SearchHit[] ranked = new SearchHit[size];
+        for (int i = size - 1; i >= 0; i--) {
+            int doc = heap[0];
+            heap[0] = heap[--size];
+            siftDown(heap, size, scores);
+            ranked[i] = new SearchHit(articleIds[doc], scores[doc]);
+        }
+        return Arrays.asList(ranked);
+    }
+
+    // 점수가 같으면 나중에 색인된 (최신) 글을 위로
+    private static boolean ranksHigher(int doc, int other, float[] scores) {
+        return scores[doc] > scores[other] || (scores[doc] == scores[other] && doc > other);
+    }
+
+    private static void siftUp(int[] heap, int index, float[] scores) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!ranksHigher(heap[parent], heap[index], scores)) {
+                break;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, float[] scores) {
+        int index = 0;
+        while (true) {
+            int lowest = index;
+            int left = index * 2 + 1;
+            int right = left + 1;
+            if (left < size && ranksHigher(heap[lowest], heap[left], scores)) {
+                lowest = left;
+            }
+            if (right < size && ranksHigher(heap[lowest], heap[right], scores)) {
+                lowest = right;
+            }
+            if (lowest == index) {
+                return;
+            }
+            swap(heap, lowest, index);
+            index = lowest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    boolean shouldCompact() {
+        int deletedDocs = maxDoc - liveDocs;
+        return deletedDocs >= MIN_DELETED_TO_COMPACT && deletedDocs > liveDocs;
+    }
+
+    // 삭제 표시된 문서를 포스팅 목록에서 지우고 문서 번호를 앞으로 당김
+    // 문서 번호의 순서는 그대로이므로 포스팅 목록은 정렬된 상태를 유지함
+    void compact() {
+        int[] remap = new int[maxDoc];
+        int next = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = next;
+            articleIds[next] = articleIds[doc];
+            lengths[next] = lengths[doc];
+            next++;
+        }
+
+        Iterator<Postings> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            Postings list = iterator.next();
+            list.retain(remap);
+            if (list.size == 0) {
+                iterator.remove();
+            }
+        }
+
+        docByArticle.replaceAll((articleId, doc) -> remap[doc]);
+        deleted.clear();
+        maxDoc = next;
+    }
+
+    int size() {
+        return liveDocs;
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    // 한 토큰의 포스팅 목록 : 문서 번호 오름차순
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        private void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        private void retain(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.springbootdeveloper.search;
+
+import lombok.Getter;
+
+// 검색 결과 한 건 : 글 id 와 BM25 점수 (점수가 높을수록 검색어와 관련이 높음)
+
+@Getter
+public class SearchHit {
+
+    private final long articleId;
+    private final float score;
+
+    public SearchHit(long articleId, float score) {
+        this.articleId = articleId;
+        this.score = score;
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.springbootdeveloper.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.springbootdeveloper.domain.Article;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// 글 여러 개를 id 로 한 번에 읽는 로더 (BlogService.findAllById)
+// - Hibernate multiLoad 로 2차 캐시에 없는 id 만 'WHERE id IN (...)' 으로 읽고, id 가 많으면 chunk-size 개씩 나눠 조회함
+//   (IN 절 파라미터 수 제한이 있는 DB 대비, 한 읽기 전용 트랜잭션 안에서 실행)
+// - 같은 id 를 동시에 읽는 요청은 먼저 시작한 요청의 결과를 기다려 함께 사용함 (in-flight 합치기)
+//   각 요청은 자기가 맡은 id 를 모두 읽은 뒤에 다른 요청의 결과를 기다리므로 서로를 기다리며 멈추지 않음
+
+@Component
+public class ArticleBatchLoader {
+
+    private final Function<List<Long>, List<Article>> query;  // id 목록 -> 같은 순서의 글 목록 (없는 글은 null)
+    private final Map<Long, CompletableFuture<Article>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ArticleBatchLoader(EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${blog.multi-get.chunk-size:500}") int chunkSize) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);  // 복제본(replica)이 있으면 복제본에서 읽고, 스냅샷 / flush 없음
+
+        this.query = ids -> readOnly.execute(status -> entityManager.unwrap(Session.class)
+                .byMultipleIds(Article.class)
+                .with(CacheMode.NORMAL)  // 지정하지 않으면 2차 캐시를 확인하지 않고 모든 id 를 DB 에서 읽음
+                .withBatchSize(chunkSize)
+                .multiLoad(ids));
+    }
+
+    // 테스트에서 DB 대신 조회 함수를 넣을 때 사용
+    ArticleBatchLoader(Function<List<Long>, List<Article>> query) {
+        this.query = query;
+    }
+
+    // load() : id 로 글을 읽어 id -> 글 로 반환, 없는 글은 결과에 없음
+    public Map<Long, Article> load(Collection<Long> ids) {
+        Map<Long, CompletableFuture<Article>> owned = new HashMap<>();    // 이 요청이 읽을 id
+        Map<Long, CompletableFuture<Article>> waiting = new HashMap<>();  // 다른 요청이 읽고 있는 id
+
+        for (Long id : ids) {
+            if (owned.containsKey(id) || waiting.containsKey(id)) {
+                continue;
+            }
+
+            CompletableFuture<Article> future = new CompletableFuture<>();
+            CompletableFuture<Article> existing = inFlight.putIfAbsent(id, future);
+            if (existing == null) {
+                owned.put(id, future);
+            } else {
+                waiting.put(id, existing);
+            }
+        }
+
+        Map<Long, Article> result = new HashMap<>();
+        if (!owned.isEmpty()) {
+            loadOwned(owned, result);
+        }
+
+        waiting.forEach((id, future) -> {
+            Article article = join(future);
+            if (article != null) {
+                result.put(id, article);
+            }
+        });
+        return result;
+    }
+
+    private void loadOwned(Map<Long, CompletableFuture<Article>> owned, Map<Long, Article> result) {
+        List<Long> ids = new ArrayList<>(owned.keySet());
+        try {
+            List<Article> articles = query.apply(ids);
+            for (int i = 0; i < ids.size(); i++) {
+                Article article = articles.get(i);
+                if (article != null) {
+                    result.put(ids.get(i), article);
+                }
+                owned.get(ids.get(i)).complete(article);
+            }
+        } catch (RuntimeException | Error e) {
+            owned.values().forEach(future -> future.completeExceptionally(e));  // 기다리던 요청도 같은 예외로 실패함
+            throw e;
+        } finally {
+            owned.forEach(inFlight::remove);  // 다음 요청은 캐시 / DB 에서 다시 읽음
+        }
+    }
+
+    private static Article join(CompletableFuture<Article> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
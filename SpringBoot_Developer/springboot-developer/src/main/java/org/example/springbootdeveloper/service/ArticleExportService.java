@@ -0,0 +1,127 @@
+package org.example.springbootdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// 글 전체 내보내기 서비스
+// 글을 List 로 모으지 않고 DB 커서(BlogRepository.streamAll)로 읽으면서 한 건씩 출력 스트림에 바로 씀
+// 쓴 글은 영속성 컨텍스트에서 detach 하므로 글 수와 관계없이 메모리 사용량이 일정함
+// open-in-view 가 꺼져 있으므로 커서를 여는 것부터 마지막 행을 쓰는 것까지 이 서비스의 트랜잭션 안에서 끝냄
+
+@RequiredArgsConstructor
+@Service
+public class ArticleExportService {
+
+    private static final String[] CSV_HEADER = {"id", "title", "content", "created_at", "updated_at"};
+
+    private final BlogRepository blogRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // exportNdjson() : 한 줄에 글 하나씩 JSON 객체로 씀 (application/x-ndjson), 쓴 글 수를 반환
+    @Transactional(readOnly = true)  // 전체 글을 읽는 무거운 조회이므로 복제본(replica)이 있으면 복제본에서 읽음
+    public long exportNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);  // 응답 스트림은 스프링이 닫음
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            long count = forEachArticle(article -> {
+                generator.writeStartObject();
+                generator.writeNumberField("id", article.getId());
+                generator.writeStringField("title", article.getTitle());
+                generator.writeStringField("content", article.getContent());
+                generator.writeArrayFieldStart("tags");  // 대량 등록(/api/articles/bulk)으로 다시 넣을 때 태그도 함께 옮겨지도록
+                for (String tag : article.getTags()) {
+                    generator.writeString(tag);
+                }
+                generator.writeEndArray();
+                generator.writeStringField("createdAt", format(article.getCreatedAt()));
+                generator.writeStringField("updatedAt", format(article.getUpdatedAt()));
+                generator.writeEndObject();
+            });
+            if (count > 0) {
+                generator.writeRaw('\n');  // 마지막 줄도 줄바꿈으로 끝냄
+            }
+
+            return count;
+        }
+    }
+
+    // exportCsv() : 첫 줄에 헤더를 쓰고 한 줄에 글 하나씩 RFC 4180 형식으로 씀 (text/csv), 쓴 글 수를 반환
+    @Transactional(readOnly = true)
+    public long exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRow(writer, CSV_HEADER);
+
+        long count = forEachArticle(article -> writeCsvRow(writer,
+                String.valueOf(article.getId()),
+                article.getTitle(),
+                article.getContent(),
+                format(article.getCreatedAt()),
+                format(article.getUpdatedAt())));
+
+        writer.flush();  // 응답 스트림은 닫지 않고 버퍼만 비움
+        return count;
+    }
+
+    // 커서를 따라 글을 한 건씩 넘겨주고, 다 쓴 글은 바로 detach 해서 영속성 컨텍스트에 쌓이지 않게 함
+    private long forEachArticle(ArticleWriter writer) throws IOException {
+        long count = 0;
+
+        try (Stream<Article> articles = blogRepository.streamAll()) {
+            Iterator<Article> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                Article article = iterator.next();
+                writer.write(article);
+                entityManager.detach(article);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 값에 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 안쪽 큰따옴표는 두 번 씀
+    private static void writeCsvRow(Writer writer, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+
+            String value = values[i] == null ? "" : values[i];
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toString();
+    }
+
+    @FunctionalInterface
+    private interface ArticleWriter {
+        void write(Article article) throws IOException;
+    }
+}
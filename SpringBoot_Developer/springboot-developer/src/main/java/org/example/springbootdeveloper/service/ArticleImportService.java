@@ -0,0 +1,225 @@
+package org.example.springbootdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import org.example.springbootdeveloper.cache.ArticleCache;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.BulkImportResponse;
+import org.example.springbootdeveloper.feed.ArticleEventBroadcaster;
+import org.example.springbootdeveloper.markdown.MarkdownRenderer;
+import org.example.springbootdeveloper.search.ArticleSearchIndex;
+import org.example.springbootdeveloper.tag.ArticleTagIndex;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// 글 대량 등록 서비스
+// 요청을 batch-size 개씩 모아 한 트랜잭션에서 persist -> flush -> clear 함
+// Article 의 id 는 시퀀스(pooled)로 미리 할당되므로 Hibernate 가 INSERT 를 JDBC 배치로 묶어 한 번에 전송함
+// 묶음 저장이 실패하면 그 묶음만 한 건씩 다시 저장해서 실패한 항목만 골라내고, 나머지 묶음은 계속 진행함
+// 글마다 변경 이벤트를 보내지 않고, 묶음이 커밋될 때마다 reset 이벤트 하나로 구독자가 목록을 다시 읽도록 함
+
+@Service
+public class ArticleImportService {
+
+    // 응답에 담을 실패 상세의 최대 개수 (실패 건수는 failed 에 모두 집계됨)
+    private static final int MAX_REPORTED_FAILURES = 1000;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleCache articleCache;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleTagIndex articleTagIndex;
+    private final MarkdownRenderer markdownRenderer;
+    private final ArticleEventBroadcaster articleEventBroadcaster;
+    private final ObjectReader requestReader;
+
+    @Value("${blog.bulk.batch-size:100}")
+    private int batchSize;
+
+    public ArticleImportService(EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                ArticleCache articleCache,
+                                ArticleSearchIndex articleSearchIndex,
+                                ArticleTagIndex articleTagIndex,
+                                MarkdownRenderer markdownRenderer,
+                                ArticleEventBroadcaster articleEventBroadcaster,
+                                ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // TransactionTemplate : 묶음마다 트랜잭션을 직접 열고 커밋하기 위해 사용 (@Transactional 은 메서드 단위)
+        this.articleCache = articleCache;
+        this.articleSearchIndex = articleSearchIndex;
+        this.articleTagIndex = articleTagIndex;
+        this.markdownRenderer = markdownRenderer;
+        this.articleEventBroadcaster = articleEventBroadcaster;
+        this.requestReader = objectMapper.readerFor(AddArticleRequest.class);
+    }
+
+    // importArticles() : 이미 읽은(또는 읽어 가면서 만들어지는) 요청 목록을 저장
+    // JSON 배열 요청은 Jackson MappingIterator 로 한 건씩 읽으므로 전체를 메모리에 올리지 않음
+    // 입력 형식이 잘못된 경우에는 그 위치를 실패로 기록하고 더 이상 읽지 않음 (이후 위치를 알 수 없음)
+    public BulkImportResponse importArticles(Iterator<AddArticleRequest> requests) {
+        ImportRun run = new ImportRun();
+
+        while (true) {
+            AddArticleRequest request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) {
+                run.fail(run.nextIndex(), "malformed input: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                break;
+            }
+            run.add(run.nextIndex(), request);
+        }
+
+        return run.finish();
+    }
+
+    // importNdjson() : 한 줄에 JSON 객체 하나씩 담긴 NDJSON 요청을 한 줄씩 읽으며 저장
+    // 형식이 잘못된 줄은 그 줄만 실패로 기록하고 다음 줄을 계속 읽음 (빈 줄은 무시)
+    public BulkImportResponse importNdjson(BufferedReader reader) throws IOException {
+        ImportRun run = new ImportRun();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            int index = run.nextIndex();
+            try {
+                run.add(index, requestReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                run.fail(index, "malformed json: " + e.getOriginalMessage());
+            }
+        }
+
+        return run.finish();
+    }
+
+    private static String validate(AddArticleRequest request) {
+        if (request == null) {
+            return "article is required";
+        }
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (request.getContent() == null) {
+            return "content is required";
+        }
+        return null;
+    }
+
+    // 한 번의 대량 등록 요청 처리 상태 (요청마다 새로 만들어지므로 스레드 간에 공유되지 않음)
+    private final class ImportRun {
+
+        private final List<Integer> pendingIndexes = new ArrayList<>();
+        private final List<AddArticleRequest> pending = new ArrayList<>();
+        private final List<BulkImportResponse.Failure> failures = new ArrayList<>();
+
+        private int received;
+        private int imported;
+        private int failed;
+
+        private int nextIndex() {
+            return received++;
+        }
+
+        private void add(int index, AddArticleRequest request) {
+            String error = validate(request);
+            if (error != null) {
+                fail(index, error);
+                return;
+            }
+
+            pendingIndexes.add(index);
+            pending.add(request);
+
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void fail(int index, String message) {
+            failed++;
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(new BulkImportResponse.Failure(index, message));
+            }
+        }
+
+        // 모아둔 요청을 한 트랜잭션으로 저장, 실패하면 한 건씩 다시 저장해 실패한 항목을 찾음
+        // 한 건이라도 커밋되었으면 목록 캐시를 비우고 reset 이벤트를 보냄 (트랜잭션이 끝난 뒤이므로 바로 보내짐)
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            int before = imported;
+            try {
+                transactionTemplate.executeWithoutResult(status -> persistAll(pending));
+                imported += pending.size();
+            } catch (RuntimeException batchFailure) {
+                for (int i = 0; i < pending.size(); i++) {
+                    List<AddArticleRequest> single = List.of(pending.get(i));
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> persistAll(single));
+                        imported++;
+                    } catch (RuntimeException e) {
+                        fail(pendingIndexes.get(i), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                    }
+                }
+            }
+
+            pending.clear();
+            pendingIndexes.clear();
+
+            if (imported > before) {
+                articleCache.evictPages();  // reset 을 받고 다시 읽는 목록에 새 글이 보이도록 목록 캐시를 먼저 비움
+                articleEventBroadcaster.reset();
+            }
+        }
+
+        private BulkImportResponse finish() {
+            flush();
+
+            return new BulkImportResponse(received, imported, failed, failures);
+        }
+    }
+
+    // persistAll() : 트랜잭션 안에서 호출됨
+    // JDBC 배치 크기를 묶음 크기에 맞추고, 저장 후 flush / clear 로 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지함
+    // 대량으로 저장한 글은 2차 캐시에 넣지 않음 (CacheMode.IGNORE, 자주 읽는 글이 밀려나지 않도록)
+    private void persistAll(List<AddArticleRequest> requests) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        session.setCacheMode(CacheMode.IGNORE);
+
+        for (AddArticleRequest request : requests) {
+            Article article = request.toEntity();
+            article.render(markdownRenderer.render(article.getContent()));
+            entityManager.persist(article);
+            articleSearchIndex.index(article);  // 커밋된 경우에만 색인에 반영됨
+            articleTagIndex.index(article);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
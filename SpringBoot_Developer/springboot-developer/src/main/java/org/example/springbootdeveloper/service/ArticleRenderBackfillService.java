@@ -0,0 +1,137 @@
+package org.example.springbootdeveloper.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.cache.ArticleCache;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.markdown.MarkdownRenderer;
+import org.example.springbootdeveloper.markdown.RenderedContent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 렌더링 결과(content_html / excerpt)가 없는 기존 글을 채우는 작업
+// 렌더링 컬럼이 생기기 전에 저장된 글 (data.sql, 이전 버전에서 저장한 글) 은 조회할 때 본문을 글자 그대로 보여주므로 시작할 때 백그라운드에서 한 번 채움
+// - id 순서로 chunk-size 개씩 읽어 렌더링하고, 한 트랜잭션의 JDBC 배치 UPDATE 로 반영한 뒤 pause 만큼 쉼 (DB 부하 / 트랜잭션 크기를 일정하게 유지)
+// - UPDATE 는 'content_html is null' 인 행만 바꾸므로 그 사이에 BlogService 로 수정된 글(이미 렌더링됨)을 덮어쓰지 않음
+// - 글 내용은 그대로지만 응답(글 화면의 HTML, 목록 미리보기, ArticleResponse.contentHtml)이 바뀌므로 버전 / 수정 시간도 올림
+//   -> 글 ETag(id + 버전), Last-Modified, 목록 ETag(글 수 + 최근 수정 시간)가 바뀌어, 채우기 전에 받아 둔 응답을 브라우저 / CDN 이 304 로 계속 쓰지 않음
+//   (채우기 전에 받은 ETag 로 If-Match 수정하면 412 -> 다시 조회해서 수정)
+// - Hibernate 를 거치지 않으므로 바꾼 글을 2차 캐시 / 글 캐시에서 직접 지움
+
+@Slf4j
+@Service
+public class ArticleRenderBackfillService {
+
+    private static final String SELECT_SQL = "select id, content from article where content_html is null and id > ? order by id limit ?";
+    private static final String UPDATE_SQL = "update article set content_html = ?, excerpt = ?, version = version + 1, updated_at = ? where id = ? and content_html is null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MarkdownRenderer markdownRenderer;
+    private final ArticleCache articleCache;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${blog.render.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blog.render.backfill.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${blog.render.backfill.pause:100ms}")
+    private Duration pause;
+
+    public ArticleRenderBackfillService(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        MarkdownRenderer markdownRenderer,
+                                        ArticleCache articleCache,
+                                        EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.markdownRenderer = markdownRenderer;
+        this.articleCache = articleCache;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // 시작이 끝난 뒤 별도 스레드에서 실행 (글이 많아도 시작 / 요청 처리를 기다리게 하지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        Thread thread = new Thread(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.warn("failed to backfill rendered article content, remaining articles are shown as plain text", e);
+            }
+        }, "article-render-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // backfill() : 렌더링 결과가 없는 글을 모두 채우고, 채운 글 수를 반환
+    public int backfill() {
+        long lastId = 0;
+        int rendered = 0;
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(SELECT_SQL,
+                    (row, rowNum) -> new Object[]{row.getLong("id"), row.getString("content")}, lastId, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> batch = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                RenderedContent content = markdownRenderer.render((String) row[1]);
+                batch.add(new Object[]{content.getHtml(), content.getExcerpt(), now, row[0]});
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, batch));
+            evict(rows);
+
+            rendered += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < chunkSize) {
+                break;
+            }
+            sleep();
+        }
+
+        if (rendered > 0) {
+            log.info("backfilled rendered content of {} articles", rendered);
+        }
+        return rendered;
+    }
+
+    // 렌더링 전의 글이 캐시에 남아 있지 않도록 지움 (목록 미리보기가 바뀌므로 목록 / 쿼리 캐시도 함께 비움)
+    private void evict(List<Object[]> rows) {
+        org.hibernate.Cache secondLevelCache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        for (Object[] row : rows) {
+            long id = (Long) row[0];
+            secondLevelCache.evictEntityData(Article.class, id);
+            articleCache.evictArticle(id);
+        }
+        secondLevelCache.evictQueryRegions();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("backfill interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.springbootdeveloper.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.ArticleSearchResponse;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.example.springbootdeveloper.search.ArticleSearchIndex;
+import org.example.springbootdeveloper.search.SearchHit;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 글 검색 서비스
+// 검색은 DB 의 LIKE '%q%' 스캔 대신 메모리 역색인(ArticleSearchIndex)에서 점수순 글 id 를 구한 뒤, 그 id 의 요약만 DB 에서 조회함
+// 색인은 애플리케이션 시작 시 (웹 서버가 요청을 받기 전) DB 의 전체 글로 만들고, 이후에는 BlogService 의 추가 / 수정 / 삭제로 갱신됨
+
+@Slf4j
+@Service
+public class ArticleSearchService implements SmartInitializingSingleton {
+
+    private final BlogRepository blogRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int maxPageSize;
+
+    public ArticleSearchService(BlogRepository blogRepository,
+                                ArticleSearchIndex articleSearchIndex,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager) {
+        this.blogRepository = blogRepository;
+        this.articleSearchIndex = articleSearchIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 모든 싱글톤 빈이 만들어진 뒤 (data.sql 실행 후, 웹 서버 시작 전) 색인을 만듬
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // rebuild() : DB 의 전체 글을 스트림으로 읽어 색인을 새로 만듬 (읽은 글은 바로 detach)
+    public void rebuild() {
+        long start = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Article> articles = blogRepository.streamAll()) {
+                articleSearchIndex.rebuild(articles.peek(entityManager::detach));
+            }
+        });
+
+        log.info("article search index rebuilt : {} articles in {} ms",
+                articleSearchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // search() : 검색어와 관련 있는 글을 점수순으로 최대 size 개 반환
+    public List<ArticleSearchResponse> search(String query, Integer size) {
+        int limit = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        List<SearchHit> hits = articleSearchIndex.search(query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleSummary> summaries = blogRepository.findSummariesByIdIn(hits.stream().map(SearchHit::getArticleId).toList())
+                .stream()
+                .collect(Collectors.toMap(ArticleSummary::getId, Function.identity()));
+
+        // 색인에 반영되기 직전에 삭제된 글은 건너뜀
+        return hits.stream()
+                .filter(hit -> summaries.containsKey(hit.getArticleId()))
+                .map(hit -> new ArticleSearchResponse(summaries.get(hit.getArticleId()), hit.getScore()))
+                .toList();
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.springbootdeveloper.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.ArticleCursor;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.dto.CursorPage;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.example.springbootdeveloper.tag.ArticleTagIndex;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 태그로 거른 글 목록 서비스
+// 조건에 맞는 글 id 는 메모리 비트맵 색인(ArticleTagIndex)의 AND / OR 로 구하고, 한 페이지 분량의 id 요약만 DB 에서 조회함
+// 목록은 id 역순 (글을 저장한 순서의 역순 = 최신 글부터), 커서는 전체 목록과 같은 ArticleCursor 를 쓰지만 id 만 사용함
+// 색인은 애플리케이션 시작 시 (웹 서버가 요청을 받기 전) DB 의 전체 글로 만들고, 이후에는 BlogService / ArticleImportService 의 추가 / 수정 / 삭제로 갱신됨
+
+@Slf4j
+@Service
+public class ArticleTagService implements SmartInitializingSingleton {
+
+    private final BlogRepository blogRepository;
+    private final ArticleTagIndex articleTagIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int maxPageSize;
+
+    public ArticleTagService(BlogRepository blogRepository,
+                             ArticleTagIndex articleTagIndex,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager) {
+        this.blogRepository = blogRepository;
+        this.articleTagIndex = articleTagIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 모든 싱글톤 빈이 만들어진 뒤 (data.sql 실행 후, 웹 서버 시작 전) 색인을 만듬
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // rebuild() : DB 의 전체 글을 스트림으로 읽어 색인을 새로 만듬 (읽은 글은 바로 detach)
+    public void rebuild() {
+        long start = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Article> articles = blogRepository.streamAll()) {
+                articleTagIndex.rebuild(articles.peek(entityManager::detach));
+            }
+        });
+
+        log.info("article tag index rebuilt : {} tags, {} KB in {} ms",
+                articleTagIndex.size(), articleTagIndex.sizeInBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // findPage() : tags(정규화된 태그)를 모두(AND) / 하나라도(OR) 가진 글을 최신순으로 한 페이지 조회
+    // cursor 가 없으면 첫 페이지, 있으면 커서에 담긴 방향(다음 / 이전)으로 size 개 만큼 조회 (잘못된 커서는 IllegalArgumentException)
+    // size + 1 개의 id 를 색인에서 구해서 한 개가 더 있으면 그 방향으로 페이지가 더 있다고 판단함
+    public CursorPage<ArticleSummary> findPage(Collection<String> tags, ArticleTagIndex.Mode mode, String cursor, Integer size) {
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        if (cursor == null || cursor.isBlank()) {
+            List<Long> ids = articleTagIndex.findBefore(tags, mode, Long.MAX_VALUE, pageSize + 1);
+            boolean hasNext = ids.size() > pageSize;
+
+            return toPage(hasNext ? ids.subList(0, pageSize) : ids, hasNext, false);
+        }
+
+        ArticleCursor decoded = ArticleCursor.decode(cursor);
+
+        if (decoded.getDirection() == ArticleCursor.Direction.NEXT) {
+            List<Long> ids = articleTagIndex.findBefore(tags, mode, decoded.getId(), pageSize + 1);
+            boolean hasNext = ids.size() > pageSize;
+
+            // 다음 페이지로 이동해 왔으므로 이전 페이지는 항상 존재함
+            return toPage(hasNext ? ids.subList(0, pageSize) : ids, hasNext, true);
+        }
+
+        // 이전 페이지는 id 순서로 구해지므로 최신순(id 역순)으로 뒤집어서 사용
+        List<Long> ids = articleTagIndex.findAfter(tags, mode, decoded.getId(), pageSize + 1);
+        boolean hasPrev = ids.size() > pageSize;
+        List<Long> content = new ArrayList<>(hasPrev ? ids.subList(0, pageSize) : ids);
+        Collections.reverse(content);
+
+        return toPage(content, true, hasPrev);
+    }
+
+    // 한 페이지의 id 로 요약을 한 번에 조회해서 id 순서대로 담음, 색인에 반영되기 직전에 삭제된 글은 건너뜀
+    private CursorPage<ArticleSummary> toPage(List<Long> ids, boolean hasNext, boolean hasPrev) {
+        if (ids.isEmpty()) {
+            return new CursorPage<>(List.of(), null, null);
+        }
+
+        Map<Long, ArticleSummary> summaries = blogRepository.findSummariesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(ArticleSummary::getId, Function.identity()));
+        List<ArticleSummary> content = ids.stream()
+                .filter(summaries::containsKey)
+                .map(summaries::get)
+                .toList();
+        if (content.isEmpty()) {
+            return new CursorPage<>(content, null, null);
+        }
+
+        ArticleSummary first = content.get(0);
+        ArticleSummary last = content.get(content.size() - 1);
+        String next = hasNext ? ArticleCursor.next(last.getCreatedAt(), last.getId()).encode() : null;
+        String prev = hasPrev ? ArticleCursor.prev(first.getCreatedAt(), first.getId()).encode() : null;
+
+        return new CursorPage<>(content, next, prev);
+    }
+}
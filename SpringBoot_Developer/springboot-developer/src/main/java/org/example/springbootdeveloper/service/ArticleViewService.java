@@ -0,0 +1,176 @@
+package org.example.springbootdeveloper.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.dto.MostViewedArticleResponse;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 글 조회 수 (write-behind)
+// 글을 조회할 때마다 DB 를 수정하지 않고 글마다 LongAdder 로 메모리에서 세어 두었다가 (락 없음, 스레드가 많아도 경합이 적음)
+// 주기적으로 (blog.views.flush-interval) 모인 수를 'UPDATE article SET views = views + ?' 한 번의 JDBC 배치로 DB 에 더함
+// - 많이 본 글 순위는 메모리의 합계 (시작할 때 DB 에서 읽은 조회 수 + 그 이후 조회 수) 로 구함
+// - 정상 종료할 때 (@PreDestroy) 아직 반영하지 않은 조회 수를 마지막으로 반영함
+// - 반영에 실패하면 그 수를 다시 쌓아 두고 다음 주기에 반영함 (비정상 종료 시에는 마지막 주기 이후의 조회 수를 잃을 수 있음)
+
+@Slf4j
+@Service
+public class ArticleViewService implements SmartInitializingSingleton {
+
+    private static final String INCREMENT_SQL = "update article set views = views + ? where id = ?";
+
+    private final BlogRepository blogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, ViewCount> counts = new ConcurrentHashMap<>();
+    private final Lock flushLock = new ReentrantLock();  // 주기적 반영과 종료 시 반영이 겹치지 않도록 (가상 스레드를 고정하지 않도록 synchronized 대신 사용)
+
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int maxPageSize;
+
+    public ArticleViewService(BlogRepository blogRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.blogRepository = blogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 모든 싱글톤 빈이 만들어진 뒤 (data.sql 실행 후, 웹 서버 시작 전) DB 의 조회 수를 읽어 순위 계산에 사용함
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.query("select id, views from article where views > 0",
+                (RowCallbackHandler) row -> count(row.getLong("id")).total.add(row.getLong("views")));
+    }
+
+    // increment() : 글 조회 1회를 기록 (DB 접근 없음)
+    public void increment(long id) {
+        ViewCount count = count(id);
+        count.pending.increment();
+        count.total.increment();
+    }
+
+    // views() : 글의 현재 조회 수 (DB 에 반영되지 않은 수 포함)
+    public long views(long id) {
+        ViewCount count = counts.get(id);
+        return count == null ? 0 : count.total.sum();
+    }
+
+    // remove() : 삭제된 글은 순위에서 제외
+    public void remove(long id) {
+        counts.remove(id);
+    }
+
+    // mostViewed() : 조회 수가 많은 글을 최대 size 개 반환 (순위는 메모리에서 계산하고, 제목만 DB 에서 한 번에 조회)
+    public List<MostViewedArticleResponse> mostViewed(Integer size) {
+        int limit = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        // 조회 수가 가장 적은 글이 맨 앞에 오는 최소 힙으로 상위 limit 개만 유지함
+        PriorityQueue<long[]> top = new PriorityQueue<>(limit + 1, Comparator.comparingLong((long[] entry) -> entry[1]));
+        counts.forEach((id, count) -> {
+            long views = count.total.sum();
+            if (views > 0) {
+                top.add(new long[]{id, views});
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        });
+        if (top.isEmpty()) {
+            return List.of();
+        }
+
+        List<long[]> ranked = new ArrayList<>(top);
+        ranked.sort(Comparator.comparingLong((long[] entry) -> entry[1]).reversed());
+
+        Map<Long, ArticleSummary> summaries = blogRepository.findSummariesByIdIn(ranked.stream().map(entry -> entry[0]).toList())
+                .stream()
+                .collect(Collectors.toMap(ArticleSummary::getId, Function.identity()));
+
+        // 순위를 계산한 뒤 삭제된 글은 건너뜀
+        return ranked.stream()
+                .filter(entry -> summaries.containsKey(entry[0]))
+                .map(entry -> new MostViewedArticleResponse(summaries.get(entry[0]), entry[1]))
+                .toList();
+    }
+
+    // flush() : 모인 조회 수를 DB 에 반영하고, 반영한 글 수를 반환
+    // 글 id 순서로 정렬해 한 트랜잭션의 JDBC 배치로 실행함 (여러 인스턴스가 동시에 반영해도 같은 순서로 행을 잠금)
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval:PT5S}", initialDelayString = "${blog.views.flush-interval:PT5S}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<Object[]> batch = new ArrayList<>();
+            List<ViewCount> drained = new ArrayList<>();
+
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> {
+                        long views = entry.getValue().pending.sumThenReset();
+                        if (views > 0) {
+                            batch.add(new Object[]{views, entry.getKey()});
+                            drained.add(entry.getValue());
+                        }
+                    });
+
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INCREMENT_SQL, batch));
+            } catch (RuntimeException e) {
+                // 반영하지 못한 수는 다시 쌓아 두고 다음 주기에 반영함
+                for (int i = 0; i < drained.size(); i++) {
+                    drained.get(i).pending.add((Long) batch.get(i)[0]);
+                }
+                log.warn("failed to flush view counts of {} articles, will retry", batch.size(), e);
+                return 0;
+            }
+            return batch.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 정상 종료 시 (웹 서버가 멈춘 뒤, DataSource 가 닫히기 전) 남은 조회 수를 반영함
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("flushed view counts of {} articles on shutdown", flushed);
+    }
+
+    private ViewCount count(long id) {
+        ViewCount count = counts.get(id);  // 대부분 이미 있으므로 computeIfAbsent 전에 먼저 조회 (락 없음)
+        return count != null ? count : counts.computeIfAbsent(id, key -> new ViewCount());
+    }
+
+    private static final class ViewCount {
+        private final LongAdder pending = new LongAdder();  // 아직 DB 에 반영하지 않은 조회 수
+        private final LongAdder total = new LongAdder();    // 시작할 때의 DB 조회 수 + 그 이후 조회 수
+    }
+}
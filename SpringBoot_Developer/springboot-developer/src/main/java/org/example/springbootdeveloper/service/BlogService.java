@@ -1,14 +1,30 @@
 package org.example.springbootdeveloper.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.cache.ArticleCache;
 import org.example.springbootdeveloper.domain.Article;
 import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.ArticleCursor;
+import org.example.springbootdeveloper.dto.ArticleListVersion;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.dto.CursorPage;
 import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.example.springbootdeveloper.exception.VersionMismatchException;
+import org.example.springbootdeveloper.feed.ArticleEventBroadcaster;
+import org.example.springbootdeveloper.markdown.MarkdownRenderer;
 import org.example.springbootdeveloper.repository.BlogRepository;
+import org.example.springbootdeveloper.search.ArticleSearchIndex;
+import org.example.springbootdeveloper.tag.ArticleTagIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 // BlogService.java : service 패키지를 생성한 뒤, service 패키지에서 BlogService 클래스 구현
 @RequiredArgsConstructor  // 빈을 생성자로 생성하는 롬복 지원 애너테이션
@@ -17,27 +33,138 @@ import java.util.List;
 public class BlogService {
 
     private final BlogRepository blogRepository;
+    private final ArticleCache articleCache;  // 글 단건 / 목록 조회 결과 캐시
+    private final ArticleSearchIndex articleSearchIndex;  // 검색용 역색인 (글이 바뀔 때마다 갱신)
+    private final ArticleTagIndex articleTagIndex;  // 태그 -> 글 id 비트맵 색인 (글이 바뀔 때마다 갱신)
+    private final ArticleViewService articleViewService;  // 조회 수 (삭제된 글은 순위에서 제외)
+    private final ArticleEventBroadcaster articleEventBroadcaster;  // 글 추가 / 수정 / 삭제 이벤트 (SSE, 커밋 후에 보냄)
+    private final ArticleBatchLoader articleBatchLoader;  // 여러 글을 id 로 한 번에 읽음 (IN 쿼리, 동시 요청 합치기)
+    private final MarkdownRenderer markdownRenderer;  // 본문(Markdown) -> HTML / 미리보기, 저장할 때 한 번만 렌더링함
+
+    // 페이지 크기를 지정하지 않았을 때 사용할 기본 크기
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultPageSize;
+
+    // 클라이언트가 요청할 수 있는 최대 페이지 크기 (서버 측 상한)
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int maxPageSize;
+
     // 블로그 글 추가 메서드
     public Article save(AddArticleRequest request) {
     // save() 메서드 : JpaRepository에서 지원하는 저장 메서드로 AddArticleRequest 클래스에 저장된 값들을 article 데이터베이스에 저장
-        return blogRepository.save(request.toEntity());
+        Article article = request.toEntity();
+        article.render(markdownRenderer.render(article.getContent()));  // 조회할 때 파싱하지 않도록 렌더링 결과를 함께 저장
+        Article savedArticle = blogRepository.save(article);
+        articleCache.evictPages();  // 새 글이 목록 첫 페이지에 보이도록 목록 캐시를 비움
+        articleSearchIndex.index(savedArticle);
+        articleTagIndex.index(savedArticle);
+        articleEventBroadcaster.created(savedArticle);
+
+        return savedArticle;
     }
 
+    @Transactional(readOnly = true)  // 읽기 전용 트랜잭션 : 복제본(replica)이 있으면 복제본에서 읽음 (DataSourceRoutingConfig)
+    // 읽기 전용 트랜잭션이면 스프링(HibernateJpaDialect)이 세션을 read-only / FlushMode.MANUAL 로, JDBC 커넥션을 setReadOnly(true) 로 설정함
+    // -> 엔티티 스냅샷을 만들지 않고, 커밋할 때 flush(변경 감지)를 하지 않음
     public List<Article> findAll() {
     // findAll() 메서드 : JPA 지원 메서드 + article 테이블에 저장 되어 있는 모든 데이터를 조회함
+    // 조회 힌트 (read-only, fetch size, 2차 캐시 제외)는 BlogRepository.findAll() 참고
         return blogRepository.findAll();
     }
 
+    // findPage() 메서드 : (createdAt, id) 기준 키셋 페이지네이션으로 글 목록을 최신순으로 조회
+    // 본문 전체 대신 요약 프로젝션(ArticleSummary)을 조회하므로 엔티티가 영속성 컨텍스트에 올라가지 않음
+    // cursor 가 없으면 첫 페이지, 있으면 커서에 담긴 방향(다음 / 이전)으로 size 개 만큼 조회
+    // size + 1 개를 조회해서 한 개가 더 있으면 그 방향으로 페이지가 더 있다고 판단함
+    // 조회 결과는 (cursor, size) 단위로 캐시하고, 글이 추가 / 수정 / 삭제되면 무효화됨
+    // 캐시에 있으면 트랜잭션 / 연결 없이 반환하고, 캐시에 없을 때만 BlogRepository 의 읽기 전용 쿼리(복제본)로 읽음
+    public CursorPage<ArticleSummary> findPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+
+        return articleCache.getPage(cursor == null ? "" : cursor, pageSize, () -> loadPage(cursor, pageSize));
+    }
+
+    private CursorPage<ArticleSummary> loadPage(String cursor, int pageSize) {
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        if (cursor == null || cursor.isBlank()) {
+            List<ArticleSummary> rows = blogRepository.findLatest(limit);
+            boolean hasNext = rows.size() > pageSize;
+            List<ArticleSummary> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+            return toPage(content, hasNext, false);
+        }
+
+        ArticleCursor decoded = ArticleCursor.decode(cursor);
+
+        if (decoded.getDirection() == ArticleCursor.Direction.NEXT) {
+            List<ArticleSummary> rows = blogRepository.findOlderThan(decoded.getCreatedAt(), decoded.getId(), limit);
+            boolean hasNext = rows.size() > pageSize;
+            List<ArticleSummary> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+            // 다음 페이지로 이동해 왔으므로 이전 페이지는 항상 존재함
+            return toPage(content, hasNext, true);
+        }
+
+        // 이전 페이지는 오래된 순으로 조회되므로 최신순으로 뒤집어서 반환
+        List<ArticleSummary> rows = blogRepository.findNewerThan(decoded.getCreatedAt(), decoded.getId(), limit);
+        boolean hasPrev = rows.size() > pageSize;
+        List<ArticleSummary> content = new ArrayList<>(hasPrev ? rows.subList(0, pageSize) : rows);
+        Collections.reverse(content);
+
+        return toPage(content, true, hasPrev);
+    }
+
+    // findListVersion() : 목록 전체의 검증자(글 수, 최근 수정 시간)를 조회, 목록 ETag 계산에 사용
+    public ArticleListVersion findListVersion() {
+        return articleCache.getListVersion(blogRepository::findListVersion);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return defaultPageSize;
+        }
+
+        return Math.min(size, maxPageSize);
+    }
+
+    private CursorPage<ArticleSummary> toPage(List<ArticleSummary> content, boolean hasNext, boolean hasPrev) {
+        if (content.isEmpty()) {
+            return new CursorPage<>(content, null, null);
+        }
+
+        ArticleSummary first = content.get(0);
+        ArticleSummary last = content.get(content.size() - 1);
+        String next = hasNext ? ArticleCursor.next(last.getCreatedAt(), last.getId()).encode() : null;
+        String prev = hasPrev ? ArticleCursor.prev(first.getCreatedAt(), first.getId()).encode() : null;
+
+        return new CursorPage<>(content, next, prev);
+    }
+
     // findById() 메서드 : JPA에서 제공 / ID로 Entity 조회
     // findById() 메서드가 없으면 IllegalArgumentException 예외 발생
+    // 캐시에 있으면 DB 를 조회하지 않음 (read-through), 없는 글은 캐시하지 않음
+    // 캐시에 없으면 JpaRepository.findById 의 읽기 전용 트랜잭션으로 읽음 (복제본, 스냅샷 / flush 없음)
+    // 메서드 전체에 @Transactional(readOnly = true) 를 붙이지 않는 이유 : 트랜잭션을 시작하면 커넥션을 먼저 얻으므로 캐시 적중 시에도 커넥션을 빌리게 됨
     public Article findById(long id) {
-        return blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        return articleCache.getArticle(id, () -> blogRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + id)));
+    }
+
+    // findAllById() : 여러 글을 한 번에 조회해서 id -> 글 로 반환, 없는 글은 예외 없이 결과에서 빠짐
+    // 캐시에 있는 글은 캐시에서 읽고, 나머지만 모아 ArticleBatchLoader 로 한 번에 읽은 뒤 캐시에 넣음
+    public Map<Long, Article> findAllById(Collection<Long> ids) {
+        return articleCache.getArticles(ids, articleBatchLoader::load);
     }
 
     // delete() 메서드 : ID로 JPA에서 제공하는 deleteById() 메서드를 이용해 데이터베이스에서 데이터를 삭제
     public void delete(long id) {
         blogRepository.deleteById(id);
+        articleCache.evictArticle(id);
+        articleSearchIndex.remove(id);
+        articleTagIndex.remove(id);
+        articleViewService.remove(id);
+        articleEventBroadcaster.deleted(id);
     }
 
     @Transactional // 트랜잭션 메서드
@@ -45,10 +172,30 @@ public class BlogService {
     // 스프링에서는 트랜잭션을 적용하기 위해 다른 작업을 할 필요 없이 @Transactional 애너테이션만 사용하면 됨
     // updqte() 메서드 : Entity의 필드 값이 바뀌면 중간에 에러가 발생해도 제대로 된 값 수정을 보장함
     public Article update(long id, UpdateArticleRequest request) {
+        return update(id, request, null);
+    }
+
+    // 조건부 수정 : expectedVersion 이 있으면 현재 글의 버전과 같을 때만 수정 (If-Match)
+    // - 버전이 다르면 VersionMismatchException 예외 발생 (이미 다른 사용자가 수정함)
+    // - 버전 확인 후 커밋 전에 다른 트랜잭션이 먼저 수정하면 @Version 검사에 걸려 커밋 시 ObjectOptimisticLockingFailureException 예외 발생
+    @Transactional
+    public Article update(long id, UpdateArticleRequest request, Long expectedVersion) {
         Article article = blogRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("not found : " + id));
 
+        if (expectedVersion != null && !expectedVersion.equals(article.getVersion())) {
+            throw new VersionMismatchException(id, expectedVersion, article.getVersion());
+        }
+
         article.update(request.getTitle(), request.getContent());
+        if (request.getTags() != null) {  // 태그를 보내지 않으면 기존 태그 유지
+            article.updateTags(request.getTags());
+        }
+        article.render(markdownRenderer.render(request.getContent()));
+        articleSearchIndex.index(article);  // 커밋 후에 수정된 제목 / 본문으로 다시 색인
+        articleTagIndex.index(article);
+        articleCache.refreshArticle(article);  // 커밋 전에는 캐시를 무효화하고, 커밋 후에는 수정된 글로 채워 수정 이전 값이 남지 않도록 함
+        articleEventBroadcaster.updated(article);  // 커밋 후에 새 버전으로 보냄
 
         return article;
     }
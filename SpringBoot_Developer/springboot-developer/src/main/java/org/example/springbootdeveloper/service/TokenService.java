@@ -0,0 +1,58 @@
+package org.example.springbootdeveloper.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.config.jwt.TokenProvider;
+import org.example.springbootdeveloper.domain.RefreshToken;
+import org.example.springbootdeveloper.domain.User;
+import org.example.springbootdeveloper.dto.LoginResponse;
+import org.example.springbootdeveloper.repository.RefreshTokenRepository;
+import org.example.springbootdeveloper.repository.UserRepository;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Service;
+
+// 토큰 발급 서비스
+// - login() : 이메일 / 비밀번호를 확인하고 액세스 토큰 + 리프레시 토큰 발급 (리프레시 토큰은 사용자마다 하나만 저장)
+// - createNewAccessToken() : 저장된 리프레시 토큰으로 새 액세스 토큰 발급
+// API 요청의 인증은 토큰 서명만 확인하므로, DB 는 로그인 / 재발급할 때만 조회함
+
+@RequiredArgsConstructor
+@Service
+public class TokenService {
+
+    private final TokenProvider tokenProvider;
+    private final AuthenticationManager authenticationManager;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+
+    // 비밀번호가 틀리거나 없는 사용자면 BadCredentialsException 예외 발생
+    @Transactional
+    public LoginResponse login(String email, String password) {
+        User user = (User) authenticationManager
+                .authenticate(new UsernamePasswordAuthenticationToken(email, password))
+                .getPrincipal();
+
+        String refreshToken = tokenProvider.generateRefreshToken(user);
+        refreshTokenRepository.findByUserId(user.getId())
+                .map(entity -> entity.update(refreshToken))
+                .orElseGet(() -> refreshTokenRepository.save(new RefreshToken(user.getId(), refreshToken)));
+
+        return new LoginResponse(tokenProvider.generateAccessToken(user), refreshToken);
+    }
+
+    // 리프레시 토큰이 유효하지 않거나 저장된 토큰이 아니면 (다시 로그인해서 바뀐 경우 등) IllegalArgumentException 예외 발생
+    public String createNewAccessToken(String refreshToken) {
+        if (!tokenProvider.validToken(refreshToken, TokenProvider.REFRESH_TOKEN)) {
+            throw new IllegalArgumentException("Unexpected token");
+        }
+
+        Long userId = refreshTokenRepository.findByRefreshToken(refreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("Unexpected token"))
+                .getUserId();
+        User user = userRepository.findById(userId)  // 2차 캐시에서 조회
+                .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
+
+        return tokenProvider.generateAccessToken(user);
+    }
+}
@@ -2,8 +2,11 @@ package org.example.springbootdeveloper.service;
 
 
 import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.cache.UserDetailsCache;
 import org.example.springbootdeveloper.repository.UserRepository;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -11,12 +14,15 @@ import org.springframework.stereotype.Service;
 public class UserDetailService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;  // 인증된 요청마다 DB 를 조회하지 않도록 email -> 사용자 캐시
 
     // 사용자 이름(email)으로 사용자의 정보를 가져오는 메서드
+    // 캐시에 있으면 DB 를 조회하지 않고, 없으면 email 인덱스로 조회한 뒤 캐시에 저장함
+    // 없는 사용자는 UsernameNotFoundException 예외 발생 (스프링 시큐리티가 인증 실패로 처리함)
     @Override
-    public User localByUsername(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException((email)));
+    public UserDetails loadUserByUsername(String email) {
+        return userDetailsCache.getUser(email, () -> userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException(email)));
     }
 
 }
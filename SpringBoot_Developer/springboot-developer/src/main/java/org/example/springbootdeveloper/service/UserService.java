@@ -0,0 +1,41 @@
+package org.example.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springbootdeveloper.domain.User;
+import org.example.springbootdeveloper.dto.AddUserRequest;
+import org.example.springbootdeveloper.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 사용자 등록 서비스 : 가입한 사용자는 POST /api/login 으로 토큰을 발급받아 글을 작성 / 수정 / 삭제할 수 있음
+
+@RequiredArgsConstructor
+@Service
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    // save() : 비밀번호를 BCrypt 로 암호화해서 저장하고 사용자 id 반환
+    // 이메일 / 비밀번호가 비어 있으면 IllegalArgumentException, 이미 가입된 이메일이면 DataIntegrityViolationException 예외 발생
+    // (먼저 조회해서 확인하고, 동시에 같은 이메일로 가입하는 경우는 idx_users_email 유니크 인덱스가 막음)
+    @Transactional
+    public Long save(AddUserRequest request) {
+        if (request.getEmail() == null || request.getEmail().isBlank()
+                || request.getPassword() == null || request.getPassword().isBlank()) {
+            throw new IllegalArgumentException("email and password are required");
+        }
+
+        String email = request.getEmail().strip();
+        if (userRepository.findByEmail(email).isPresent()) {
+            throw new DataIntegrityViolationException("duplicate email: " + email);
+        }
+
+        return userRepository.save(User.builder()
+                .email(email)
+                .password(bCryptPasswordEncoder.encode(request.getPassword()))
+                .build()).getId();
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.springbootdeveloper.tag;
+
+import org.example.springbootdeveloper.domain.Article;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 태그 -> 글 id 압축 비트맵(RoaringBitmap) 메모리 색인
+// 여러 태그로 거를 때 DB 조인 / 전체 글을 읽지 않고, 태그마다의 비트맵을 AND(모든 태그) / OR(하나라도) 해서 글 id 를 구함
+// 검색 색인(ArticleSearchIndex)과 같이 조회는 읽기 락으로 동시에, 추가 / 수정 / 삭제는 쓰기 락으로 한 건씩 반영하고
+// 트랜잭션 안에서 호출되면 커밋된 후에 반영함 (롤백된 수정이 조회에 보이지 않도록)
+// 애플리케이션 시작 시 ArticleTagService 가 DB 의 전체 글로 rebuild() 함
+// 글 id 는 32비트 부호 없는 정수로 저장하므로 0 ~ 2^32-1 범위만 색인할 수 있음 (article_seq 가 이 범위를 넘으면 IllegalArgumentException)
+
+@Component
+public class ArticleTagIndex {
+
+    public enum Mode {
+        AND,  // 모든 태그가 붙은 글
+        OR    // 태그 중 하나라도 붙은 글
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, RoaringBitmap> bitmaps = new HashMap<>();  // lock 으로 보호됨
+
+    // index() : 글의 태그를 색인에 반영 (이미 색인된 글이면 빠진 태그의 비트맵에서 지움)
+    public void index(Article article) {
+        long id = article.getId();
+        List<String> tags = article.getTags();
+
+        afterCommit(() -> write(target -> put(target, id, tags)));
+    }
+
+    // remove() : 삭제된 글을 색인에서 제거
+    public void remove(long id) {
+        afterCommit(() -> write(target -> put(target, id, List.of())));
+    }
+
+    // rebuild() : 전달받은 글로 새 색인을 만든 뒤 한 번에 교체 (만드는 동안에도 이전 색인으로 조회 가능)
+    public void rebuild(Stream<Article> articles) {
+        Map<String, RoaringBitmap> rebuilt = new HashMap<>();
+        articles.forEach(article -> {
+            for (String tag : article.getTags()) {
+                rebuilt.computeIfAbsent(tag, key -> new RoaringBitmap()).add(article.getId());
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            bitmaps = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // findBefore() : 조건에 맞는 글 중 id 가 before 보다 작은 글을 id 역순(최신 글부터)으로 최대 limit 개 반환
+    public List<Long> findBefore(Collection<String> tags, Mode mode, long before, int limit) {
+        lock.readLock().lock();
+        try {
+            return toList(match(tags, mode).descending(before - 1, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // findAfter() : 조건에 맞는 글 중 id 가 after 보다 큰 글을 id 순서(오래된 글부터)로 최대 limit 개 반환
+    public List<Long> findAfter(Collection<String> tags, Mode mode, long after, int limit) {
+        lock.readLock().lock();
+        try {
+            return toList(match(tags, mode).ascending(after + 1, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 태그 수 / 비트맵 전체 크기 (시작 로그용)
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.values().stream()
+                    .mapToLong(RoaringBitmap::sizeInBytes)
+                    .sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 락 안에서 호출됨, 태그가 하나면 색인의 비트맵을 그대로 반환하므로 결과를 바꾸지 않고 락을 잡은 동안만 사용해야 함
+    // AND 는 글이 적은 태그부터 교집합해서 중간 결과를 작게 유지하고, 비면 바로 끝냄
+    private RoaringBitmap match(Collection<String> tags, Mode mode) {
+        List<RoaringBitmap> matched = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            RoaringBitmap bitmap = bitmaps.get(tag);
+            if (bitmap != null) {
+                matched.add(bitmap);
+            } else if (mode == Mode.AND) {
+                return new RoaringBitmap();  // 글이 없는 태그가 있으면 교집합은 비어 있음
+            }
+        }
+        if (matched.isEmpty()) {
+            return new RoaringBitmap();
+        }
+
+        if (mode == Mode.OR) {
+            RoaringBitmap result = matched.get(0);
+            for (int i = 1; i < matched.size(); i++) {
+                result = RoaringBitmap.or(result, matched.get(i));
+            }
+            return result;
+        }
+
+        matched.sort(Comparator.comparingLong(RoaringBitmap::cardinality));
+        RoaringBitmap result = matched.get(0);
+        for (int i = 1; i < matched.size() && !result.isEmpty(); i++) {
+            result = RoaringBitmap.and(result, matched.get(i));
+        }
+        return result;
+    }
+
+    // 쓰기 락 안에서 호출됨 : 글을 tags 의 비트맵에만 남기고 나머지 태그의 비트맵에서는 지움 (빈 비트맵은 태그째 삭제)
+    // 글의 이전 태그를 따로 저장하지 않고 태그 비트맵을 모두 확인함 (태그 수만큼 이진 탐색, 글마다 태그 목록을 들고 있는 것보다 메모리를 적게 씀)
+    private static void put(Map<String, RoaringBitmap> target, long id, List<String> tags) {
+        Iterator<Map.Entry<String, RoaringBitmap>> entries = target.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, RoaringBitmap> entry = entries.next();
+            if (!tags.contains(entry.getKey()) && entry.getValue().remove(id) && entry.getValue().isEmpty()) {
+                entries.remove();
+            }
+        }
+
+        for (String tag : tags) {
+            target.computeIfAbsent(tag, key -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private void write(Consumer<Map<String, RoaringBitmap>> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(bitmaps);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<Long> toList(long[] ids) {
+        List<Long> list = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    // 트랜잭션이 없으면 (이미 커밋된 상태) 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
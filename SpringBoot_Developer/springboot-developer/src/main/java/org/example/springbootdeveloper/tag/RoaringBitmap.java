@@ -0,0 +1,544 @@
+package org.example.springbootdeveloper.tag;
+
+import java.util.Arrays;
+
+// 압축 비트맵 (Roaring bitmap 방식) : 0 ~ 2^32-1 정수(글 id) 집합
+// 값의 위 16비트(key)로 65536 개씩 묶고, 묶음(container)마다 들어 있는 값의 수에 따라 저장 방식을 고름
+// - ARRAY_MAX(4096) 개 이하 : 아래 16비트를 정렬된 char 배열로 저장 (값 하나에 2바이트)
+// - ARRAY_MAX 개 초과 : 65536 비트 비트맵으로 저장 (long 1024 개 = 8KB 고정, 값 하나에 2바이트 미만)
+// -> 글이 적은 태그는 배열로 작게, 글이 많은 태그는 비트맵으로 저장하고, 교집합 / 합집합은 같은 key 의 묶음끼리 계산함
+//    (비트맵끼리는 long 단위 AND / OR, 배열과 비트맵은 배열 값만 비트맵에서 확인)
+// 스레드 안전하지 않음 -> ArticleTagIndex 가 읽기 / 쓰기 락으로 감싸서 사용
+
+final class RoaringBitmap {
+
+    static final long MAX_VALUE = 0xFFFFFFFFL;
+
+    // 배열로 저장하는 최대 개수 : 이보다 많으면 배열(2바이트 x 개수)이 비트맵(8KB)보다 커짐
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private char[] keys = new char[4];  // 정렬된 위 16비트 값
+    private Container[] containers = new Container[4];
+    private int size;  // 묶음 수
+
+    boolean add(long value) {
+        checkRange(value);
+        char key = high(value);
+        int i = Arrays.binarySearch(keys, 0, size, key);
+
+        if (i < 0) {
+            insert(-i - 1, key, new ArrayContainer().add(low(value)));
+            return true;
+        }
+
+        int before = containers[i].cardinality();
+        containers[i] = containers[i].add(low(value));
+        return containers[i].cardinality() != before;
+    }
+
+    boolean remove(long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            return false;
+        }
+
+        int i = Arrays.binarySearch(keys, 0, size, high(value));
+        if (i < 0) {
+            return false;
+        }
+
+        int before = containers[i].cardinality();
+        containers[i] = containers[i].remove(low(value));
+        if (containers[i].cardinality() == 0) {
+            delete(i);
+            return true;
+        }
+        return containers[i].cardinality() != before;
+    }
+
+    boolean contains(long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            return false;
+        }
+
+        int i = Arrays.binarySearch(keys, 0, size, high(value));
+        return i >= 0 && containers[i].contains(low(value));
+    }
+
+    long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // and() : 두 집합에 모두 있는 값 (key 가 같은 묶음만 계산하고, 결과가 빈 묶음은 버림)
+    static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container container = a.containers[i].and(b.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.append(a.keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // or() : 두 집합 중 하나라도 있는 값 (한쪽에만 있는 묶음은 복사해서 결과가 입력과 묶음을 공유하지 않음)
+    static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.append(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i == a.size || a.keys[i] > b.keys[j]) {
+                result.append(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.append(a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // descending() : from 이하의 값을 큰 값부터 최대 limit 개 반환
+    long[] descending(long from, int limit) {
+        if (from < 0 || limit < 1 || size == 0) {
+            return new long[0];
+        }
+
+        long start = Math.min(from, MAX_VALUE);
+        long[] values = new long[(int) Math.min(limit, cardinality())];
+        int n = 0;
+
+        int i = Arrays.binarySearch(keys, 0, size, high(start));
+        int low = low(start);
+        if (i < 0) {
+            i = -i - 2;  // start 보다 작은 key 중 가장 큰 묶음부터
+            low = 0xFFFF;
+        }
+
+        for (; i >= 0 && n < values.length; i--, low = 0xFFFF) {
+            Container container = containers[i];
+            for (int value = container.floor(low); value >= 0 && n < values.length; value = value == 0 ? -1 : container.floor(value - 1)) {
+                values[n++] = ((long) keys[i] << 16) | value;
+            }
+        }
+        return n == values.length ? values : Arrays.copyOf(values, n);
+    }
+
+    // ascending() : from 이상의 값을 작은 값부터 최대 limit 개 반환
+    long[] ascending(long from, int limit) {
+        if (from > MAX_VALUE || limit < 1 || size == 0) {
+            return new long[0];
+        }
+
+        long start = Math.max(from, 0);
+        long[] values = new long[(int) Math.min(limit, cardinality())];
+        int n = 0;
+
+        int i = Arrays.binarySearch(keys, 0, size, high(start));
+        int low = low(start);
+        if (i < 0) {
+            i = -i - 1;  // start 보다 큰 key 중 가장 작은 묶음부터
+            low = 0;
+        }
+
+        for (; i < size && n < values.length; i++, low = 0) {
+            Container container = containers[i];
+            for (int value = container.ceiling(low); value >= 0 && n < values.length; value = value == 0xFFFF ? -1 : container.ceiling(value + 1)) {
+                values[n++] = ((long) keys[i] << 16) | value;
+            }
+        }
+        return n == values.length ? values : Arrays.copyOf(values, n);
+    }
+
+    // 저장에 사용하는 대략적인 바이트 수 (묶음의 배열 / 비트맵 크기 합)
+    long sizeInBytes() {
+        long bytes = (long) keys.length * Character.BYTES;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private void insert(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void append(char key, Container container) {
+        insert(size, key, container);
+    }
+
+    private void delete(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private static void checkRange(long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("value out of range: " + value);
+        }
+    }
+
+    private static char high(long value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char low(long value) {
+        return (char) value;
+    }
+
+    // 위 16비트가 같은 값들의 아래 16비트 집합
+    // add / remove 는 개수에 따라 저장 방식이 바뀔 수 있으므로 반환된 묶음으로 교체해서 사용함
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        // value 이하의 값 중 가장 큰 값, 없으면 -1
+        abstract int floor(int value);
+
+        // value 이상의 값 중 가장 작은 값, 없으면 -1
+        abstract int ceiling(int value);
+
+        abstract Container copy();
+
+        abstract long sizeInBytes();
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(cardinality * 2, 4), ARRAY_MAX));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[Math.min(cardinality, other.cardinality())];
+            int n = 0;
+
+            if (other instanceof ArrayContainer array) {
+                // 정렬된 두 배열을 함께 훑으며 같은 값만 모음
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[n++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[n++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+
+            ArrayContainer array = (ArrayContainer) other;
+            if (cardinality + array.cardinality > ARRAY_MAX) {
+                BitmapContainer result = toBitmap();
+                for (int j = 0; j < array.cardinality; j++) {
+                    result.add(array.values[j]);
+                }
+                return result.cardinality() <= ARRAY_MAX ? result.toArray() : result;
+            }
+
+            // 정렬된 두 배열을 합치면서 같은 값은 한 번만 넣음
+            char[] result = new char[cardinality + array.cardinality];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    result[n++] = values[i++];
+                } else if (i == cardinality || values[i] > array.values[j]) {
+                    result[n++] = array.values[j++];
+                } else {
+                    result[n++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        int floor(int value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, (char) value);
+            if (i >= 0) {
+                return value;
+            }
+            i = -i - 2;
+            return i >= 0 ? values[i] : -1;
+        }
+
+        @Override
+        int ceiling(int value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, (char) value);
+            if (i >= 0) {
+                return value;
+            }
+            i = -i - 1;
+            return i < cardinality ? values[i] : -1;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) values.length * Character.BYTES;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[BITMAP_WORDS], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container add(char value) {
+            long word = words[value >>> 6];
+            long updated = word | (1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            if (!contains(value)) {
+                return this;
+            }
+
+            words[value >>> 6] &= ~(1L << value);
+            cardinality--;
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+
+            BitmapContainer bitmap = new BitmapContainer(result, count);
+            return count <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer result = new BitmapContainer(words.clone(), cardinality);
+
+            if (other instanceof ArrayContainer array) {
+                for (int j = 0; j < array.cardinality; j++) {
+                    result.add(array.values[j]);
+                }
+                return result;
+            }
+
+            long[] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result.words[i] |= otherWords[i];
+                count += Long.bitCount(result.words[i]);
+            }
+            result.cardinality = count;
+            return result;
+        }
+
+        @Override
+        int floor(int value) {
+            int i = value >>> 6;
+            long word = words[i] & (-1L >>> (63 - (value & 63)));  // value 이하의 비트만 남김
+            while (true) {
+                if (word != 0) {
+                    return i * 64 + 63 - Long.numberOfLeadingZeros(word);
+                }
+                if (--i < 0) {
+                    return -1;
+                }
+                word = words[i];
+            }
+        }
+
+        @Override
+        int ceiling(int value) {
+            int i = value >>> 6;
+            long word = words[i] & (-1L << (value & 63));  // value 이상의 비트만 남김
+            while (true) {
+                if (word != 0) {
+                    return i * 64 + Long.numberOfTrailingZeros(word);
+                }
+                if (++i == BITMAP_WORDS) {
+                    return -1;
+                }
+                word = words[i];
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) BITMAP_WORDS * Long.BYTES;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[n++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;  // 가장 낮은 1 비트를 지움
+                }
+            }
+            return new ArrayContainer(values, n);
+        }
+    }
+}
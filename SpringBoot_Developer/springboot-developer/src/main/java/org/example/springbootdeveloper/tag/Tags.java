@@ -0,0 +1,62 @@
+package org.example.springbootdeveloper.tag;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// 글 태그 정규화 / 저장 형식
+// 태그는 앞뒤 공백을 지우고 소문자로 바꿔 비교함 ("Spring", " spring " 은 같은 태그), 빈 태그와 중복은 빼고 입력 순서를 유지함
+// DB 에는 정규화한 태그를 쉼표로 이어 article.tags 컬럼 하나에 저장함 (태그가 없으면 null)
+// -> 태그로 거르는 조회는 DB 조인이 아닌 ArticleTagIndex 의 비트맵으로 하므로 태그 테이블을 따로 두지 않음
+
+public final class Tags {
+
+    public static final int MAX_TAGS = 10;  // 글 하나 / 조회 한 번에 쓸 수 있는 최대 태그 수
+    public static final int MAX_LENGTH = 30;  // 태그 하나의 최대 길이
+    public static final int COLUMN_LENGTH = MAX_TAGS * (MAX_LENGTH + 1);  // article.tags 컬럼 길이 (태그 + 쉼표)
+
+    private static final String DELIMITER = ",";
+
+    private Tags() {
+    }
+
+    // normalize() : 태그를 정규화, 태그가 MAX_TAGS 개보다 많거나 MAX_LENGTH 보다 길면 (쉼표가 들어 있으면) IllegalArgumentException 예외 발생
+    public static List<String> normalize(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (tag == null || tag.isBlank()) {
+                continue;
+            }
+
+            String value = tag.strip().toLowerCase(Locale.ROOT);
+            if (value.length() > MAX_LENGTH || value.contains(DELIMITER)) {
+                throw new IllegalArgumentException("invalid tag: " + tag);
+            }
+            normalized.add(value);
+        }
+
+        if (normalized.size() > MAX_TAGS) {
+            throw new IllegalArgumentException("too many tags: " + normalized.size());
+        }
+        return List.copyOf(normalized);
+    }
+
+    // join() : 정규화한 태그를 컬럼 값으로 (태그가 없으면 null)
+    public static String join(List<String> tags) {
+        return tags.isEmpty() ? null : String.join(DELIMITER, tags);
+    }
+
+    // split() : 컬럼 값을 태그 목록으로
+    public static List<String> split(String column) {
+        if (column == null || column.isEmpty()) {
+            return List.of();
+        }
+        return List.of(column.split(DELIMITER));
+    }
+}
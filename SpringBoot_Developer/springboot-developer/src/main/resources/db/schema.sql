@@ -0,0 +1,36 @@
+-- 엔티티(Article, User, RefreshToken)와 같은 스키마 : Hibernate 가 테이블을 만들지 않는 실행 모드에서 사용
+-- - 리액티브 애플리케이션(reactive 프로필) : JPA 없이 R2DBC 만 사용
+-- - 빠른 시작 모드(startup 프로필) : 시작할 때 엔티티를 읽어 DDL 을 만들고 실행하는 비용(ddl-auto)을 없앰
+-- 엔티티를 바꾸면 이 파일도 함께 바꿔야 함, 같은 DB 를 Hibernate 가 이미 만든 경우에는 있는 테이블을 그대로 사용함
+CREATE SEQUENCE IF NOT EXISTS article_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS article (
+    id           BIGINT       NOT NULL PRIMARY KEY,
+    title        VARCHAR(255) NOT NULL,
+    content      VARCHAR(255) NOT NULL,
+    content_html VARCHAR(65536),
+    excerpt      VARCHAR(200),
+    tags         VARCHAR(310),
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    version      BIGINT       NOT NULL,
+    views        BIGINT       NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_article_created_at_id ON article (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_article_updated_at ON article (updated_at);
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255),
+    CONSTRAINT idx_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT       NOT NULL UNIQUE,
+    refresh_token VARCHAR(512) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_refresh_token ON refresh_token (refresh_token);
@@ -1,3 +1,49 @@
+// 인증이 필요한 API 요청 (글 작성 / 수정 / 삭제)
+// 로그인(POST /api/login)해서 받은 토큰을 localStorage 에 저장해 두고 'Authorization: Bearer <액세스 토큰>' 헤더로 보냄
+// 액세스 토큰이 만료되어 401 이 오면 리프레시 토큰으로 새 액세스 토큰을 발급받아(POST /api/token) 한 번 더 요청함
+function httpRequest(url, options) {
+    return fetch(url, withAccessToken(options))
+        .then(response => {
+            const refreshToken = localStorage.getItem('refresh_token');
+            if (response.status !== 401 || !refreshToken) {
+                return response;
+            }
+            return fetch('/api/token', {
+                method: 'POST',
+                headers: {
+                    "Content-Type": "application/json",
+                },
+                body: JSON.stringify({
+                    refreshToken: refreshToken
+                })
+            })
+                .then(tokenResponse => tokenResponse.ok ? tokenResponse.json() : Promise.reject(tokenResponse))
+                .then(result => {
+                    localStorage.setItem('access_token', result.accessToken);
+                    return fetch(url, withAccessToken(options));
+                })
+                .catch(() => response);
+        });
+}
+
+function withAccessToken(options) {
+    const headers = Object.assign({}, options.headers);
+    const accessToken = localStorage.getItem('access_token');
+    if (accessToken) {
+        headers['Authorization'] = 'Bearer ' + accessToken;
+    }
+    return Object.assign({}, options, {headers: headers});
+}
+
+// 로그인하지 않았거나 토큰을 다시 발급받지 못하면 true
+function isUnauthorized(response) {
+    if (response.status === 401) {
+        alert('로그인이 필요합니다.');
+        return true;
+    }
+    return false;
+}
+
 // HTML에서 id를 delete-btn 으로 설정한 엘리먼트를 찾음
 // 해당 엘리먼트에서 클릭 이벤트가 발생
 // 삭제 기능
@@ -6,10 +52,13 @@ const deleteButton = document.getElementById('delete-btn');
 if (deleteButton) {
     deleteButton.addEventListener('click', event => {
         let id = document.getElementById('article-id').value;
-        fetch(`/api/articles/${id}`, {  // fetch() 메서드 : /api/articles/ DELETE 요청을 보냄
+        httpRequest(`/api/articles/${id}`, {  // fetch() 메서드 : /api/articles/ DELETE 요청을 보냄
             method: 'DELETE'
         })
-            .then(() => {  // fetch().then() : fetch()가 잘 완료되면 연이어 실행됨
+            .then(response => {  // fetch().then() : fetch()가 잘 완료되면 연이어 실행됨
+                if (isUnauthorized(response)) {
+                    return;
+                }
                 alert('삭제가 완료되었습니다.');  // alert() 메서드 : 웹 브라우저 화면으로 삭제가 완료되었음을 알리는 팝업을 띄워주는 메서드
                 location.replace('/articles');
                 // location.replace() : 실행 시 사용자의 웹 브라우저 화면을 현재 주소를 기반해 옮겨줌.
@@ -26,18 +75,32 @@ if (modifyButton) {
     modifyButton.addEventListener('click', event => {
         let params = new URLSearchParams(location.search);
         let id = params.get('id');
+        let eTag = document.getElementById('article-etag').value;
+
+        let headers = {
+            "Content-Type": "application/json",
+        };
+        if (eTag) {
+            headers['If-Match'] = eTag;  // 불러온 이후에 다른 사용자가 수정했으면 412 / 409 로 실패함
+        }
 
-        fetch(`/api/articles/${id}`, {
+        httpRequest(`/api/articles/${id}`, {
             method: 'PUT',
-            headers: {
-                "Content-Type": "application/json",
-            },
+            headers: headers,
             body: JSON.stringify({
                 title: document.getElementById('title').value,
-                content: document.getElementById('content').value
+                content: document.getElementById('content').value,
+                tags: readTags()
             })
         })
-            .then(() => {
+            .then(response => {
+                if (isUnauthorized(response)) {
+                    return;
+                }
+                if (response.status === 412 || response.status === 409) {
+                    alert('다른 사용자가 먼저 글을 수정했습니다. 새로고침 후 다시 수정해 주세요.');
+                    return;
+                }
                 alert('수정이 완료되었습니다.');
                 location.replace(`/articles/${id}`);
             });
@@ -51,19 +114,60 @@ const createButton = document.getElementById('create-btn');
 if (createButton) {
 // 2. 클릭 이벤트가 감지되면 생성 API 요청
     createButton.addEventListener('click', event => {
-        fetch('/api/articles', {
+        httpRequest('/api/articles', {
             method: 'POST',
             headers: {
                 "Content-Type": "application/json",
             },
             body: JSON.stringify({
                 title: document.getElementById('title').value,
-                content: document.getElementById('content').value
+                content: document.getElementById('content').value,
+                tags: readTags()
             })
         })
-            .then(() => {
+            .then(response => {
+                if (isUnauthorized(response)) {
+                    return;
+                }
                 alert('등록 완료되었습니다.');
                 location.replace('/articles');
             });
     });
 }
+
+// 더 보기 기능
+// 1. id 가 load-more-btn 인 엘리먼트 조회
+const loadMoreButton = document.getElementById('load-more-btn');
+
+if (loadMoreButton) {
+// 2. 클릭 이벤트가 감지되면 다음 페이지(/articles?cursor=...)를 요청해 글 목록 아래에 이어 붙임
+    loadMoreButton.addEventListener('click', event => {
+        event.preventDefault();
+
+        fetch(loadMoreButton.href)
+            .then(response => response.text())
+            .then(html => {
+                const page = new DOMParser().parseFromString(html, 'text/html');
+                const list = document.getElementById('article-list');
+
+                page.querySelectorAll('#article-list > .row-6')
+                    .forEach(item => list.appendChild(document.importNode(item, true)));
+
+                // 3. 다음 페이지의 커서로 버튼 주소를 바꾸고, 더 이상 글이 없으면 버튼을 숨김
+                const next = page.getElementById('load-more-btn');
+                if (next) {
+                    loadMoreButton.href = next.getAttribute('href');
+                } else {
+                    loadMoreButton.parentElement.remove();
+                }
+            });
+    });
+}
+
+// 태그 입력값(쉼표로 구분)을 배열로 나눔, 빈 값은 뺌 (정규화는 서버에서 함)
+function readTags() {
+    return document.getElementById('tags').value
+        .split(',')
+        .map(tag => tag.trim())
+        .filter(tag => tag.length > 0);
+}
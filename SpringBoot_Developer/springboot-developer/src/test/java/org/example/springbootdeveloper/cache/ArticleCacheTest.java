@@ -0,0 +1,136 @@
+package org.example.springbootdeveloper.cache;
+
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.example.springbootdeveloper.service.BlogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ArticleCacheTest {
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ArticleCache articleCache;
+
+    @BeforeEach
+    public void setUp() {
+        blogRepository.deleteAll();
+        articleCache.clear();
+    }
+
+    @DisplayName("LocalCache : 최대 크기를 넘으면 가장 오래 사용하지 않은 항목을, TTL 이 지나면 만료된 항목을 제거한다.")
+    @Test
+    public void evictsBySizeAndTtl() {
+        // given
+        // 시간이 흐르는 것을 직접 조절하기 위해 가짜 시계를 사용
+        AtomicLong now = new AtomicLong();
+        LocalCache<Integer, String> cache = new LocalCache<>("test", 2, Duration.ofSeconds(10), now::get);
+        cache.put(1, "one");
+        cache.put(2, "two");
+
+        // when
+        // 1번을 조회해 최근 사용 항목으로 만든 뒤 3번을 넣음 -> 2번이 제거되어야 함
+        cache.getIfPresent(1);
+        cache.put(3, "three");
+
+        // then
+        assertThat(cache.getIfPresent(1)).isEqualTo("one");
+        assertThat(cache.getIfPresent(2)).isNull();
+        assertThat(cache.getIfPresent(3)).isEqualTo("three");
+
+        // TTL 이 지나면 모든 항목이 만료됨
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertThat(cache.getIfPresent(1)).isNull();
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHitCount()).isEqualTo(3);
+        assertThat(stats.getMissCount()).isEqualTo(2);
+        assertThat(stats.getEvictionCount()).isEqualTo(2);
+    }
+
+    @DisplayName("LocalCache : 로딩 중에 무효화되면 로딩한 값을 캐시에 넣지 않는다.")
+    @Test
+    public void discardsLoadRacingWithInvalidation() {
+        // given
+        LocalCache<Integer, String> cache = new LocalCache<>("test", 10, Duration.ofMinutes(1));
+
+        // when
+        // 이전 값을 읽는 도중에 쓰기가 일어나 무효화된 상황
+        String loaded = cache.get(1, () -> {
+            cache.invalidate(1);
+            return "old";
+        });
+
+        // then
+        assertThat(loaded).isEqualTo("old");
+        assertThat(cache.getIfPresent(1)).isNull();
+    }
+
+    @DisplayName("findById : 동시에 수정과 조회가 일어나도 수정이 커밋된 뒤에는 이전 값을 반환하지 않는다.")
+    @Test
+    public void noStaleReadAfterConcurrentUpdate() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder()
+                .title("title 0")
+                .content("content")
+                .build());
+        long id = article.getId();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // 읽기 스레드들은 계속 findById 를 호출해 캐시를 채우려고 시도함
+        for (int i = 0; i < 4; i++) {
+            futures.add(readers.submit(() -> {
+                while (running.get()) {
+                    blogService.findById(id);
+                }
+            }));
+        }
+
+        try {
+            // when
+            // 수정이 끝날 때마다 (커밋 이후) 바로 조회
+            for (int version = 1; version <= 200; version++) {
+                String title = "title " + version;
+                blogService.update(id, new UpdateArticleRequest(title, "content"));
+
+                // then
+                // 커밋된 수정 내용이 바로 보여야 함
+                assertThat(blogService.findById(id).getTitle()).isEqualTo(title);
+            }
+        } finally {
+            running.set(false);
+            readers.shutdown();
+            assertThat(readers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        for (Future<?> future : futures) {
+            future.get();  // 읽기 스레드에서 예외가 발생했으면 여기서 실패함
+        }
+        assertThat(articleCache.stats().get(0).getHitCount()).isPositive();
+    }
+}
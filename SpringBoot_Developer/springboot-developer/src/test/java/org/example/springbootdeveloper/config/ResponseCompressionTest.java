@@ -0,0 +1,123 @@
+package org.example.springbootdeveloper.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.cache.ArticleCache;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 응답 압축 / 정적 리소스 테스트 : 톰캣 압축은 실제 서버에서만 동작하므로 임의 포트로 서버를 띄워 요청함
+// 목록 화면 / 목록 API 는 공개 조회, 정적 리소스는 스프링 시큐리티를 거치지 않으므로 인증 없이 요청함
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCompressionTest {
+
+    private static final Pattern CSS_LINK = Pattern.compile("href=\"(/vendor/bootstrap/4\\.1\\.3/css/bootstrap\\.min-[0-9a-f]{32}\\.css)\"");
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ArticleCache articleCache;
+
+    HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    public void setUp() {
+        blogRepository.deleteAll();
+        articleCache.clear();
+        for (int i = 0; i < 20; i++) {
+            blogRepository.save(Article.builder()
+                    .title("title " + i)
+                    .content("content ".repeat(20))
+                    .build());
+        }
+    }
+
+    @DisplayName("목록 화면 / CSS / JSON 응답을 gzip 으로 압축하고, 해시가 붙은 CSS 는 오래 캐시하도록 응답한다.")
+    @Test
+    public void compressesListPageAndAssets() throws Exception {
+        // 목록 화면 : 자체 호스팅하는 Bootstrap CSS 를 내용 해시가 붙은 주소로 연결함
+        HttpResponse<byte[]> plainPage = get("/articles", false);
+        HttpResponse<byte[]> gzippedPage = get("/articles", true);
+        String html = new String(plainPage.body(), StandardCharsets.UTF_8);
+
+        assertThat(html).doesNotContain("stackpath.bootstrapcdn.com");
+        assertThat(html).containsPattern("src=\"/js/article-[0-9a-f]{32}\\.js\"");
+        assertThat(gzippedPage.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+
+        // CSS : 압축해서 보내고, 1년 동안 다시 확인하지 않도록 immutable 로 캐시함
+        Matcher link = CSS_LINK.matcher(html);
+        assertThat(link.find()).isTrue();
+        HttpResponse<byte[]> plainCss = get(link.group(1), false);
+        HttpResponse<byte[]> gzippedCss = get(link.group(1), true);
+
+        assertThat(gzippedCss.statusCode()).isEqualTo(200);
+        assertThat(gzippedCss.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(gzippedCss.headers().firstValue(HttpHeaders.CACHE_CONTROL)).hasValue("max-age=31536000, public, immutable");
+        assertThat(gzippedCss.body().length).isLessThan(plainCss.body().length / 4);
+
+        // JSON : 최소 크기(1KB)를 넘는 응답은 압축함
+        HttpResponse<byte[]> plainJson = get("/api/articles?size=20", false);
+        HttpResponse<byte[]> gzippedJson = get("/api/articles?size=20", true);
+
+        assertThat(gzippedJson.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(gzippedJson.body().length).isLessThan(plainJson.body().length);
+
+        log.info("list page {} -> {} bytes, bootstrap.min.css {} -> {} bytes, /api/articles {} -> {} bytes",
+                plainPage.body().length, gzippedPage.body().length,
+                plainCss.body().length, gzippedCss.body().length,
+                plainJson.body().length, gzippedJson.body().length);
+    }
+
+    @DisplayName("렌더링한 화면은 Accept-Encoding 의 q 값에 따라 gzip 으로 보내거나 압축하지 않고 보낸다.")
+    @Test
+    public void negotiateRenderedPageEncoding() throws Exception {
+        for (String acceptEncoding : new String[]{"GZIP", "br, gzip;q=0.5", "*", "deflate;q=0.5, *;q=0.8", "identity, gzip;q=0.1"}) {
+            assertThat(get("/articles", acceptEncoding).headers().firstValue(HttpHeaders.CONTENT_ENCODING))
+                    .as(acceptEncoding).hasValue("gzip");
+        }
+
+        // gzip;q=0 (받지 않음), identity 만 받음, 다른 coding 만 받음
+        for (String acceptEncoding : new String[]{"gzip;q=0", "gzip; q=0.0, deflate", "identity", "br", "*;q=0, identity", "*, gzip;q=0", ""}) {
+            HttpResponse<byte[]> response = get("/articles", acceptEncoding);
+            assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).as(acceptEncoding).isEmpty();
+            assertThat(new String(response.body(), StandardCharsets.UTF_8)).as(acceptEncoding).contains("title 19");
+        }
+    }
+
+    private HttpResponse<byte[]> get(String path, boolean gzip) throws Exception {
+        return get(path, gzip ? "gzip" : null);
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+}
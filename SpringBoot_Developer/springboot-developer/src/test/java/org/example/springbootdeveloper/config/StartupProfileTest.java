@@ -0,0 +1,46 @@
+package org.example.springbootdeveloper.config;
+
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.example.springbootdeveloper.service.BlogService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 빠른 시작 모드 (startup 프로필) 테스트
+// Hibernate 가 테이블을 만들지 않으므로 ddl-auto=validate 로 db/schema.sql 이 엔티티와 같은지 확인함 (다르면 컨텍스트를 만들 때 실패)
+// 다른 테스트가 Hibernate 로 만든 테이블을 검사하지 않도록 DB 이름을 따로 지정함
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:startup-profile-test",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("startup")
+class StartupProfileTest {
+
+    @Autowired
+    ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @DisplayName("startup 프로필 : db/schema.sql 로 만든 테이블이 엔티티와 같고, data.sql 의 글이 저장되어 있다.")
+    @Test
+    public void schemaMatchesEntities() {
+        assertThat(blogRepository.count()).isPositive();
+    }
+
+    @DisplayName("startup 프로필 : 빈은 시작할 때가 아니라 처음 사용할 때 만든다.")
+    @Test
+    public void lazyInitialization() {
+        assertThat(beanFactory.containsSingleton("blogService")).isFalse();
+
+        beanFactory.getBean(BlogService.class);
+
+        assertThat(beanFactory.containsSingleton("blogService")).isTrue();
+    }
+}
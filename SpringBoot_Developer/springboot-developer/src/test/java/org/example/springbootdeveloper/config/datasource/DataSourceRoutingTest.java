@@ -0,0 +1,155 @@
+package org.example.springbootdeveloper.config.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.example.springbootdeveloper.service.BlogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 읽기 / 쓰기 라우팅 테스트 : 서로 다른 H2 메모리 DB 두 개를 primary / replica 로 사용
+// 복제는 테스트에서 직접 흉내냄 (replicate() : primary 의 스키마와 데이터를 replica 에 그대로 복사)
+// 복제하지 않은 변경은 replica 에 없으므로, 어느 DB 에서 읽었는지 결과로 알 수 있음
+// 캐시가 있으면 DB 를 거치지 않으므로 애플리케이션 캐시와 Hibernate 2차 캐시를 끔
+
+@SpringBootTest(properties = {
+        "blog.datasource.routing.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:routing-primary",
+        "blog.datasource.replica.jdbc-url=" + DataSourceRoutingTest.REPLICA_URL,
+        "blog.cache.enabled=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class DataSourceRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica";
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    DataSource replicaDataSource;
+
+    @Autowired
+    FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter;
+
+    MockMvc mockMvc;
+
+    Article article;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(readYourWritesFilter.getFilter())
+                .build();
+
+        blogRepository.deleteAll();
+        article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        replicate();
+    }
+
+    @DisplayName("읽기 전용 조회는 replica 에서, 쓰기는 primary 에서 실행된다.")
+    @Test
+    public void routesReadsToReplica() {
+        // when : 아직 복제되지 않은 수정
+        blogService.update(article.getId(), new UpdateArticleRequest("new title", "new content"));
+
+        // then
+        assertThat(title(primaryDataSource)).isEqualTo("new title");
+        assertThat(title(replicaDataSource)).isEqualTo("title");
+        assertThat(blogService.findById(article.getId()).getTitle()).isEqualTo("title");
+        assertThat(blogService.findAll()).extracting(Article::getTitle).containsExactly("title");
+        assertThat(blogService.findPage(null, 5).getContent()).hasSize(1);
+
+        // 복제되면 replica 에서도 수정된 글이 보임
+        replicate();
+        assertThat(blogService.findById(article.getId()).getTitle()).isEqualTo("new title");
+    }
+
+    @DisplayName("쓰기 요청을 보낸 클라이언트는 read-your-writes 쿠키가 있는 동안 primary 에서 읽는다.")
+    @Test
+    public void readYourWrites() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(put("/api/articles/{id}", article.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("{\"title\":\"new title\",\"content\":\"new content\"}"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+                .andReturn();
+        Cookie sticky = result.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // then : 쿠키가 있으면 primary, 없으면 (아직 복제되지 않은) replica
+        mockMvc.perform(get("/api/articles/{id}", article.getId()).cookie(sticky))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("new title"));
+        mockMvc.perform(get("/api/articles/{id}", article.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("title"));
+    }
+
+    @DisplayName("여러 글 조회(POST /api/articles/lookup)는 쓰기가 아니므로 쿠키를 붙이지 않고 replica 에서 읽는다.")
+    @Test
+    public void lookupIsRead() throws Exception {
+        // given : 아직 복제되지 않은 수정
+        blogService.update(article.getId(), new UpdateArticleRequest("new title", "new content"));
+
+        // when / then
+        mockMvc.perform(post("/api/articles/lookup")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("[" + article.getId() + "]"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().doesNotExist(ReadYourWritesFilter.COOKIE_NAME))
+                .andExpect(jsonPath("$.articles[0].title").value("title"));
+    }
+
+    private String title(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("select title from article where id = ?", String.class, article.getId());
+    }
+
+    // primary 의 스키마 / 데이터를 스크립트로 뽑아 replica 에 다시 만듬 (읽기 전용 풀이 아닌 별도 연결로 씀)
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("script", String.class);
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+        replica.execute("drop all objects");
+        script.forEach(replica::execute);
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.springbootdeveloper.config.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.example.springbootdeveloper.cache.ArticleCache;
+import org.example.springbootdeveloper.cache.CacheStats;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 캐시를 켠 상태의 읽기 / 쓰기 라우팅 테스트 (DataSourceRoutingTest 와 같이 서로 다른 H2 메모리 DB 두 개를 primary / replica 로 사용)
+// replicate() 를 호출하기 전까지 replica 는 primary 보다 뒤처져 있음
+// 쓰기 직후 쿠키 없는 요청이 replica 에서 읽은 이전 값이 캐시(ArticleCache, RenderedPageCache, Hibernate 2차 캐시)에 들어가면,
+// 쿠키가 있는 요청(read-your-writes)도 캐시에서 이전 값을 받게 됨 (이 테스트는 모든 캐시를 켠 기본 설정으로 실행함)
+// read-your-writes 시간을 1초로 줄여 시간이 지난 뒤 다시 캐시를 채우는지도 확인함
+
+@SpringBootTest(properties = {
+        "blog.datasource.routing.enabled=true",
+        "blog.datasource.read-your-writes-window=1s",
+        "spring.datasource.url=jdbc:h2:mem:replica-cache-primary",
+        "blog.datasource.replica.jdbc-url=" + ReplicaCacheTest.REPLICA_URL
+})
+class ReplicaCacheTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-cache-replica";
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ArticleCache articleCache;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    DataSource primaryDataSource;
+
+    @Autowired
+    FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter;
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(readYourWritesFilter.getFilter())
+                .build();
+    }
+
+    @DisplayName("글이 바뀐 뒤 복제 지연 동안 replica 에서 읽은 값은 캐시에 넣지 않으므로, 쓰기를 한 클라이언트는 primary 의 최신 값을 본다.")
+    @Test
+    public void replicaReadsDoNotFillCachesAfterWrite() throws Exception {
+        // given : 글 한 개를 복제해 둠
+        blogRepository.deleteAll();
+        Article first = blogRepository.save(Article.builder()
+                .title("first title")
+                .content("content")
+                .build());
+        replicate();
+
+        // when : 새 글 추가 (replica 에는 아직 복제되지 않음)
+        MvcResult created = mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("{\"title\":\"second title\",\"content\":\"content\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Cookie sticky = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // then : 쿠키 없는 요청은 replica 에서 읽지만, 그 결과가 캐시에 남지 않아 쿠키가 있는 요청은 새 글을 봄
+        mockMvc.perform(get("/api/articles")).andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(get("/api/articles").cookie(sticky)).andExpect(jsonPath("$.length()").value(2));
+
+        mockMvc.perform(get("/articles")).andExpect(content().string(not(containsString("second title"))));
+        mockMvc.perform(get("/articles").cookie(sticky)).andExpect(content().string(containsString("second title")));
+
+        // when : 글 수정 후 글 캐시 / 2차 캐시에서 모두 밀려난 경우 (크기 / TTL), replica 에는 아직 이전 제목
+        mockMvc.perform(put("/api/articles/{id}", first.getId()).cookie(sticky)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("{\"title\":\"new title\",\"content\":\"content\"}"))
+                .andExpect(status().isOk());
+        articleCache.clear();
+        entityManagerFactory.getCache().evictAll();
+
+        // then
+        mockMvc.perform(get("/api/articles/{id}", first.getId())).andExpect(jsonPath("$.title").value("first title"));
+        mockMvc.perform(get("/api/articles/{id}", first.getId()).cookie(sticky)).andExpect(jsonPath("$.title").value("new title"));
+
+        // when : 글 삭제 (replica 에는 아직 남아 있음)
+        mockMvc.perform(delete("/api/articles/{id}", first.getId()).cookie(sticky))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/api/articles/{id}", first.getId())).andExpect(status().isOk());
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/articles/{id}", first.getId()).cookie(sticky)))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);  // 없는 글
+
+        // 복제가 끝나고 read-your-writes 시간이 지나면 다시 캐시를 채움
+        replicate();
+        Thread.sleep(1100);
+
+        long before = cacheSize("articlePages");
+        mockMvc.perform(get("/api/articles")).andExpect(jsonPath("$.length()").value(1));
+        assertThat(cacheSize("articlePages")).isEqualTo(before + 1);
+    }
+
+    private long cacheSize(String name) {
+        return articleCache.stats().stream()
+                .filter(stats -> stats.getName().equals(name))
+                .mapToLong(CacheStats::getSize)
+                .sum();
+    }
+
+    // primary 의 스키마 / 데이터를 스크립트로 뽑아 replica 에 다시 만듬 (DataSourceRoutingTest.replicate() 와 같음)
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("script", String.class);
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+        replica.execute("drop all objects");
+        script.forEach(replica::execute);
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.springbootdeveloper.controller;
+
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 부하 테스트 : ./gradlew loadTest 로만 실행됨 (일반 test 에서는 제외)
+// 같은 테스트를 플랫폼 스레드(기본)와 가상 스레드(-PvirtualThreads)로 각각 실행해 로그의 처리량 / p99 를 비교함
+// 동시 요청 수와 측정 시간은 -Dload.concurrency, -Dload.duration-seconds 로 바꿀 수 있음
+
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "blog.cache.enabled=false"  // 매 요청이 JPA 조회(블로킹 호출)를 거치도록 캐시를 끔
+})
+class BlogApiControllerLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 500);
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("load.warm-up-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 20));
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    Environment environment;
+
+    @DisplayName("findArticle : 동시 요청이 많을 때의 처리량과 p99 지연 시간을 측정한다.")
+    @Test
+    public void findArticleUnderLoad() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/articles/" + article.getId()))
+                .build();
+
+        boolean virtualThreads = environment.acceptsProfiles(Profiles.of("virtual-threads"));
+        AtomicLong pinned = new AtomicLong();
+
+        // when
+        // 가상 스레드 모드에서는 JFR 로 캐리어 스레드 고정(jdk.VirtualThreadPinned) 이벤트를 함께 기록함
+        try (RecordingStream recording = new RecordingStream()) {
+            if (virtualThreads) {
+                recording.enable("jdk.VirtualThreadPinned").withStackTrace();
+                recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                    if (pinned.getAndIncrement() == 0) {
+                        log.warn("virtual thread pinned : {}", event);
+                    }
+                });
+                recording.startAsync();
+            }
+
+            Result result = run(client, request);
+
+            // then
+            log.info("[{}] concurrency={} requests={} errors={} throughput={} req/s p50={} ms p99={} ms max={} ms pinned={}",
+                    virtualThreads ? "virtual-threads" : "platform-threads", CONCURRENCY, result.latencies.length, result.errors,
+                    String.format("%.0f", result.latencies.length / (double) DURATION.toSeconds()),
+                    millis(result.percentile(50)), millis(result.percentile(99)), millis(result.percentile(100)), pinned.get());
+
+            assertThat(result.errors).isZero();
+            assertThat(result.latencies).isNotEmpty();
+        }
+        assertThat(pinned.get()).isZero();
+    }
+
+    // CONCURRENCY 개의 클라이언트 스레드가 쉬지 않고 요청을 보내고, 예열 시간 이후의 응답 시간만 기록함
+    private Result run(HttpClient client, HttpRequest request) throws Exception {
+        long measureFrom = System.nanoTime() + WARM_UP.toNanos();
+        long measureUntil = measureFrom + DURATION.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+
+                long now = System.nanoTime();
+                while (now < measureUntil) {
+                    long start = now;
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    now = System.nanoTime();
+
+                    if (start >= measureFrom) {
+                        if (status != 200) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = now - start;
+                    }
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> perClient = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            perClient.add(future.get());
+        }
+        clients.shutdown();
+
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, errors.get());
+    }
+
+    // 요청마다 인증(BCrypt 비밀번호 검사)을 하면 그 CPU 비용이 측정 결과를 덮어버리므로
+    // 부하 테스트에서는 측정 대상 API 만 인증 없이 허용하는 필터 체인을 먼저 적용함
+    @TestConfiguration
+    static class PermitArticleApiConfig {
+
+        @Bean
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        SecurityFilterChain loadTestFilterChain(HttpSecurity http) throws Exception {
+            return http
+                    .securityMatcher("/api/articles/**")
+                    .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll())
+                    .build();
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    private static final class Result {
+
+        private final long[] latencies;  // 정렬된 응답 시간 (ns)
+        private final long errors;
+
+        private Result(long[] latencies, long errors) {
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+
+        private long percentile(int percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(index, 0)];
+        }
+    }
+}
@@ -1,28 +1,42 @@
 package org.example.springbootdeveloper.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springbootdeveloper.cache.ArticleCache;
 import org.example.springbootdeveloper.domain.Article;
 import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.ArticleSummary;
 import org.example.springbootdeveloper.dto.UpdateArticleRequest;
 import org.example.springbootdeveloper.repository.BlogRepository;
+import org.example.springbootdeveloper.service.ArticleViewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 
 // BlogApiControllerTest.java = ObjectMapper Class
 // ObjectMapper 클래스로 만든 객체는 자바 객체를 JSON 데이터로 변환하는 직렬화 Serialization 또는
@@ -53,6 +67,12 @@ class BlogApiControllerTest {
         @Autowired
         BlogRepository blogRepository;
 
+        @Autowired
+        ArticleCache articleCache;
+
+        @Autowired
+        ArticleViewService articleViewService;
+
         @BeforeEach  // 테스트 실행 전 실행하는 메서드
         // @BeforeEach == @Before
         // 현재 클래스의 각 @Test, @REepeatedTest, @ParameterizedTes or @TestFactory 메소드들 보다 먼저 실행되어야 함을 의미
@@ -61,6 +81,7 @@ class BlogApiControllerTest {
                 this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
                         .build();
                 blogRepository.deleteAll();
+                articleCache.clear();  // 테스트 데이터는 BlogService 를 거치지 않고 저장하므로 캐시를 직접 비움
         }
 
         @DisplayName("addArticle : 블로그 글 추가에 성공한다.")
@@ -130,6 +151,95 @@ class BlogApiControllerTest {
                         // JSON 응답 항목의 "title" 속성 값이 정의한 title과 일치하는지 확인
         }
 
+        @DisplayName("findAllArticles : 커서로 블로그 글 목록을 페이지 단위로 조회한다.")
+        @Test
+        public void findAllArticlesWithCursor() throws Exception {
+                // given
+                // 블로그 글 3개를 저장
+                final String url = "/api/articles";
+
+                for (int i = 1; i <= 3; i++) {
+                        blogRepository.save(Article.builder()
+                                .title("title " + i)
+                                .content("content " + i)
+                                .build());
+                }
+
+                // when
+                // 한 페이지에 2개씩 첫 페이지를 조회
+                final ResultActions firstPage = mockMvc.perform(get(url)
+                        .param("size", "2")
+                        .accept(MediaType.APPLICATION_JSON));
+
+                // then
+                // 최신 글 2개와 다음 페이지 링크가 응답되고, 이전 페이지 링크는 없음
+                firstPage
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(2))
+                        .andExpect(jsonPath("$[0].title").value("title 3"))
+                        .andExpect(jsonPath("$[1].title").value("title 2"))
+                        .andExpect(header().string("Link", containsString("rel=\"next\"")))
+                        .andExpect(header().string("Link", not(containsString("rel=\"prev\""))));
+
+                // when
+                // Link 헤더의 다음 페이지 주소로 다시 조회
+                String link = firstPage.andReturn().getResponse().getHeader("Link");
+                String nextUrl = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+
+                final ResultActions secondPage = mockMvc.perform(get(nextUrl)
+                        .accept(MediaType.APPLICATION_JSON));
+
+                // then
+                // 남은 글 1개와 이전 페이지 링크만 응답됨
+                secondPage
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(1))
+                        .andExpect(jsonPath("$[0].title").value("title 1"))
+                        .andExpect(header().string("Link", containsString("rel=\"prev\"")))
+                        .andExpect(header().string("Link", not(containsString("rel=\"next\""))));
+        }
+
+        @DisplayName("findAllArticles : 잘못된 커서로 조회하면 400 을 응답한다.")
+        @Test
+        public void findAllArticlesWithInvalidCursor() throws Exception {
+                // when
+                final ResultActions result = mockMvc.perform(get("/api/articles")
+                        .param("cursor", "zzz")
+                        .accept(MediaType.APPLICATION_JSON));
+
+                // then
+                result.andExpect(status().isBadRequest());
+        }
+
+        @DisplayName("findAllArticles : 블로그 글 목록에는 본문 미리보기만 담긴다.")
+        @Test
+        public void findAllArticlesWithExcerpt() throws Exception {
+                // given
+                // 미리보기 길이보다 긴 본문을 가진 블로그 글을 저장
+                final String url = "/api/articles";
+                final String content = "가".repeat(ArticleSummary.EXCERPT_LENGTH + 50);
+
+                Article savedArticle = blogRepository.save(Article.builder()
+                        .title("title")
+                        .content(content)
+                        .build());
+
+                // when
+                // 목록 조회 API 와 단건 조회 API 를 호출
+                final ResultActions listResult = mockMvc.perform(get(url)
+                        .accept(MediaType.APPLICATION_JSON));
+                final ResultActions itemResult = mockMvc.perform(get(url + "/{id}", savedArticle.getId()));
+
+                // then
+                // 목록에는 앞부분 EXCERPT_LENGTH 글자만, 단건 조회에는 본문 전체가 담겨 있는지 확인
+                listResult
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$[0].content").value(content.substring(0, ArticleSummary.EXCERPT_LENGTH)));
+                itemResult
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content").value(content));
+        }
+
         @DisplayName("findArticle : 블로그 글 조회에 성공한다.")
         @Test
         public void findArticle() throws Exception {
@@ -156,6 +266,133 @@ class BlogApiControllerTest {
                         .andExpect(jsonPath("$.title").value(title));
         }
 
+        @DisplayName("findArticle : 글이 바뀌지 않았으면 조건부 요청에 304 Not Modified 로 응답하고, 조회 수에 넣지 않는다.")
+        @Test
+        public void findArticleNotModified() throws Exception {
+                // given
+                // 블로그 글을 저장하고 한 번 조회해 ETag, Last-Modified 를 받아둠
+                final String url = "/api/articles/{id}";
+
+                Article savedArticle = blogRepository.save(Article.builder()
+                        .title("title")
+                        .content("content")
+                        .build());
+
+                MockHttpServletResponse first = mockMvc.perform(get(url, savedArticle.getId()))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse();
+                String eTag = first.getHeader(HttpHeaders.ETAG);
+                String lastModified = first.getHeader(HttpHeaders.LAST_MODIFIED);
+
+                // when & then
+                // 같은 ETag / 수정 시간으로 다시 요청하면 본문 없이 304 로 응답함
+                mockMvc.perform(get(url, savedArticle.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                        .andExpect(status().isNotModified())
+                        .andExpect(content().string(""));
+                mockMvc.perform(get(url, savedArticle.getId()).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                        .andExpect(status().isNotModified());
+                assertThat(articleViewService.views(savedArticle.getId())).isEqualTo(1);  // 처음 한 번의 조회만 셈
+
+                // 글을 수정하면 이전 ETag 로 요청해도 200 OK 와 새 ETag 로 응답함
+                mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("new title", "content"))));
+
+                mockMvc.perform(get(url, savedArticle.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                        .andExpect(jsonPath("$.title").value("new title"));
+        }
+
+        @DisplayName("findArticlesByIds : 여러 글을 요청한 순서대로 한 번에 조회하고, 없는 글은 missing 으로 응답한다.")
+        @Test
+        public void findArticlesByIds() throws Exception {
+                // given
+                long first = saveArticle("first").getId();
+                long second = saveArticle("second").getId();
+                long third = saveArticle("third").getId();
+                long deleted = saveArticle("deleted").getId();
+                blogRepository.deleteById(deleted);
+
+                // when : 같은 id 는 한 번만 응답함
+                ResultActions result = mockMvc.perform(get("/api/articles")
+                        .param("ids", third + "," + deleted + "," + first + "," + third));
+
+                // then
+                result.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.articles.length()").value(2))
+                        .andExpect(jsonPath("$.articles[0].id").value(third))
+                        .andExpect(jsonPath("$.articles[0].title").value("third"))
+                        .andExpect(jsonPath("$.articles[1].id").value(first))
+                        .andExpect(jsonPath("$.missing.length()").value(1))
+                        .andExpect(jsonPath("$.missing[0]").value(deleted));
+
+                // id 가 많을 때는 본문으로 보냄, 글마다 단건 조회와 같이 태그 / 렌더링된 HTML 도 담김
+                MvcResult created = mockMvc.perform(post("/api/articles")
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(new AddArticleRequest("tagged", "**content**", List.of("Java")))))
+                        .andExpect(status().isCreated())
+                        .andReturn();
+                long tagged = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+                mockMvc.perform(post("/api/articles/lookup")
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(List.of(second, first, tagged))))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.articles[0].title").value("second"))
+                        .andExpect(jsonPath("$.articles[1].title").value("first"))
+                        .andExpect(jsonPath("$.articles[2].tags[0]").value("java"))
+                        .andExpect(jsonPath("$.articles[2].contentHtml").value("<p><strong>content</strong></p>\n"))
+                        .andExpect(jsonPath("$.missing.length()").value(0));
+        }
+
+        private Article saveArticle(String title) {
+                return blogRepository.save(Article.builder()
+                        .title(title)
+                        .content("content")
+                        .build());
+        }
+
+        @DisplayName("findAllArticles : 목록이 바뀌지 않았으면 조건부 요청에 304 Not Modified 로 응답한다.")
+        @Test
+        public void findAllArticlesNotModified() throws Exception {
+                // given
+                final String url = "/api/articles";
+
+                blogRepository.save(Article.builder()
+                        .title("title")
+                        .content("content")
+                        .build());
+
+                String eTag = mockMvc.perform(get(url))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+                // when & then
+                mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                        .andExpect(status().isNotModified());
+
+                // 글이 추가되면 목록 ETag 가 바뀜
+                mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("title 2", "content 2"))));
+
+                mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(2));
+
+                // 페이지(cursor, size)마다 ETag 가 다르므로 다른 페이지의 ETag 로는 304 를 받지 않음
+                MockHttpServletResponse firstPage = mockMvc.perform(get(url).param("size", "1"))
+                        .andReturn().getResponse();
+                String link = firstPage.getHeader("Link");
+                String nextUrl = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+                String cursor = nextUrl.substring(nextUrl.indexOf("cursor=") + "cursor=".length()).split("&")[0];
+
+                mockMvc.perform(get(nextUrl).header(HttpHeaders.IF_NONE_MATCH, firstPage.getHeader(HttpHeaders.ETAG)))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, containsString(cursor)));
+        }
+
         @DisplayName("deleteArticle : 블로그 글 삭제에 성공한다.")
         @Test
         public void deleteArticle() throws Exception {
@@ -220,4 +457,327 @@ class BlogApiControllerTest {
                 assertThat(article.getContent()).isEqualTo(newContent);
         }
 
-}
\ No newline at end of file
+        @DisplayName("updateArticle : If-Match 의 버전이 현재 글의 버전과 다르면 412 Precondition Failed 로 응답한다.")
+        @Test
+        public void updateArticleIfMatch() throws Exception {
+                // given
+                // 블로그 글을 저장하고 조회해 ETag 를 받아둠
+                final String url = "/api/articles/{id}";
+
+                Article savedArticle = blogRepository.save(Article.builder()
+                        .title("title")
+                        .content("content")
+                        .build());
+
+                String eTag = mockMvc.perform(get(url, savedArticle.getId()))
+                        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+                // when & then
+                // 받아둔 ETag 로 수정하면 성공하고 새 ETag 를 응답함
+                String newETag = mockMvc.perform(put(url, savedArticle.getId())
+                                .header(HttpHeaders.IF_MATCH, eTag)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("first", "content"))))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+                // 같은 (이제는 오래된) ETag 로 다시 수정하면 412 로 실패하고, 앞선 수정 내용이 유지됨
+                mockMvc.perform(put(url, savedArticle.getId())
+                                .header(HttpHeaders.IF_MATCH, eTag)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("second", "content"))))
+                        .andExpect(status().isPreconditionFailed());
+
+                assertThat(blogRepository.findById(savedArticle.getId()).get().getTitle()).isEqualTo("first");
+
+                // 새 ETag 로는 수정할 수 있음
+                mockMvc.perform(put(url, savedArticle.getId())
+                                .header(HttpHeaders.IF_MATCH, newETag)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("second", "content"))))
+                        .andExpect(status().isOk());
+        }
+
+
+        @DisplayName("bulkAddArticles : NDJSON 으로 글을 대량 등록하고, 실패한 줄만 건너뛰어 결과를 응답한다.")
+        @Test
+        public void bulkAddArticlesNdjson() throws Exception {
+                // given
+                // 정상 2건, JSON 형식이 잘못된 줄 1건, 제목이 없는 글 1건, 컬럼 길이(255)를 넘는 내용 1건
+                final String url = "/api/articles/bulk";
+                final String body = String.join("\n",
+                        objectMapper.writeValueAsString(new AddArticleRequest("제목 1", "내용 1")),
+                        "{\"title\": ",
+                        objectMapper.writeValueAsString(new AddArticleRequest("", "content")),
+                        objectMapper.writeValueAsString(new AddArticleRequest("title", "x".repeat(300))),
+                        objectMapper.writeValueAsString(new AddArticleRequest("제목 2", "내용 2")));
+
+                // when
+                ResultActions result = mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                        .content(body.getBytes(StandardCharsets.UTF_8)));
+
+                // then
+                result
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.received").value(5))
+                        .andExpect(jsonPath("$.imported").value(2))
+                        .andExpect(jsonPath("$.failed").value(3))
+                        .andExpect(jsonPath("$.failures[0].index").value(1))
+                        .andExpect(jsonPath("$.failures[1].index").value(2))
+                        .andExpect(jsonPath("$.failures[2].index").value(3));
+
+                List<Article> articles = blogRepository.findAll();
+                assertThat(articles).extracting(Article::getTitle).containsExactlyInAnyOrder("제목 1", "제목 2");
+        }
+
+        @DisplayName("exportArticles : 글 전체를 NDJSON 과 CSV 로 스트리밍해서 내보낸다.")
+        @Test
+        public void exportArticles() throws Exception {
+                // given
+                // CSV 에서 따옴표로 감싸야 하는 쉼표, 큰따옴표, 줄바꿈이 들어간 글을 포함
+                final String url = "/api/articles/export";
+
+                Article first = blogRepository.save(Article.builder()
+                        .title("제목 1")
+                        .content("내용 1")
+                        .build());
+                Article second = blogRepository.save(Article.builder()
+                        .title("a, \"b\"")
+                        .content("line 1\nline 2")
+                        .build());
+
+                // when
+                // 응답 본문은 비동기로 쓰이므로 asyncDispatch 로 완료된 응답을 받음
+                MvcResult ndjson = mockMvc.perform(get(url))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+                MvcResult csv = mockMvc.perform(get(url).param("format", "csv"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+                // then
+                mockMvc.perform(asyncDispatch(ndjson))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("articles.ndjson")));
+
+                String[] lines = ndjson.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+                assertThat(lines).hasSize(2);
+                assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(first.getId());
+                assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("제목 1");
+                assertThat(objectMapper.readTree(lines[1]).get("content").asText()).isEqualTo("line 1\nline 2");
+
+                mockMvc.perform(asyncDispatch(csv))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, containsString("text/csv")));
+
+                assertThat(csv.getResponse().getContentAsString(StandardCharsets.UTF_8))
+                        .startsWith("id,title,content,created_at,updated_at\r\n" + first.getId() + ",제목 1,내용 1,")
+                        .contains(second.getId() + ",\"a, \"\"b\"\"\",\"line 1\nline 2\",");
+
+                // 지원하지 않는 형식은 400 Bad Request
+                mockMvc.perform(get(url).param("format", "xml"))
+                        .andExpect(status().isBadRequest());
+        }
+
+        @DisplayName("searchArticles : 검색어가 들어간 글을 관련도 순으로 조회한다.")
+        @Test
+        public void searchArticles() throws Exception {
+                // given
+                // 블로그 글을 API 로 저장해서 검색 색인에 반영되게 함
+                final String url = "/api/articles/search";
+
+                for (AddArticleRequest request : List.of(
+                        new AddArticleRequest("스프링 부트", "스프링 부트로 블로그를 만들어 봅시다"),
+                        new AddArticleRequest("자바", "자바 기초 문법 정리"),
+                        new AddArticleRequest("블로그 운영기", "블로그에서 블로그 글쓰기"))) {
+                        mockMvc.perform(post("/api/articles")
+                                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated());
+                }
+
+                // when
+                ResultActions result = mockMvc.perform(get(url).param("q", "블로그"));
+
+                // then
+                result
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(2))
+                        .andExpect(jsonPath("$[0].title").value("블로그 운영기"))
+                        .andExpect(jsonPath("$[1].title").value("스프링 부트"));
+        }
+
+        @DisplayName("findArticlesByTags : 태그를 모두(and) / 하나라도(or) 가진 글을 최신순으로 한 페이지씩 조회한다.")
+        @Test
+        public void findArticlesByTags() throws Exception {
+                // given
+                // 블로그 글을 API 로 저장해서 태그 색인에 반영되게 함 (태그는 소문자로 정규화됨)
+                final String url = "/api/articles";
+                List<Long> ids = new ArrayList<>();
+
+                for (AddArticleRequest request : List.of(
+                        new AddArticleRequest("a", "content", List.of("Java", "Spring")),
+                        new AddArticleRequest("b", "content", List.of("java")),
+                        new AddArticleRequest("c", "content", List.of("spring", "kotlin")),
+                        new AddArticleRequest("d", "content", List.of(" java ", "spring", "JAVA")))) {
+                        MvcResult created = mockMvc.perform(post(url)
+                                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated())
+                                .andReturn();
+                        ids.add(objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong());
+                }
+
+                // when
+                // 두 태그가 모두 붙은 글을 한 페이지에 1개씩 조회 (Link 헤더에 남도록 파라미터를 URL 에 넣음)
+                final ResultActions firstPage = mockMvc.perform(get(url + "?tags=java,spring&size=1"));
+
+                // then
+                firstPage
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(1))
+                        .andExpect(jsonPath("$[0].title").value("d"))
+                        .andExpect(jsonPath("$[0].tags.length()").value(2))
+                        .andExpect(jsonPath("$[0].tags[0]").value("java"))
+                        .andExpect(header().string("Link", containsString("rel=\"next\"")))
+                        .andExpect(header().string("Link", not(containsString("rel=\"prev\""))));
+
+                String link = firstPage.andReturn().getResponse().getHeader("Link");
+                String nextUrl = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+
+                mockMvc.perform(get(nextUrl))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(1))
+                        .andExpect(jsonPath("$[0].title").value("a"))
+                        .andExpect(header().string("Link", containsString("rel=\"prev\"")))
+                        .andExpect(header().string("Link", not(containsString("rel=\"next\""))));
+
+                // 태그 중 하나라도 붙은 글
+                mockMvc.perform(get(url).param("tags", "kotlin", "JAVA").param("mode", "or"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$[*].title").value(contains("d", "c", "b", "a")));
+
+                // 태그를 바꾸면 색인도 바뀌고, 삭제한 글은 빠짐
+                mockMvc.perform(put(url + "/{id}", ids.get(1))
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("b", "content", List.of("spring", "java")))))
+                        .andExpect(status().isOk());
+                mockMvc.perform(delete(url + "/{id}", ids.get(3)))
+                        .andExpect(status().isOk());
+
+                mockMvc.perform(get(url).param("tags", "spring,java"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$[*].title").value(contains("b", "a")));
+
+                // 지원하지 않는 mode / 빈 태그는 400 Bad Request
+                mockMvc.perform(get(url).param("tags", "java").param("mode", "xor"))
+                        .andExpect(status().isBadRequest());
+                mockMvc.perform(get(url).param("tags", " "))
+                        .andExpect(status().isBadRequest());
+        }
+
+        @DisplayName("mostViewedArticles : 조회 수가 많은 순으로 글을 조회한다.")
+        @Test
+        public void mostViewedArticles() throws Exception {
+                // given
+                Article popular = blogRepository.save(Article.builder()
+                        .title("popular")
+                        .content("content")
+                        .build());
+                Article other = blogRepository.save(Article.builder()
+                        .title("other")
+                        .content("content")
+                        .build());
+
+                for (int i = 0; i < 3; i++) {
+                        mockMvc.perform(get("/api/articles/{id}", popular.getId())).andExpect(status().isOk());
+                }
+                mockMvc.perform(get("/api/articles/{id}", other.getId())).andExpect(status().isOk());
+
+                // when
+                ResultActions result = mockMvc.perform(get("/api/articles/most-viewed").param("size", "2"));
+
+                // then
+                result
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(2))
+                        .andExpect(jsonPath("$[0].title").value("popular"))
+                        .andExpect(jsonPath("$[0].views").value(3))
+                        .andExpect(jsonPath("$[1].title").value("other"))
+                        .andExpect(jsonPath("$[1].views").value(1));
+        }
+
+        @DisplayName("articleEvents : 글 추가 / 수정 / 삭제 이벤트를 Server-Sent Events 로 받는다.")
+        @Test
+        public void articleEvents() throws Exception {
+                // given : 이벤트 구독 (비동기 응답)
+                // 응답 헤더는 첫 쓰기(연결 주석)와 함께 나가는데, 쓰기는 공용 쓰기 스레드에서 일어나므로 본문을 받은 뒤에 확인함
+                MvcResult subscription = mockMvc.perform(get("/api/articles/events"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+                MockHttpServletResponse stream = subscription.getResponse();
+
+                // when
+                String location = mockMvc.perform(post("/api/articles")
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(new AddArticleRequest("새 글", "content"))))
+                        .andExpect(status().isCreated())
+                        .andReturn().getResponse().getContentAsString();
+                long id = objectMapper.readTree(location).get("id").asLong();
+                mockMvc.perform(put("/api/articles/{id}", id)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("고친 글", "content"))))
+                        .andExpect(status().isOk());
+                mockMvc.perform(delete("/api/articles/{id}", id))
+                        .andExpect(status().isOk());
+
+                // then : 커밋된 변경이 순서대로 도착함
+                long deadline = System.currentTimeMillis() + 5000;
+                while (!stream.getContentAsString(StandardCharsets.UTF_8).contains("event:article-deleted")
+                        && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(10);
+                }
+                String events = stream.getContentAsString(StandardCharsets.UTF_8);
+                assertThat(stream.getContentType()).isEqualTo(MediaType.TEXT_EVENT_STREAM_VALUE);
+                assertThat(events).containsSubsequence(
+                        "event:article-created", "\"title\":\"새 글\"",
+                        "event:article-updated", "\"title\":\"고친 글\"", "\"version\":1",
+                        "event:article-deleted", "\"articleId\":" + id);
+
+                subscription.getRequest().getAsyncContext().complete();  // 구독 종료
+        }
+
+        @DisplayName("articleEvents : 대량 등록은 글마다 이벤트를 보내지 않고 커밋된 묶음마다 reset 이벤트를 보낸다.")
+        @Test
+        public void articleEventsOnBulkImport() throws Exception {
+                // given
+                MvcResult subscription = mockMvc.perform(get("/api/articles/events"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+                MockHttpServletResponse stream = subscription.getResponse();
+
+                // when
+                final String body = String.join("\n",
+                        objectMapper.writeValueAsString(new AddArticleRequest("제목 1", "내용 1")),
+                        objectMapper.writeValueAsString(new AddArticleRequest("제목 2", "내용 2")));
+                mockMvc.perform(post("/api/articles/bulk")
+                                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                                .content(body.getBytes(StandardCharsets.UTF_8)))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.imported").value(2));
+
+                // then
+                long deadline = System.currentTimeMillis() + 5000;
+                while (!stream.getContentAsString(StandardCharsets.UTF_8).contains("event:reset")
+                        && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(10);
+                }
+                String events = stream.getContentAsString(StandardCharsets.UTF_8);
+                assertThat(events).contains("event:reset").doesNotContain("event:article-created");
+
+                subscription.getRequest().getAsyncContext().complete();  // 구독 종료
+        }
+}
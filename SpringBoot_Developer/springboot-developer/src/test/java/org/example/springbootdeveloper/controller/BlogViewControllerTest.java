@@ -0,0 +1,149 @@
+package org.example.springbootdeveloper.controller;
+
+import org.example.springbootdeveloper.cache.ArticleCache;
+import org.example.springbootdeveloper.cache.CacheStats;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.example.springbootdeveloper.service.BlogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class BlogViewControllerTest {
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    ArticleCache articleCache;
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+        blogRepository.deleteAll();
+        articleCache.clear();
+    }
+
+    @DisplayName("getArticle : 렌더링한 글 화면을 캐시해 두고, 글이 수정되면 다시 렌더링한다.")
+    @Test
+    public void getArticleFromRenderedCache() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        String url = "/articles/" + article.getId();
+        long hits = stats("articleViews").getHitCount();
+
+        // when
+        String first = mockMvc.perform(get(url)).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        MockHttpServletResponse gzipped = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        // then
+        assertThat(first).contains("<h1 class=\"fw-bolder mb-1\">title</h1>");
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(gzipped.getContentAsByteArray())).isEqualTo(first);
+        assertThat(stats("articleViews").getHitCount()).isEqualTo(hits + 1);
+
+        // 수정하면 캐시된 화면 대신 새로 렌더링함
+        blogService.update(article.getId(), new UpdateArticleRequest("new title", "new content"));
+        String updated = mockMvc.perform(get(url)).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(updated).contains("new title").doesNotContain(">title<");
+    }
+
+    @DisplayName("getArticle : 저장할 때 렌더링한 본문 HTML 을 보여주고, 본문에 쓴 HTML 태그는 글자로 보여준다.")
+    @Test
+    public void getArticleWithRenderedContent() throws Exception {
+        // given
+        Article article = blogService.save(new AddArticleRequest("title", "**굵게** <script>alert(1)</script>"));
+
+        // when
+        String page = mockMvc.perform(get("/articles/" + article.getId())).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(page)
+                .contains("<strong>굵게</strong>")
+                .contains("&lt;script&gt;alert(1)&lt;/script&gt;")
+                .doesNotContain("<script>alert(1)");
+    }
+
+    @DisplayName("getArticles : 렌더링한 목록 화면을 캐시해 두고, 글이 추가되면 다시 렌더링한다.")
+    @Test
+    public void getArticlesFromRenderedCache() throws Exception {
+        // given
+        blogRepository.save(Article.builder()
+                .title("first")
+                .content("content")
+                .build());
+        long hits = stats("articleListViews").getHitCount();
+
+        // when
+        String first = mockMvc.perform(get("/articles")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String second = mockMvc.perform(get("/articles")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(first).contains("first");
+        assertThat(second).isEqualTo(first);
+        assertThat(stats("articleListViews").getHitCount()).isEqualTo(hits + 1);
+
+        blogService.save(new AddArticleRequest("second", "content"));
+        String added = mockMvc.perform(get("/articles")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(added).contains("first").contains("second");
+    }
+
+    @DisplayName("getArticles : 잘못된 커서로 조회하면 400 을 응답한다.")
+    @Test
+    public void getArticlesWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/articles").param("cursor", "zzz"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private CacheStats stats(String name) {
+        return articleCache.stats().stream()
+                .filter(stats -> stats.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.springbootdeveloper.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springbootdeveloper.config.jwt.JwtProperties;
+import org.example.springbootdeveloper.config.jwt.TokenProvider;
+import org.example.springbootdeveloper.domain.User;
+import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.AddUserRequest;
+import org.example.springbootdeveloper.dto.CreateAccessTokenRequest;
+import org.example.springbootdeveloper.dto.LoginRequest;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.example.springbootdeveloper.repository.RefreshTokenRepository;
+import org.example.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 스프링 시큐리티 필터 체인을 적용한 MockMvc 로 토큰 발급 / 인증을 확인함
+
+@SpringBootTest
+class TokenApiControllerTest {
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    BCryptPasswordEncoder passwordEncoder;
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        blogRepository.deleteAll();
+        userRepository.save(User.builder()
+                .email("user@example.com")
+                .password(passwordEncoder.encode("password"))
+                .build());
+    }
+
+    @DisplayName("공개 조회는 인증 없이 허용하고, 글 작성은 액세스 토큰이 있어야 하며 세션을 만들지 않는다.")
+    @Test
+    public void accessTokenAuthentication() throws Exception {
+        // given
+        String body = objectMapper.writeValueAsString(new AddArticleRequest("title", "content"));
+
+        // when : 토큰 없이 요청
+        mockMvc.perform(get("/api/articles")).andExpect(status().isOk());
+        mockMvc.perform(post("/api/articles").contentType(MediaType.APPLICATION_JSON_VALUE).content(body))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/articles/export")).andExpect(status().isUnauthorized());
+
+        // when : 로그인해서 받은 액세스 토큰으로 요청
+        JsonNode tokens = login("user@example.com", "password");
+        MvcResult result = mockMvc.perform(post("/api/articles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get("accessToken").asText())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+                .andReturn();
+
+        // then
+        assertThat(result.getRequest().getSession(false)).isNull();
+        assertThat(blogRepository.findAll()).hasSize(1);
+
+        // 리프레시 토큰이나 위조된 토큰으로는 API 를 호출할 수 없음
+        mockMvc.perform(post("/api/articles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get("refreshToken").asText())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(body))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/articles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get("accessToken").asText() + "x")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(body))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("login / createNewAccessToken : 비밀번호가 틀리면 401, 리프레시 토큰으로 새 액세스 토큰을 발급한다.")
+    @Test
+    public void loginAndRefresh() throws Exception {
+        // given
+        mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("user@example.com", "wrong"))))
+                .andExpect(status().isUnauthorized());
+        JsonNode tokens = login("user@example.com", "password");
+
+        // when
+        String response = mockMvc.perform(post("/api/token")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new CreateAccessTokenRequest(tokens.get("refreshToken").asText()))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        String accessToken = objectMapper.readTree(response).get("accessToken").asText();
+        mockMvc.perform(get("/api/articles/export").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // 액세스 토큰으로는 재발급받을 수 없음
+        mockMvc.perform(post("/api/token")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new CreateAccessTokenRequest(accessToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("signup : 가입한 사용자는 로그인해서 글을 작성할 수 있고, 이미 가입된 이메일은 409, 빈 값은 400 이다.")
+    @Test
+    public void signup() throws Exception {
+        // when
+        mockMvc.perform(post("/api/signup")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddUserRequest("writer@example.com", "secret"))))
+                .andExpect(status().isCreated());
+
+        // then
+        JsonNode tokens = login("writer@example.com", "secret");
+        mockMvc.perform(post("/api/articles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get("accessToken").asText())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("title", "content"))))
+                .andExpect(status().isCreated());
+        assertThat(userRepository.findByEmail("writer@example.com").orElseThrow().getPassword()).isNotEqualTo("secret");
+
+        mockMvc.perform(post("/api/signup")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddUserRequest("writer@example.com", "other"))))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/signup")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddUserRequest("blank@example.com", " "))))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode login(String email, String password) throws Exception {
+        String response = mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, password))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    @DisplayName("TokenProvider : 서명 키가 없거나 32바이트보다 짧으면 시작하지 않는다.")
+    @Test
+    public void rejectsMissingOrShortSecretKey() {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("springboot-developer");
+
+        properties.setSecretKey("");
+        assertThatThrownBy(() -> new TokenProvider(properties)).isInstanceOf(IllegalStateException.class);
+
+        properties.setSecretKey("short-secret-key");
+        assertThatThrownBy(() -> new TokenProvider(properties)).isInstanceOf(IllegalStateException.class);
+
+        properties.setSecretKey("0123456789abcdef0123456789abcdef");
+        assertThat(new TokenProvider(properties)).isNotNull();
+    }
+}
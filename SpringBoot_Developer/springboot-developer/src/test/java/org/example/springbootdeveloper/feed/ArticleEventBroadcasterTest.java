@@ -0,0 +1,296 @@
+package org.example.springbootdeveloper.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.springbootdeveloper.domain.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ArticleEventBroadcaster 단위 테스트 : 스프링 컨텍스트 없이 만들고, 보낸 내용을 기록하는 SseEmitter 로 구독함
+// 트랜잭션이 없으므로 created() / updated() / deleted() 는 바로 보냄
+
+class ArticleEventBroadcasterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ArticleEventBroadcaster broadcaster;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        broadcaster.shutdown();
+    }
+
+    @DisplayName("글 추가 / 수정 / 삭제 이벤트를 순서대로 보내고, Last-Event-ID 이후의 이벤트부터 이어 보낸다.")
+    @Test
+    public void publishAndResume() {
+        // given
+        broadcaster = newBroadcaster(4, 16, ArticleEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter live = new RecordingEmitter();
+        broadcaster.register(live, null);
+
+        // when
+        Article article = article(1L, "스프링 부트");
+        broadcaster.created(article);
+        broadcaster.updated(article);
+        broadcaster.deleted(1L);
+
+        // then : 연결 주석 + 이벤트 3개
+        awaitFrames(live, 4);
+        assertThat(live.frames.get(0)).contains(":connected").contains("retry:3000");
+        assertThat(live.frames.get(1)).contains("event:article-created").contains("\"articleId\":1").contains("\"title\":\"스프링 부트\"");
+        assertThat(live.frames.get(2)).contains("event:article-updated");
+        assertThat(live.frames.get(3)).contains("event:article-deleted").doesNotContain("title");
+
+        long first = eventId(live.frames.get(1));
+        assertThat(eventId(live.frames.get(2))).isEqualTo(first + 1);
+        assertThat(eventId(live.frames.get(3))).isEqualTo(first + 2);
+
+        // 첫 이벤트까지 받고 끊긴 클라이언트는 나머지 두 이벤트를 이어 받음
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.register(resumed, String.valueOf(first));
+        awaitFrames(resumed, 3);
+        assertThat(resumed.frames.subList(1, 3)).containsExactlyElementsOf(live.frames.subList(2, 4));
+
+        // 마지막 이벤트까지 받은 클라이언트는 이어 받을 것이 없음
+        RecordingEmitter upToDate = new RecordingEmitter();
+        broadcaster.register(upToDate, String.valueOf(first + 2));
+        awaitFrames(upToDate, 1);
+        assertThat(upToDate.frames).hasSize(1);
+    }
+
+    @DisplayName("링 버퍼에 남아 있지 않은 번호로 다시 연결하면 reset 이벤트를 보낸다.")
+    @Test
+    public void resetWhenEventsAreGone() {
+        // given : 최근 이벤트 2개만 보관
+        broadcaster = newBroadcaster(2, 16, ArticleEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter live = new RecordingEmitter();
+        broadcaster.register(live, null);
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.deleted(id);
+        }
+        awaitFrames(live, 4);
+        long first = eventId(live.frames.get(1));
+
+        // when
+        RecordingEmitter tooOld = new RecordingEmitter();
+        broadcaster.register(tooOld, String.valueOf(first - 1));
+        RecordingEmitter unknown = new RecordingEmitter();
+        broadcaster.register(unknown, "not-a-number");
+
+        // then : reset 의 id 는 마지막 이벤트 번호 (다음 연결부터는 이어 받을 수 있음)
+        awaitFrames(tooOld, 2);
+        awaitFrames(unknown, 2);
+        assertThat(tooOld.frames.get(1)).contains("event:reset").contains("id:" + (first + 2));
+        assertThat(unknown.frames.get(1)).contains("event:reset");
+
+        // 아직 남아 있는 번호면 그대로 이어 받음
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.register(resumed, String.valueOf(first));
+        awaitFrames(resumed, 3);
+        assertThat(resumed.frames.subList(1, 3)).containsExactlyElementsOf(live.frames.subList(2, 4));
+    }
+
+    @DisplayName("reset : 목록을 다시 읽으라는 reset 이벤트를 번호를 붙여 보내고, 다시 연결한 구독자도 이어 받는다.")
+    @Test
+    public void publishReset() {
+        // given
+        broadcaster = newBroadcaster(4, 16, ArticleEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter live = new RecordingEmitter();
+        broadcaster.register(live, null);
+
+        // when
+        broadcaster.deleted(1L);
+        broadcaster.reset();
+
+        // then
+        awaitFrames(live, 3);
+        assertThat(live.frames.get(2)).contains("event:reset");
+        long first = eventId(live.frames.get(1));
+        assertThat(eventId(live.frames.get(2))).isEqualTo(first + 1);
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.register(resumed, String.valueOf(first));
+        awaitFrames(resumed, 2);
+        assertThat(resumed.frames.get(1)).isEqualTo(live.frames.get(2));
+    }
+
+    @DisplayName("DROP_OLDEST : 느린 구독자의 버퍼가 가득 차면 가장 오래된 이벤트를 버리고 최근 이벤트만 보낸다.")
+    @Test
+    public void dropOldest() {
+        // given : 버퍼 2개, 연결 주석을 쓰는 중에 멈춰 있는 구독자
+        broadcaster = newBroadcaster(16, 2, ArticleEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter slow = new RecordingEmitter(new CountDownLatch(1));
+        broadcaster.register(slow, null);
+        awaitCondition(() -> slow.sending);
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.deleted(id);
+        }
+        slow.gate.countDown();
+
+        // then : 느린 구독자는 마지막 2개만 받고, 건너뛴 이벤트는 번호로 알 수 있음
+        awaitFrames(slow, 3);
+        assertThat(slow.frames.get(1)).contains("\"articleId\":4");
+        assertThat(slow.frames.get(2)).contains("\"articleId\":5");
+        assertThat(eventId(slow.frames.get(2))).isEqualTo(eventId(slow.frames.get(1)) + 1);
+        assertThat(broadcaster.droppedCount()).isEqualTo(3);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @DisplayName("DISCONNECT : 느린 구독자의 버퍼가 넘치면 연결을 끊는다.")
+    @Test
+    public void disconnectSlowSubscriber() {
+        // given
+        broadcaster = newBroadcaster(16, 2, ArticleEventBroadcaster.OverflowPolicy.DISCONNECT);
+        RecordingEmitter slow = new RecordingEmitter(new CountDownLatch(1));
+        ArticleEventBroadcaster.Subscriber subscriber = broadcaster.register(slow, null);
+        awaitCondition(() -> slow.sending);
+
+        // when
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.deleted(id);
+        }
+
+        // then : 바로 구독자 목록에서 빠지고, 쓰던 것을 마치면 연결을 끝냄 (남은 이벤트는 보내지 않음)
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(broadcaster.subscriberCount()).isZero();
+        assertThat(broadcaster.droppedCount()).isEqualTo(1);
+
+        slow.gate.countDown();
+        awaitCondition(() -> slow.completed);
+        assertThat(slow.frames).hasSize(1);
+    }
+
+    @DisplayName("쓰기가 write-timeout 을 넘긴 구독자는 연결을 끊고, 다른 구독자에게는 계속 보낸다.")
+    @Test
+    public void disconnectStalledWriter() {
+        // given : 쓰기 스레드 1개, 연결 주석을 쓰는 중에 멈춰 있는 구독자 (스레드를 붙잡고 있음)
+        broadcaster = new ArticleEventBroadcaster(objectMapper, 16, 16, ArticleEventBroadcaster.OverflowPolicy.DROP_OLDEST,
+                100, Duration.ofMinutes(1), 1, Duration.ofMillis(100));
+        RecordingEmitter stuck = new RecordingEmitter(new CountDownLatch(1));
+        ArticleEventBroadcaster.Subscriber subscriber = broadcaster.register(stuck, null);
+        awaitCondition(() -> stuck.sending);
+
+        RecordingEmitter live = new RecordingEmitter();
+        broadcaster.register(live, null);
+        broadcaster.deleted(1L);
+
+        // when : write-timeout 이 지나기 전에는 그대로 두고, 지나면 연결을 끊음
+        broadcaster.expireStalledWrites();
+        assertThat(subscriber.isClosed()).isFalse();
+        awaitCondition(() -> {
+            broadcaster.expireStalledWrites();
+            return subscriber.isClosed();
+        });
+
+        // then : 다른 구독자는 멈춘 쓰기와 관계없이 이벤트를 받음
+        awaitFrames(live, 2);
+        assertThat(live.frames.get(1)).contains("\"articleId\":1");
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        assertThat(broadcaster.stalledCount()).isEqualTo(1);
+
+        // 멈춘 쓰기가 끝나면 남은 이벤트 없이 연결을 끝내고, 그 뒤의 이벤트도 계속 보냄
+        stuck.gate.countDown();
+        awaitCondition(() -> stuck.completed);
+        assertThat(stuck.frames).hasSize(1);
+
+        broadcaster.deleted(2L);
+        awaitFrames(live, 3);
+    }
+
+    private ArticleEventBroadcaster newBroadcaster(int replaySize, int bufferSize, ArticleEventBroadcaster.OverflowPolicy policy) {
+        return new ArticleEventBroadcaster(objectMapper, replaySize, bufferSize, policy, 100, Duration.ofMinutes(1), 2, Duration.ofSeconds(10));
+    }
+
+    private static Article article(long id, String title) {
+        Article article = Article.builder()
+                .title(title)
+                .content("content")
+                .build();
+        ReflectionTestUtils.setField(article, "id", id);  // 저장하지 않은 엔티티에 id 를 직접 지정
+        return article;
+    }
+
+    private static long eventId(String frame) {
+        for (String line : frame.split("\n")) {
+            if (line.startsWith("id:")) {
+                return Long.parseLong(line.substring(3));
+            }
+        }
+        throw new AssertionError("no id in frame: " + frame);
+    }
+
+    private static void awaitFrames(RecordingEmitter emitter, int count) {
+        try {
+            awaitCondition(() -> emitter.frames.size() >= count);
+        } catch (AssertionError e) {
+            throw new AssertionError("expected " + count + " frames but got " + emitter.frames, e);
+        }
+        assertThat(emitter.frames).hasSize(count);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    // 보낸 SSE 이벤트를 문자열로 기록하는 SseEmitter, gate 가 있으면 열릴 때까지 쓰기를 멈춤 (느린 클라이언트)
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate;
+        private volatile boolean sending;
+        private volatile boolean completed;
+
+        private RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending = true;
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            StringBuilder frame = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                frame.append(data.getData());
+            }
+            frames.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.springbootdeveloper.markdown;
+
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownRendererTest {
+
+    MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @DisplayName("render : Markdown 을 HTML 로 바꾸고, 미리보기에는 Markdown 문법을 뺀 텍스트를 담는다.")
+    @Test
+    public void render() {
+        // when
+        RenderedContent rendered = renderer.render("# 제목\n\n**굵게** 와 [링크](https://example.com)\n\n- 하나\n- 둘");
+
+        // then
+        assertThat(rendered.getHtml())
+                .contains("<h1>제목</h1>")
+                .contains("<strong>굵게</strong>")
+                .contains("<a rel=\"nofollow\" href=\"https://example.com\">링크</a>")
+                .contains("<li>하나</li>");
+        assertThat(rendered.getExcerpt()).isEqualTo("제목 굵게 와 링크 하나 둘");
+    }
+
+    @DisplayName("render : 본문에 쓴 HTML 태그는 글자로 바꾸고, javascript: 같은 허용하지 않은 주소는 지운다.")
+    @Test
+    public void sanitize() {
+        // when
+        RenderedContent rendered = renderer.render("<script>alert(1)</script>\n\n[클릭](javascript:alert(1)) <img src=x onerror=alert(1)>");
+
+        // then
+        assertThat(rendered.getHtml())
+                .doesNotContain("<script", "<img", "javascript:")
+                .contains("&lt;script&gt;alert(1)&lt;/script&gt;");
+    }
+
+    @DisplayName("excerpt : 공백을 하나로 줄이고 EXCERPT_LENGTH 글자까지 자르며, 서로게이트 쌍 중간에서 자르지 않는다.")
+    @Test
+    public void excerpt() {
+        String longText = "가".repeat(ArticleSummary.EXCERPT_LENGTH - 1) + "😀끝";
+
+        assertThat(MarkdownRenderer.excerpt(" a \n\n b\tc ")).isEqualTo("a b c");
+        assertThat(MarkdownRenderer.excerpt(longText)).hasSize(ArticleSummary.EXCERPT_LENGTH - 1);
+        assertThat(MarkdownRenderer.excerpt("가".repeat(500))).hasSize(ArticleSummary.EXCERPT_LENGTH);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.springbootdeveloper.metrics;
+
+import org.example.springbootdeveloper.cache.ArticleCache;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 테스트에서는 기본적으로 메트릭 내보내기가 꺼져 있으므로 @AutoConfigureObservability 로 Prometheus 레지스트리를 켬
+// Prometheus 는 토큰 없이 스크레이프하므로 실제 서버를 띄우고 관리 포트(management.server.port=0, 빈 포트)로 인증 없이 조회되는지 확인함
+// 애플리케이션 포트로는 토큰 없이 조회할 수 없는지 스프링 시큐리티 필터 체인을 적용한 MockMvc 로 함께 확인함
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability
+class BlogMetricsTest {
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    QueryCountFilter queryCountFilter;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ArticleCache articleCache;
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @LocalManagementPort
+    int managementPort;
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .addFilters(queryCountFilter)
+                .build();
+        blogRepository.deleteAll();
+        articleCache.clear();
+    }
+
+    @DisplayName("prometheus : 관리 포트에서만 인증 없이 핸들러 / 서비스 타이머, 요청당 쿼리 수, Hibernate / Hikari / JVM 메트릭을 노출한다.")
+    @Test
+    public void prometheus() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+
+        mockMvc.perform(get("/api/articles/{id}", article.getId()))
+                .andExpect(status().isOk());
+
+        // when
+        ResponseEntity<String> scrape = restTemplate.getForEntity(
+                "http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+
+        // then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .contains("blog_method_seconds_count{application=\"springboot-developer\",class=\"BlogApiController\",exception=\"none\",method=\"findArticle\",}")
+                .contains("blog_method_seconds_bucket{application=\"springboot-developer\",class=\"BlogService\",exception=\"none\",method=\"findById\"")
+                .contains("blog_http_queries_count{application=\"springboot-developer\",method=\"GET\",uri=\"/api/articles/{id}\",}")
+                .contains("blog_cache_hits_total")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_cache_query_requests_total")
+                .contains("hikaricp_connections_active")
+                .contains("jvm_gc_overhead_percent")
+                .contains("jvm_gc_memory_allocated_bytes_total");
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.springbootdeveloper.reactive;
+
+import org.example.springbootdeveloper.config.jwt.TokenProvider;
+import org.example.springbootdeveloper.domain.User;
+import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리액티브 글 API 테스트 : MVC 애플리케이션과 같은 요청 / 응답 (BlogApiControllerTest 의 주요 시나리오)
+// 다른 테스트의 MVC 컨텍스트와 같은 H2 메모리 DB 를 쓰지 않도록 DB 이름을 따로 지정함
+
+@SpringBootTest(classes = ReactiveBlogApplication.class, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-api-test?options=DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles(ReactiveBlogApplication.PROFILE)
+@AutoConfigureWebTestClient
+class ReactiveArticleApiTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @Autowired
+    TokenProvider tokenProvider;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        databaseClient.sql("DELETE FROM article").then().block();
+        token = tokenProvider.generateAccessToken(User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build());
+    }
+
+    @DisplayName("addArticle : 토큰 없이 글을 추가하면 401, 토큰이 있으면 201 과 저장된 글을 반환한다.")
+    @Test
+    public void addArticle() {
+        // given
+        AddArticleRequest request = new AddArticleRequest("title", "content");
+
+        // when & then
+        webTestClient.post().uri("/api/articles")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.post().uri("/api/articles")
+                .headers(headers -> headers.setBearerAuth(token))
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNumber()
+                .jsonPath("$.title").isEqualTo("title")
+                .jsonPath("$.content").isEqualTo("content")
+                .jsonPath("$.version").isEqualTo(0);
+    }
+
+    @DisplayName("findAllArticles : 최신순으로 한 페이지씩 반환하고, 다음 페이지는 Link 헤더로, 바뀌지 않은 목록은 304 로 응답한다.")
+    @Test
+    public void findAllArticles() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            saveArticle("title " + i);
+        }
+
+        // when
+        WebTestClient.ResponseSpec first = webTestClient.get().uri("/api/articles?size=2")
+                .exchange();
+
+        // then
+        String eTag = first.expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.LINK, "<.*cursor=.*>; rel=\"next\"")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].title").isEqualTo("title 3")
+                .jsonPath("$[1].title").isEqualTo("title 2")
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get().uri("/api/articles?size=2")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        webTestClient.get().uri("/api/articles?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @DisplayName("streamArticles : NDJSON 을 요청하면 전체 글을 최신순으로 한 줄에 하나씩 보낸다.")
+    @Test
+    public void streamArticles() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            saveArticle("title " + i);
+        }
+
+        // when
+        List<Map> lines = webTestClient.get().uri("/api/articles")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Map.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // then
+        assertThat(lines).extracting(line -> line.get("title"))
+                .containsExactly("title 3", "title 2", "title 1");
+    }
+
+    @DisplayName("findArticle / updateArticle : ETag 로 304 를 응답하고, If-Match 의 버전이 다르면 412, 없는 글은 404 로 응답한다.")
+    @Test
+    public void findAndUpdateArticle() {
+        // given
+        long id = saveArticle("title");
+        String eTag = webTestClient.get().uri("/api/articles/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("title")
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get().uri("/api/articles/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // when : 조회할 때 받은 ETag 로 수정
+        String updatedETag = webTestClient.put().uri("/api/articles/{id}", id)
+                .headers(headers -> headers.setBearerAuth(token))
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .bodyValue(new UpdateArticleRequest("new title", "new content"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.version").isEqualTo(1)
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        // then : 이전 ETag 로 다시 수정하면 412
+        assertThat(updatedETag).isNotEqualTo(eTag);
+        webTestClient.put().uri("/api/articles/{id}", id)
+                .headers(headers -> headers.setBearerAuth(token))
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .bodyValue(new UpdateArticleRequest("stale", "stale"))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        webTestClient.delete().uri("/api/articles/{id}", id)
+                .headers(headers -> headers.setBearerAuth(token))
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/api/articles/{id}", id)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private long saveArticle(String title) {
+        Number id = webTestClient.post().uri("/api/articles")
+                .headers(headers -> headers.setBearerAuth(token))
+                .bodyValue(new AddArticleRequest(title, "content"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody()
+                .get("id") instanceof Number number ? number : null;
+
+        assertThat(id).isNotNull();
+        return id.longValue();
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.springbootdeveloper.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.SpringBootDeveloperApplication;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 부하 테스트 : MVC (톰캣 + JPA) 와 리액티브 (Netty + R2DBC) 글 목록 API 비교, ./gradlew loadTest 로만 실행됨
+// 두 애플리케이션을 같은 H2 메모리 DB 로 띄우고 (설정은 application.yml 보다 우선하도록 명령행 인자로 전달), 같은 수의 클라이언트가 쉬지 않고 GET /api/articles?size=20 을 보내며
+// 처리량 / p50 / p99 와 요청을 처리한 서버 스레드 수(톰캣 작업 스레드 / Netty 이벤트 루프)를 로그로 남김
+// 동시 요청 수와 측정 시간은 -Dload.concurrency, -Dload.duration-seconds 로 바꿀 수 있음
+
+@Slf4j
+@Tag("load")
+class ReactiveLoadComparisonTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 500);
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("load.warm-up-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 20));
+    private static final int ARTICLES = 1000;
+
+    private static ConfigurableApplicationContext mvc;
+    private static ConfigurableApplicationContext reactive;
+
+    @BeforeAll
+    static void startApplications() {
+        // MVC 애플리케이션이 먼저 테이블을 만들고, 리액티브 애플리케이션은 같은 DB 의 테이블을 그대로 사용함
+        mvc = new SpringApplicationBuilder(SpringBootDeveloperApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-comparison;DB_CLOSE_DELAY=-1",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "--blog.cache.enabled=false");  // 리액티브 애플리케이션처럼 매 요청이 DB 를 조회하도록 캐시를 끔
+        reactive = new SpringApplicationBuilder(ReactiveBlogApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(ReactiveBlogApplication.PROFILE)
+                .run("--server.port=0",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///load-comparison?options=DB_CLOSE_DELAY=-1",
+                        "--spring.sql.init.mode=never");
+
+        List<Article> articles = IntStream.range(0, ARTICLES)
+                .mapToObj(i -> Article.builder()
+                        .title("title " + i)
+                        .content("content ".repeat(20))
+                        .build())
+                .toList();
+        mvc.getBean(BlogRepository.class).saveAll(articles);
+    }
+
+    @AfterAll
+    static void stopApplications() {
+        if (reactive != null) {
+            reactive.close();
+        }
+        if (mvc != null) {
+            mvc.close();
+        }
+    }
+
+    @DisplayName("findAllArticles : 같은 부하에서 MVC 와 리액티브 스택의 처리량 / p99 지연 시간 / 서버 스레드 수를 비교한다.")
+    @Test
+    public void compareUnderLoad() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        Result mvcResult = run(client, port(mvc), "http-nio-");
+        Result reactiveResult = run(client, port(reactive), "reactor-http-");
+
+        log(mvcResult, "mvc (tomcat + jpa)");
+        log(reactiveResult, "reactive (netty + r2dbc)");
+
+        assertThat(mvcResult.errors).isZero();
+        assertThat(reactiveResult.errors).isZero();
+        // 리액티브 스택은 동시 요청 수와 무관하게 이벤트 루프 스레드(CPU 수)만 사용함
+        assertThat(reactiveResult.serverThreads).isLessThanOrEqualTo(Math.max(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    // CONCURRENCY 개의 클라이언트 스레드가 쉬지 않고 요청을 보내고, 예열 시간 이후의 응답 시간만 기록함
+    // 측정이 끝날 때 이름이 serverThreadPrefix 로 시작하는 스레드 수를 세어 요청 처리에 사용한 서버 스레드 수로 기록함
+    private Result run(HttpClient client, int port, String serverThreadPrefix) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/articles?size=20"))
+                .header("Accept", "application/json")
+                .build();
+
+        long measureFrom = System.nanoTime() + WARM_UP.toNanos();
+        long measureUntil = measureFrom + DURATION.toNanos();
+        AtomicLong errors = new AtomicLong();
+        AtomicInteger peakServerThreads = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+
+                long now = System.nanoTime();
+                while (now < measureUntil) {
+                    long start = now;
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    now = System.nanoTime();
+
+                    if (start >= measureFrom) {
+                        if (status != 200) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = now - start;
+                    }
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        // 부하가 걸려 있는 동안 서버 스레드 수를 주기적으로 확인
+        while (System.nanoTime() < measureUntil) {
+            peakServerThreads.accumulateAndGet(countThreads(serverThreadPrefix), Math::max);
+            Thread.sleep(500);
+        }
+
+        List<long[]> perClient = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            perClient.add(future.get());
+        }
+        clients.shutdown();
+
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, errors.get(), peakServerThreads.get());
+    }
+
+    private static int countThreads(String prefix) {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(prefix))
+                .count();
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    private static void log(Result result, String stack) {
+        log.info("[{}] concurrency={} requests={} errors={} throughput={} req/s p50={} ms p99={} ms max={} ms server-threads={}",
+                stack, CONCURRENCY, result.latencies.length, result.errors,
+                String.format("%.0f", result.latencies.length / (double) DURATION.toSeconds()),
+                millis(result.percentile(50)), millis(result.percentile(99)), millis(result.percentile(100)), result.serverThreads);
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    private static final class Result {
+
+        private final long[] latencies;  // 정렬된 응답 시간 (ns)
+        private final long errors;
+        private final int serverThreads;  // 측정 중 가장 많았던 요청 처리 스레드 수
+
+        private Result(long[] latencies, long errors, int serverThreads) {
+            this.latencies = latencies;
+            this.errors = errors;
+            this.serverThreads = serverThreads;
+        }
+
+        private long percentile(int percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(index, 0)];
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.springbootdeveloper.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.domain.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class ArticleSearchIndexTest {
+
+    @DisplayName("HangulTokenizer : 한글은 2글자씩 겹쳐 자르고, 그 외 단어는 소문자로 통째로 사용한다.")
+    @Test
+    public void tokenize() {
+        assertThat(HangulTokenizer.tokenize("Spring 블로그를, 글 3개!"))
+                .containsExactly("spring", "블로", "로그", "그를", "글", "3", "개");
+    }
+
+    @DisplayName("search : 검색어와 관련이 높은 글부터 반환하고, 수정 / 삭제된 글은 반영된다.")
+    @Test
+    public void searchRanksAndFollowsUpdates() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(article(1L, "스프링 부트", "스프링 부트로 블로그를 만들어 봅시다"));
+        index.index(article(2L, "자바", "자바 기초 문법 정리"));
+        index.index(article(3L, "블로그 운영기", "블로그 블로그 블로그 글쓰기"));
+
+        // when & then
+        // "블로그" 가 더 많이 나오는 3번 글이 먼저
+        assertThat(index.search("블로그", 10)).extracting(SearchHit::getArticleId).containsExactly(3L, 1L);
+        assertThat(index.search("파이썬", 10)).isEmpty();
+
+        // 수정하면 이전 내용으로는 검색되지 않음
+        index.index(article(2L, "파이썬", "파이썬 기초 문법 정리"));
+        assertThat(index.search("자바", 10)).isEmpty();
+        assertThat(index.search("파이썬", 10)).extracting(SearchHit::getArticleId).containsExactly(2L);
+
+        // 삭제하면 검색되지 않음
+        index.remove(3L);
+        assertThat(index.search("블로그", 10)).extracting(SearchHit::getArticleId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @DisplayName("search : 삭제된 문서가 쌓여 색인을 정리한 뒤에도 결과가 같다.")
+    @Test
+    public void searchAfterCompaction() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(article(1L, "남는 글", "정리 후에도 남아 있어야 함"));
+
+        // when
+        // 같은 글을 여러 번 수정하면 이전 문서 번호가 삭제 표시로 쌓이고, 일정 수를 넘으면 정리됨
+        for (int i = 0; i < 3000; i++) {
+            index.index(article(2L, "수정 " + i, "반복 수정되는 글"));
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("남아", 10)).extracting(SearchHit::getArticleId).containsExactly(1L);
+        assertThat(index.search("반복", 10)).extracting(SearchHit::getArticleId).containsExactly(2L);
+    }
+
+    @DisplayName("search : 글 20만 개에서도 검색 시간이 수 밀리초 수준이다.")
+    @Test
+    public void searchLatencyAtScale() {
+        // given
+        // 자주 쓰는 음절로 만든 임의의 한글 글 (실제 글처럼 흔한 토큰의 포스팅 목록이 길어짐)
+        final int articles = 200_000;
+        String syllables = "가나다라마바사아자차카타파하고노도로모보소오조초코토포호구누두루무부수우주추";
+        Random random = new Random(42);
+
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.rebuild(IntStream.range(0, articles)
+                .mapToObj(i -> article((long) i, word(random, syllables, 3), sentence(random, syllables))));
+
+        // when
+        String[] queries = {"가나다", "바사 아자", "하고노도", "스프링", "주추 구누"};
+        for (int i = 0; i < 20; i++) {  // 예열
+            index.search(queries[i % queries.length], 10);
+        }
+
+        int runs = 100;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            index.search(queries[i % queries.length], 10);
+        }
+        double averageMillis = (System.nanoTime() - start) / 1_000_000.0 / runs;
+
+        // then
+        log.info("search over {} articles : {} ms / query", articles, String.format("%.3f", averageMillis));
+        assertThat(index.size()).isEqualTo(articles);
+        assertThat(averageMillis).isLessThan(50);  // 공유 CI 환경을 고려한 넉넉한 상한
+    }
+
+    private static String sentence(Random random, String syllables) {
+        return String.join(" ", Stream.generate(() -> word(random, syllables, 2 + random.nextInt(3))).limit(20).toList());
+    }
+
+    private static String word(Random random, String syllables, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append(syllables.charAt(random.nextInt(syllables.length())));
+        }
+        return word.toString();
+    }
+
+    private static Article article(Long id, String title, String content) {
+        Article article = Article.builder()
+                .title(title)
+                .content(content)
+                .build();
+        ReflectionTestUtils.setField(article, "id", id);  // 저장하지 않은 엔티티에 id 를 직접 지정
+        return article;
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.springbootdeveloper.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.metrics.QueryCounter;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 글 한 번에 조회 테스트
+// IN 쿼리가 나뉘는 것을 확인하기 위해 chunk-size 를 2로 줄이고, 애플리케이션 캐시는 끔
+
+@SpringBootTest(properties = {"blog.cache.enabled=false", "blog.multi-get.chunk-size=2"})
+class ArticleBatchLoaderTest {
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    @DisplayName("findAllById : 2차 캐시에 없는 글을 chunk-size 개씩 IN 쿼리로 읽고, 없는 글은 결과에서 뺀다.")
+    @Test
+    public void findAllByIdInChunks() {
+        // given
+        blogRepository.deleteAll();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(blogRepository.save(Article.builder()
+                    .title("title " + i)
+                    .content("content")
+                    .build()).getId());
+        }
+        ids.add(-1L);  // 없는 글
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        queryCounter.start();
+        Map<Long, Article> found = blogService.findAllById(ids);
+        int queries = queryCounter.stop();
+
+        // then : 6개 id -> 2 + 2 + 2 개씩 3번
+        assertThat(queries).isEqualTo(3);
+        assertThat(found).hasSize(5).doesNotContainKey(-1L);
+        assertThat(found.get(ids.get(4)).getTitle()).isEqualTo("title 4");
+
+        // 다시 조회하면 있는 글은 2차 캐시에서 읽고, 없는 글의 id 만 DB 에서 다시 확인함
+        queryCounter.start();
+        assertThat(blogService.findAllById(ids)).hasSize(5);
+        assertThat(queryCounter.stop()).isEqualTo(1);
+    }
+
+    @DisplayName("load : 다른 요청이 읽고 있는 id 는 다시 조회하지 않고 그 결과를 함께 사용한다.")
+    @Test
+    public void coalesceInFlightLoads() throws Exception {
+        // given : 첫 조회는 latch 가 열릴 때까지 멈춤
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<Long>> queried = new CopyOnWriteArrayList<>();
+
+        ArticleBatchLoader loader = new ArticleBatchLoader(ids -> {
+            queried.add(List.copyOf(ids));
+            if (queried.size() == 1) {
+                started.countDown();
+                await(release);
+            }
+            return ids.stream().map(id -> id == 3L ? null : article(id)).toList();  // 3번 글은 없음
+        });
+
+        // when
+        CompletableFuture<Map<Long, Article>> first = CompletableFuture.supplyAsync(() -> loader.load(List.of(1L, 2L, 3L)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Map<Long, Article>> second = CompletableFuture.supplyAsync(() -> loader.load(List.of(2L, 3L, 4L)));
+
+        // 두 번째 요청은 4번만 읽고, 2 / 3번은 첫 요청의 결과를 기다림
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsOnlyKeys(1L, 2L);
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsOnlyKeys(2L, 4L);
+        assertThat(queried).containsExactlyInAnyOrder(List.of(1L, 2L, 3L), List.of(4L));
+    }
+
+    private static Article article(long id) {
+        Article article = Article.builder()
+                .title("title " + id)
+                .content("content")
+                .build();
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.springbootdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.BulkImportResponse;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 부하 테스트 : ./gradlew loadTest 로만 실행됨 (일반 test 에서는 제외)
+// 실행 시간을 비교하므로 다른 작업과 함께 돌면 결과가 흔들릴 수 있음 -> 기능 확인은 ArticleImportServiceTest 에서 함
+// 저장할 글 수는 -Dload.import-rows 로 바꿀 수 있음
+
+@Slf4j
+@Tag("load")
+@SpringBootTest(properties = {
+        // 로그 출력 시간이 측정에 섞이지 않도록 SQL 로그를 끔
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false"
+})
+class ArticleImportLoadTest {
+
+    private static final int ROWS = Integer.getInteger("load.import-rows", 2000);
+
+    @Autowired
+    ArticleImportService articleImportService;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @BeforeEach
+    public void setUp() {
+        blogRepository.deleteAll();
+    }
+
+    @DisplayName("importArticles : 묶음(JDBC 배치) 저장이 한 건씩 저장하는 것보다 빠르다.")
+    @Test
+    public void bulkImportIsFasterThanSingleInserts() {
+        // given
+        List<AddArticleRequest> requests = IntStream.range(0, ROWS)
+                .mapToObj(i -> new AddArticleRequest("title " + i, "content " + i))
+                .toList();
+
+        // JIT / 커넥션 풀 예열 (측정에서 제외)
+        int warmUp = Math.min(200, ROWS);
+        articleImportService.importArticles(requests.subList(0, warmUp).iterator());
+        requests.subList(0, warmUp).forEach(blogService::save);
+        blogRepository.deleteAll();
+
+        // when
+        long singleStart = System.nanoTime();
+        requests.forEach(blogService::save);  // 기존 경로 : 한 건마다 트랜잭션 하나, INSERT 하나
+        long singleNanos = System.nanoTime() - singleStart;
+        blogRepository.deleteAll();
+
+        long bulkStart = System.nanoTime();
+        BulkImportResponse response = articleImportService.importArticles(requests.iterator());
+        long bulkNanos = System.nanoTime() - bulkStart;
+
+        // then
+        log.info("single insert : {} rows/s, bulk import : {} rows/s",
+                rowsPerSecond(singleNanos), rowsPerSecond(bulkNanos));
+
+        assertThat(response.getImported()).isEqualTo(ROWS);
+        assertThat(bulkNanos).isLessThan(singleNanos);
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return ROWS * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.springbootdeveloper.service;
+
+import org.example.springbootdeveloper.dto.AddArticleRequest;
+import org.example.springbootdeveloper.dto.BulkImportResponse;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 묶음 저장과 한 건씩 저장하는 경로의 속도 비교는 ArticleImportLoadTest (./gradlew loadTest) 에서 함
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false"
+})
+class ArticleImportServiceTest {
+
+    private static final int ROWS = 2000;
+
+    @Autowired
+    ArticleImportService articleImportService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @BeforeEach
+    public void setUp() {
+        blogRepository.deleteAll();
+    }
+
+    @DisplayName("importArticles : 여러 묶음(JDBC 배치)으로 나눠 모든 글을 저장한다.")
+    @Test
+    public void importArticles() {
+        // given
+        List<AddArticleRequest> requests = IntStream.range(0, ROWS)
+                .mapToObj(i -> new AddArticleRequest("title " + i, "content " + i))
+                .toList();
+
+        // when
+        BulkImportResponse response = articleImportService.importArticles(requests.iterator());
+
+        // then
+        assertThat(response.getReceived()).isEqualTo(ROWS);
+        assertThat(response.getImported()).isEqualTo(ROWS);
+        assertThat(response.getFailed()).isZero();
+        assertThat(blogRepository.count()).isEqualTo(ROWS);
+    }
+}
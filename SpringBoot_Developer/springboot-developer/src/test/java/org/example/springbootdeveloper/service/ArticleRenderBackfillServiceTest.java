@@ -0,0 +1,110 @@
+package org.example.springbootdeveloper.service;
+
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 렌더링 결과 채우기 테스트
+// 시작할 때 자동으로 실행되지 않도록 끄고, 여러 chunk 로 나뉘도록 chunk-size 를 2로 줄임
+
+@SpringBootTest(properties = {
+        "blog.render.backfill.enabled=false",
+        "blog.render.backfill.chunk-size=2",
+        "blog.render.backfill.pause=0ms"
+})
+class ArticleRenderBackfillServiceTest {
+
+    @Autowired
+    ArticleRenderBackfillService backfillService;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    WebApplicationContext context;
+
+    @DisplayName("backfill : 렌더링 결과가 없는 글을 chunk 단위로 모두 채우고, 이미 채운 글은 다시 바꾸지 않는다.")
+    @Test
+    public void backfill() {
+        // given
+        List<Long> ids = saveUnrendered();
+        Long version = blogRepository.findById(ids.get(0)).orElseThrow().getVersion();
+        assertThat(blogRepository.findById(ids.get(0)).orElseThrow().getContentHtml()).isNull();
+
+        // when
+        int rendered = backfillService.backfill();
+
+        // then
+        assertThat(rendered).isEqualTo(5);
+        Article article = blogService.findById(ids.get(0));
+        assertThat(article.getContentHtml()).isEqualTo("<p><strong>본문</strong> 0</p>\n");
+        assertThat(article.getVersion()).isEqualTo(version + 1);
+        assertThat(blogRepository.findLatest(PageRequest.of(0, 5)))
+                .extracting(ArticleSummary::getExcerpt)
+                .containsExactly("본문 4", "본문 3", "본문 2", "본문 1", "본문 0");
+
+        assertThat(backfillService.backfill()).isZero();
+    }
+
+    @DisplayName("backfill : 채우기 전에 받은 글 / 목록 ETag 로 조건부 조회하면 304 가 아닌 새 응답을 받는다.")
+    @Test
+    public void backfillChangesValidators() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        List<Long> ids = saveUnrendered();
+        String articleUrl = "/api/articles/" + ids.get(0);
+
+        String articleETag = mockMvc.perform(get(articleUrl))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String lastModified = mockMvc.perform(get(articleUrl))
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        String listETag = mockMvc.perform(get("/api/articles"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(articleUrl).header(HttpHeaders.IF_NONE_MATCH, articleETag))
+                .andExpect(status().isNotModified());
+
+        // when
+        Thread.sleep(1_000);  // Last-Modified 는 초 단위
+        backfillService.backfill();
+
+        // then
+        mockMvc.perform(get(articleUrl).header(HttpHeaders.IF_NONE_MATCH, articleETag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(articleUrl).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/articles").header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(status().isOk());
+    }
+
+    // 리포지토리로 바로 저장한 글은 렌더링 결과가 없음 (렌더링 컬럼이 생기기 전에 저장된 글)
+    private List<Long> saveUnrendered() {
+        blogRepository.deleteAll();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(blogRepository.save(Article.builder()
+                    .title("title " + i)
+                    .content("**본문** " + i)
+                    .build()).getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.springbootdeveloper.service;
+
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.MostViewedArticleResponse;
+import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 주기적 반영이 테스트 중간에 끼어들지 않도록 반영 주기를 길게 잡고 flush() 를 직접 호출함
+@SpringBootTest(properties = "blog.views.flush-interval=PT1H")
+class ArticleViewServiceTest {
+
+    @Autowired
+    ArticleViewService articleViewService;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        articleViewService.flush();  // 다른 테스트에서 남은 조회 수를 먼저 반영
+        blogRepository.deleteAll();
+    }
+
+    @DisplayName("increment / flush : 여러 스레드의 조회 수를 빠짐없이 세고, 한 번의 배치로 DB 에 더한다.")
+    @Test
+    public void countsConcurrentViewsAndFlushes() throws Exception {
+        // given
+        Article first = save("first");
+        Article second = save("second");
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    articleViewService.increment(first.getId());
+                    if (i % 2 == 0) {
+                        articleViewService.increment(second.getId());
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        // DB 에 반영하기 전에도 순위는 메모리의 조회 수로 계산됨
+        assertThat(views(first)).isZero();
+        assertThat(articleViewService.mostViewed(10))
+                .extracting(MostViewedArticleResponse::getTitle, MostViewedArticleResponse::getViews)
+                .containsExactly(
+                        tuple("first", 8000L),
+                        tuple("second", 4000L));
+
+        assertThat(articleViewService.flush()).isEqualTo(2);
+        assertThat(views(first)).isEqualTo(8000);
+        assertThat(views(second)).isEqualTo(4000);
+
+        // 반영한 뒤의 조회 수만 다음 반영에 더해짐
+        assertThat(articleViewService.flush()).isZero();
+        articleViewService.increment(first.getId());
+        articleViewService.flush();
+        assertThat(views(first)).isEqualTo(8001);
+        assertThat(articleViewService.views(first.getId())).isEqualTo(8001);
+    }
+
+    @DisplayName("update : 글을 수정해도 DB 에 반영된 조회 수를 덮어쓰지 않는다.")
+    @Test
+    public void updateKeepsViews() {
+        // given
+        Article article = save("title");
+        articleViewService.increment(article.getId());
+        articleViewService.increment(article.getId());
+        articleViewService.flush();
+
+        // when
+        blogService.update(article.getId(), new UpdateArticleRequest("new title", "new content"));
+
+        // then
+        assertThat(views(article)).isEqualTo(2);
+    }
+
+    private Article save(String title) {
+        return blogRepository.save(Article.builder()
+                .title(title)
+                .content("content")
+                .build());
+    }
+
+    private long views(Article article) {
+        return jdbcTemplate.queryForObject("select views from article where id = ?", Long.class, article.getId());
+    }
+}
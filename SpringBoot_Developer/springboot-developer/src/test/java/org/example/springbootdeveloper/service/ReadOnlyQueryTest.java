@@ -0,0 +1,151 @@
+package org.example.springbootdeveloper.service;
+
+import com.sun.management.ThreadMXBean;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.metrics.QueryCounter;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 읽기 전용 조회 테스트 : 글 10,000 개를 엔티티로 읽을 때
+// - BlogService.findAll() (읽기 전용 트랜잭션 + read-only / fetch size 힌트)
+// - 힌트 없는 같은 쿼리를 쓰기 트랜잭션에서 실행 (스냅샷을 만들고 커밋할 때 변경 감지)
+// 을 비교해서 쿼리 수 / flush 수 / 현재 스레드가 할당한 바이트 수를 셈
+
+@Slf4j
+@SpringBootTest(properties = "blog.cache.enabled=false")
+class ReadOnlyQueryTest {
+
+    private static final int ARTICLES = 10_000;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        blogRepository.deleteAllInBatch();
+        List<Article> articles = new ArrayList<>(ARTICLES);
+        for (int i = 0; i < ARTICLES; i++) {
+            articles.add(Article.builder()
+                    .title("title " + i)
+                    .content("content " + i)
+                    .build());
+        }
+        blogRepository.saveAll(articles);
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        blogRepository.deleteAllInBatch();  // 다른 테스트의 deleteAll() 이 10,000 개를 한 건씩 지우지 않도록 한 번에 지움
+    }
+
+    @DisplayName("findAll : 읽기 전용 세션에서 한 번의 쿼리로 읽고, 스냅샷 / flush 없이 쓰기 트랜잭션보다 적게 할당한다.")
+    @Test
+    public void findAllReadOnly() {
+        // 읽기 전용 트랜잭션 안에서는 세션이 read-only / FlushMode.MANUAL, 읽은 엔티티도 read-only
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            List<Article> articles = blogRepository.findAll();
+
+            assertThat(session.isDefaultReadOnly()).isTrue();
+            assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.MANUAL);
+            assertThat(session.isReadOnly(articles.get(0))).isTrue();
+        });
+
+        TransactionTemplate writable = new TransactionTemplate(transactionManager);
+        Supplier<List<Article>> plain = () -> writable.execute(status ->
+                entityManager.createQuery("select a from Article a", Article.class).getResultList());
+
+        // JIT / 클래스 로딩 영향을 줄이기 위해 먼저 몇 번 실행
+        for (int i = 0; i < 3; i++) {
+            blogService.findAll();
+            plain.get();
+        }
+
+        Measurement tuned = measure(blogService::findAll);
+        Measurement baseline = measure(plain);
+        log.info("findAll of {} articles : read-only {} , writable {}", ARTICLES, tuned, baseline);
+
+        assertThat(tuned.rows).isEqualTo(ARTICLES);
+        assertThat(baseline.rows).isEqualTo(ARTICLES);
+        assertThat(tuned.queries).isEqualTo(1);
+        assertThat(baseline.queries).isEqualTo(1);
+        assertThat(tuned.flushes).isZero();  // FlushMode.MANUAL : 커밋할 때 변경 감지를 하지 않음
+        assertThat(baseline.flushes).isEqualTo(1);
+        assertThat(tuned.allocatedBytes).isLessThan(baseline.allocatedBytes);
+    }
+
+    private Measurement measure(Supplier<List<Article>> action) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long flushes = statistics.getFlushCount();
+
+        queryCounter.start();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        int rows = action.get().size();
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        int queries = queryCounter.stop();
+
+        return new Measurement(rows, queries, statistics.getFlushCount() - flushes, allocated);
+    }
+
+    private static final class Measurement {
+        private final int rows;
+        private final int queries;
+        private final long flushes;
+        private final long allocatedBytes;
+
+        private Measurement(int rows, int queries, long flushes, long allocatedBytes) {
+            this.rows = rows;
+            this.queries = queries;
+            this.flushes = flushes;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("(%d rows, %d queries, %d flushes, %,d bytes allocated)", rows, queries, flushes, allocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.springbootdeveloper.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.springbootdeveloper.domain.Article;
+import org.example.springbootdeveloper.dto.ArticleListVersion;
+import org.example.springbootdeveloper.dto.ArticleSummary;
+import org.example.springbootdeveloper.dto.CursorPage;
+import org.example.springbootdeveloper.dto.UpdateArticleRequest;
+import org.example.springbootdeveloper.metrics.QueryCounter;
+import org.example.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Hibernate 2차 캐시 / 쿼리 캐시 테스트
+// 애플리케이션 캐시(ArticleCache)를 끄고, QueryCounter 로 실제로 실행된 SQL 수를 셈
+
+@SpringBootTest(properties = "blog.cache.enabled=false")
+class SecondLevelCacheTest {
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    Article article;
+
+    @BeforeEach
+    public void setUp() {
+        blogRepository.deleteAll();
+        article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @DisplayName("findById : 처음 조회만 DB 를 읽고, 이후 조회는 2차 캐시에서 읽는다. 수정 / 삭제가 바로 반영된다.")
+    @Test
+    public void findById() {
+        long id = article.getId();
+
+        // 처음 조회 : DB
+        assertThat(countQueries(() -> blogService.findById(id))).isEqualTo(1);
+        // 다시 조회 : 2차 캐시
+        assertThat(countQueries(() -> blogService.findById(id))).isZero();
+
+        // 수정하면 커밋 후 캐시가 새 값으로 바뀜
+        blogService.update(id, new UpdateArticleRequest("new title", "new content"));
+        int[] queries = new int[1];
+        Article updated = counting(queries, () -> blogService.findById(id));
+        assertThat(queries[0]).isZero();
+        assertThat(updated.getTitle()).isEqualTo("new title");
+
+        // 삭제하면 캐시에서도 제거됨
+        blogService.delete(id);
+        assertThatThrownBy(() -> blogService.findById(id))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("findPage / findListVersion : 같은 쿼리는 쿼리 캐시에서 읽고, 글이 추가 / 수정되면 다시 DB 를 읽는다.")
+    @Test
+    public void listQueries() {
+        // 처음 조회 : DB
+        assertThat(countQueries(() -> blogService.findPage(null, 5))).isEqualTo(1);
+        assertThat(countQueries(() -> blogService.findListVersion())).isEqualTo(1);
+
+        // 다시 조회 : 쿼리 캐시
+        int[] queries = new int[1];
+        CursorPage<ArticleSummary> page = counting(queries, () -> blogService.findPage(null, 5));
+        ArticleListVersion version = counting(queries, () -> blogService.findListVersion());
+        assertThat(queries[0]).isZero();
+        assertThat(page.getContent()).extracting(ArticleSummary::getTitle).containsExactly("title");
+        assertThat(version.getCount()).isEqualTo(1);
+
+        // 글을 수정하면 Article 테이블을 읽은 쿼리 결과는 무효화됨
+        blogService.update(article.getId(), new UpdateArticleRequest("new title", "new content"));
+        queries[0] = 0;
+        page = counting(queries, () -> blogService.findPage(null, 5));
+        assertThat(queries[0]).isEqualTo(1);
+        assertThat(page.getContent()).extracting(ArticleSummary::getTitle).containsExactly("new title");
+    }
+
+    private int countQueries(Runnable action) {
+        int[] queries = new int[1];
+        counting(queries, () -> {
+            action.run();
+            return null;
+        });
+        return queries[0];
+    }
+
+    private <T> T counting(int[] queries, Supplier<T> action) {
+        queryCounter.start();
+        try {
+            return action.get();
+        } finally {
+            queries[0] += queryCounter.stop();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.springbootdeveloper.service;
+
+import org.example.springbootdeveloper.cache.UserDetailsCache;
+import org.example.springbootdeveloper.domain.User;
+import org.example.springbootdeveloper.metrics.QueryCounter;
+import org.example.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class UserDetailServiceTest {
+
+    @Autowired
+    UserDetailService userDetailService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserDetailsCache userDetailsCache;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        userDetailsCache.clear();
+    }
+
+    @DisplayName("loadUserByUsername : 처음 한 번만 DB 를 조회하고, 이후에는 캐시에서 사용자를 반환한다.")
+    @Test
+    public void loadUserByUsernameFromCache() {
+        // given
+        userRepository.save(User.builder()
+                .email("user@example.com")
+                .password("password")
+                .build());
+
+        // when
+        queryCounter.start();
+        UserDetails first = userDetailService.loadUserByUsername("user@example.com");
+        int firstQueries = queryCounter.stop();
+
+        queryCounter.start();
+        UserDetails second = userDetailService.loadUserByUsername("user@example.com");
+        int secondQueries = queryCounter.stop();
+
+        // then
+        assertThat(first.getUsername()).isEqualTo("user@example.com");
+        assertThat(first.getPassword()).isEqualTo("password");
+        assertThat(firstQueries).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(secondQueries).isZero();
+    }
+
+    @DisplayName("loadUserByUsername : 없는 사용자는 UsernameNotFoundException 예외가 발생하고, 삭제된 사용자는 캐시에서도 제거된다.")
+    @Test
+    public void loadUserByUsernameNotFound() {
+        // given
+        User user = userRepository.save(User.builder()
+                .email("user@example.com")
+                .password("password")
+                .build());
+        userDetailService.loadUserByUsername("user@example.com");
+
+        // when
+        userRepository.delete(user);
+
+        // then
+        assertThat(userDetailsCache.getUserFromCache("user@example.com")).isNull();
+        assertThatThrownBy(() -> userDetailService.loadUserByUsername("user@example.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userDetailService.loadUserByUsername("nobody@example.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.springbootdeveloper.tag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 압축 비트맵 테스트 : 같은 값을 넣은 TreeSet 과 결과를 비교함
+// 묶음(65536 개) 하나에 4096 개보다 많이 / 적게 넣어 배열 <-> 비트맵 전환을 함께 확인함
+
+class RoaringBitmapTest {
+
+    @DisplayName("add / remove : 값이 많아지면 비트맵, 적어지면 배열로 바뀌어도 같은 집합을 유지한다.")
+    @Test
+    public void addAndRemove() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        for (long value = 0; value < 10_000; value++) {
+            assertThat(bitmap.add(value * 3)).isTrue();  // 첫 묶음에 약 21845 개 중 10000 개 -> 비트맵
+        }
+        assertThat(bitmap.add(3)).isFalse();
+        assertThat(bitmap.add(RoaringBitmap.MAX_VALUE)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(10_001);
+        assertThat(bitmap.contains(29_997)).isTrue();
+        assertThat(bitmap.contains(29_998)).isFalse();
+
+        for (long value = 0; value < 9_000; value++) {
+            assertThat(bitmap.remove(value * 3)).isTrue();  // 1000 개만 남음 -> 배열
+        }
+        assertThat(bitmap.remove(0)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(1_001);
+        assertThat(bitmap.contains(27_000)).isTrue();
+        assertThat(bitmap.contains(26_997)).isFalse();
+        assertThat(bitmap.descending(Long.MAX_VALUE, 3)).containsExactly(RoaringBitmap.MAX_VALUE, 29_997, 29_994);
+
+        assertThatThrownBy(() -> bitmap.add(RoaringBitmap.MAX_VALUE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("and / or / descending / ascending : TreeSet 으로 계산한 결과와 같다.")
+    @Test
+    public void matchesTreeSet() {
+        Random random = new Random(42);
+        RoaringBitmap dense = new RoaringBitmap();
+        RoaringBitmap sparse = new RoaringBitmap();
+        NavigableSet<Long> denseSet = new TreeSet<>();
+        NavigableSet<Long> sparseSet = new TreeSet<>();
+
+        // dense : 앞쪽 묶음 2개에 많이 (비트맵), sparse : 여러 묶음에 드문드문 (배열)
+        for (int i = 0; i < 50_000; i++) {
+            long value = random.nextInt(1 << 17);
+            dense.add(value);
+            denseSet.add(value);
+        }
+        for (int i = 0; i < 3_000; i++) {
+            long value = random.nextInt(1 << 20);
+            sparse.add(value);
+            sparseSet.add(value);
+        }
+
+        NavigableSet<Long> intersection = new TreeSet<>(denseSet);
+        intersection.retainAll(sparseSet);
+        NavigableSet<Long> union = new TreeSet<>(denseSet);
+        union.addAll(sparseSet);
+
+        RoaringBitmap and = RoaringBitmap.and(dense, sparse);
+        RoaringBitmap or = RoaringBitmap.or(dense, sparse);
+
+        assertThat(and.cardinality()).isEqualTo(intersection.size());
+        assertThat(and.ascending(0, Integer.MAX_VALUE)).containsExactly(toArray(intersection));
+        assertThat(RoaringBitmap.and(dense, dense).cardinality()).isEqualTo(denseSet.size());
+        assertThat(or.cardinality()).isEqualTo(union.size());
+        assertThat(or.descending(Long.MAX_VALUE, Integer.MAX_VALUE)).containsExactly(toArray(union.descendingSet()));
+
+        // 중간 값부터 양쪽 방향으로 한 페이지씩
+        long from = 70_000;
+        assertThat(or.descending(from, 50)).containsExactly(toArray(union.headSet(from, true).descendingSet(), 50));
+        assertThat(or.ascending(from, 50)).containsExactly(toArray(union.tailSet(from, true), 50));
+
+        // 결과 비트맵을 바꿔도 입력은 바뀌지 않음
+        or.add(RoaringBitmap.MAX_VALUE);
+        assertThat(sparse.contains(RoaringBitmap.MAX_VALUE)).isFalse();
+        assertThat(dense.contains(RoaringBitmap.MAX_VALUE)).isFalse();
+    }
+
+    private static long[] toArray(NavigableSet<Long> values) {
+        return toArray(values, Integer.MAX_VALUE);
+    }
+
+    private static long[] toArray(NavigableSet<Long> values, int limit) {
+        return values.stream()
+                .limit(limit)
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}